@@ -0,0 +1,273 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.norm4j.metadata.ColumnMetadata;
+import org.norm4j.metadata.TableMetadata;
+
+class ChangeTracker {
+    private static final Object[] REMOVED = new Object[0];
+
+    private final Map<RecordReference, Object[]> snapshots;
+    private final Map<Connection, Map<RecordReference, Object[]>> transactions;
+    private final ReferenceQueue<Object> queue;
+
+    ChangeTracker() {
+        snapshots = new HashMap<>();
+
+        transactions = new IdentityHashMap<>();
+
+        queue = new ReferenceQueue<>();
+    }
+
+    synchronized int size() {
+        expunge();
+
+        return snapshots.size();
+    }
+
+    synchronized void begin(Connection connection) {
+        transactions.put(connection, new HashMap<>());
+    }
+
+    synchronized void commit(Connection connection) {
+        Map<RecordReference, Object[]> pending;
+
+        pending = transactions.get(connection);
+
+        if (pending == null) {
+            return;
+        }
+
+        expunge();
+
+        for (Map.Entry<RecordReference, Object[]> entry : pending.entrySet()) {
+            Object record;
+
+            record = entry.getKey().get();
+
+            if (record == null) {
+                continue;
+            }
+
+            if (entry.getValue() == REMOVED) {
+                snapshots.remove(entry.getKey());
+            } else {
+                snapshots.put(new RecordReference(record, queue), entry.getValue());
+            }
+        }
+
+        pending.clear();
+    }
+
+    synchronized void rollback(Connection connection) {
+        Map<RecordReference, Object[]> pending;
+
+        pending = transactions.get(connection);
+
+        if (pending != null) {
+            pending.clear();
+        }
+    }
+
+    synchronized void end(Connection connection) {
+        transactions.remove(connection);
+    }
+
+    void track(Connection connection, Object record, TableMetadata table) {
+        List<ColumnMetadata> columns;
+        Object[] snapshot;
+
+        columns = table.getColumns();
+
+        snapshot = new Object[columns.size()];
+
+        for (int i = 0; i < columns.size(); i++) {
+            snapshot[i] = copy(getValue(record, columns.get(i)));
+        }
+
+        synchronized (this) {
+            Map<RecordReference, Object[]> pending;
+
+            pending = transactions.get(connection);
+
+            if (pending != null) {
+                pending.put(new RecordReference(record, null), snapshot);
+
+                return;
+            }
+        }
+
+        if (isAutoCommit(connection)) {
+            synchronized (this) {
+                expunge();
+
+                snapshots.put(new RecordReference(record, queue), snapshot);
+            }
+        } else {
+            untrack(connection, record);
+        }
+    }
+
+    synchronized void untrack(Connection connection, Object record) {
+        Map<RecordReference, Object[]> pending;
+
+        expunge();
+
+        pending = transactions.get(connection);
+
+        if (pending == null) {
+            snapshots.remove(new RecordReference(record, null));
+        } else {
+            pending.put(new RecordReference(record, null), REMOVED);
+        }
+    }
+
+    List<ColumnMetadata> getChangedColumns(Connection connection, Object record, TableMetadata table) {
+        List<ColumnMetadata> changedColumns;
+        List<ColumnMetadata> columns;
+        Object[] snapshot;
+
+        synchronized (this) {
+            Map<RecordReference, Object[]> pending;
+            RecordReference reference;
+
+            expunge();
+
+            reference = new RecordReference(record, null);
+
+            pending = transactions.get(connection);
+
+            if (pending != null && pending.containsKey(reference)) {
+                snapshot = pending.get(reference);
+            } else {
+                snapshot = snapshots.get(reference);
+            }
+        }
+
+        if (snapshot == null || snapshot == REMOVED) {
+            return null;
+        }
+
+        columns = table.getColumns();
+
+        changedColumns = new ArrayList<>();
+
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnMetadata column;
+
+            column = columns.get(i);
+
+            if (!column.isPrimaryKey() &&
+                    !Objects.deepEquals(snapshot[i], getValue(record, column))) {
+                changedColumns.add(column);
+            }
+        }
+
+        return changedColumns;
+    }
+
+    private void expunge() {
+        Object reference;
+
+        while ((reference = queue.poll()) != null) {
+            snapshots.remove(reference);
+        }
+    }
+
+    private boolean isAutoCommit(Connection connection) {
+        try {
+            return connection.getAutoCommit();
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private Object getValue(Object record, ColumnMetadata column) {
+        return column.getValue(record);
+    }
+
+    private Object copy(Object value) {
+        if (value instanceof Date) {
+            return ((Date) value).clone();
+        } else if (value != null && value.getClass().isArray()) {
+            Object copy;
+            int length;
+
+            length = Array.getLength(value);
+
+            copy = Array.newInstance(value.getClass().getComponentType(), length);
+
+            System.arraycopy(value, 0, copy, 0, length);
+
+            return copy;
+        } else if (value instanceof List) {
+            return new ArrayList<>((List<?>) value);
+        } else {
+            return value;
+        }
+    }
+
+    private static class RecordReference extends WeakReference<Object> {
+        private final int hashCode;
+
+        private RecordReference(Object record, ReferenceQueue<Object> queue) {
+            super(record, queue);
+
+            hashCode = System.identityHashCode(record);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            Object record;
+
+            if (this == obj) {
+                return true;
+            }
+
+            if (!(obj instanceof RecordReference)) {
+                return false;
+            }
+
+            record = get();
+
+            return record != null && record == ((RecordReference) obj).get();
+        }
+    }
+}
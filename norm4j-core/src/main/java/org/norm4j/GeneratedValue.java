@@ -29,4 +29,7 @@ import java.lang.annotation.Target;
 @Target(ElementType.FIELD)
 public @interface GeneratedValue {
     GenerationType strategy() default GenerationType.AUTO;
+
+    @SuppressWarnings("rawtypes")
+    Class<? extends IdGenerator> generator() default IdGenerator.class;
 }
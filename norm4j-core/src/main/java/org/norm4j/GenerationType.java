@@ -25,5 +25,6 @@ public enum GenerationType {
     SEQUENCE,
     IDENTITY,
     UUID,
+    CUSTOM,
     AUTO
 }
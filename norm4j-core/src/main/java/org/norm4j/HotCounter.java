@@ -0,0 +1,350 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.norm4j.metadata.ColumnMetadata;
+import org.norm4j.metadata.TableMetadata;
+
+public class HotCounter implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(HotCounter.class.getName());
+
+    private final TableManager tableManager;
+    private final TableMetadata table;
+    private final ColumnMetadata column;
+    private final Map<Object, Counter> counters;
+    private final ScheduledExecutorService scheduler;
+    private final Thread shutdownHook;
+    private final AtomicLong flushCount;
+    private final AtomicLong failedFlushCount;
+    private final AtomicLong updateCount;
+    private volatile RuntimeException lastFailure;
+    private volatile boolean closed;
+
+    public HotCounter(TableManager tableManager, ColumnMetadata column, long flushIntervalMillis) {
+        Class<?> type;
+
+        if (flushIntervalMillis < 1) {
+            throw new IllegalArgumentException("Invalid flush interval " + flushIntervalMillis);
+        }
+
+        type = column.getField().getType();
+
+        if (!Number.class.isAssignableFrom(type) &&
+                !(type.isPrimitive() && type != boolean.class && type != char.class)) {
+            throw new IllegalArgumentException("Column "
+                    + column.getColumnName()
+                    + " is not numeric.");
+        }
+
+        this.tableManager = tableManager;
+
+        this.column = column;
+
+        table = column.getTable();
+
+        if (table.getPrimaryKeys().isEmpty()) {
+            throw new IllegalArgumentException("No primary key found for class "
+                    + table.getTableClass().getName());
+        }
+
+        counters = new ConcurrentHashMap<>();
+
+        flushCount = new AtomicLong();
+
+        failedFlushCount = new AtomicLong();
+
+        updateCount = new AtomicLong();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread;
+
+            thread = new Thread(r, "norm4j-hot-counter");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        scheduler.scheduleWithFixedDelay(this::flushQuietly,
+                flushIntervalMillis,
+                flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+
+        shutdownHook = new Thread(this::close, "norm4j-hot-counter-shutdown");
+
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    public TableMetadata getTable() {
+        return table;
+    }
+
+    public ColumnMetadata getColumn() {
+        return column;
+    }
+
+    public void increment(Object primaryKey) {
+        add(primaryKey, 1);
+    }
+
+    public void add(Object primaryKey, long delta) {
+        if (primaryKey == null) {
+            throw new IllegalArgumentException("Primary key is null.");
+        }
+
+        if (table.getIdClass() != null &&
+                !table.getIdClass().isInstance(primaryKey)) {
+            throw new IllegalArgumentException("Unexpected @IdClass value "
+                    + table.getTableClass().getName());
+        }
+
+        if (closed) {
+            throw new IllegalStateException("The hot counter is closed.");
+        }
+
+        addPending(primaryKey, delta);
+    }
+
+    public long getPending(Object primaryKey) {
+        Counter counter;
+
+        counter = counters.get(primaryKey);
+
+        if (counter == null) {
+            return 0;
+        }
+
+        return counter.adder.sum();
+    }
+
+    public int getKeyCount() {
+        return counters.size();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    public long getFailedFlushCount() {
+        return failedFlushCount.get();
+    }
+
+    public long getUpdateCount() {
+        return updateCount.get();
+    }
+
+    public RuntimeException getLastFailure() {
+        return lastFailure;
+    }
+
+    public synchronized void flush() {
+        Map<Object, List<Object>> keyValues;
+        List<Object> increments;
+
+        increments = new ArrayList<>();
+
+        keyValues = new HashMap<>();
+
+        for (Map.Entry<Object, Counter> entry : counters.entrySet()) {
+            long delta;
+
+            delta = entry.getValue().adder.sumThenReset();
+
+            if (delta != 0) {
+                increments.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), delta));
+
+                keyValues.put(entry.getKey(), getKeyValues(entry.getKey()));
+            } else {
+                counters.computeIfPresent(entry.getKey(), (k, counter) -> counter.remove() ? null : counter);
+            }
+        }
+
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        increments.sort((increment1, increment2) -> compareKeyValues(
+                keyValues.get(((Map.Entry<?, ?>) increment1).getKey()),
+                keyValues.get(((Map.Entry<?, ?>) increment2).getKey())));
+
+        try {
+            tableManager.inTransaction(session -> tableManager.incrementPending(session.getConnection(),
+                    table,
+                    column,
+                    increments));
+        } catch (RuntimeException e) {
+            for (Object increment : increments) {
+                Map.Entry<?, ?> entry;
+
+                entry = (Map.Entry<?, ?>) increment;
+
+                addPending(entry.getKey(), (Long) entry.getValue());
+            }
+
+            failedFlushCount.incrementAndGet();
+
+            lastFailure = e;
+
+            throw e;
+        }
+
+        flushCount.incrementAndGet();
+
+        updateCount.addAndGet(increments.size());
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                LOGGER.log(Level.FINE, "Shutdown hook not removed, the JVM is shutting down.", e);
+            }
+        }
+
+        scheduler.shutdown();
+
+        try {
+            scheduler.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        flush();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Hot counter flush failed for table "
+                    + table.getTableName()
+                    + ", the increments are kept for the next flush.", e);
+        }
+    }
+
+    private void addPending(Object primaryKey, long delta) {
+        while (!counters.computeIfAbsent(primaryKey, k -> new Counter()).add(delta)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private List<Object> getKeyValues(Object primaryKey) {
+        List<Object> values;
+
+        values = new ArrayList<>();
+
+        for (ColumnMetadata primaryKeyColumn : table.getPrimaryKeys()) {
+            values.add(tableManager.getPrimaryKeyValue(table, primaryKeyColumn, primaryKey));
+        }
+
+        return values;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static int compareKeyValues(List<Object> values1, List<Object> values2) {
+        for (int i = 0; i < values1.size(); i++) {
+            Object value1;
+            Object value2;
+            int result;
+
+            value1 = values1.get(i);
+
+            value2 = values2.get(i);
+
+            if (value1 == null || value2 == null) {
+                result = Boolean.compare(value1 != null, value2 != null);
+            } else if (value1 instanceof Comparable &&
+                    value1.getClass() == value2.getClass()) {
+                result = ((Comparable) value1).compareTo(value2);
+            } else {
+                result = value1.toString().compareTo(value2.toString());
+            }
+
+            if (result != 0) {
+                return result;
+            }
+        }
+
+        return 0;
+    }
+
+    private static class Counter {
+        private final LongAdder adder;
+        private final LongAdder writers;
+        private volatile boolean removed;
+
+        private Counter() {
+            adder = new LongAdder();
+
+            writers = new LongAdder();
+        }
+
+        private boolean add(long delta) {
+            writers.increment();
+
+            try {
+                if (removed) {
+                    return false;
+                }
+
+                adder.add(delta);
+
+                return true;
+            } finally {
+                writers.decrement();
+            }
+        }
+
+        private boolean remove() {
+            removed = true;
+
+            if (writers.sum() == 0 && adder.sum() == 0) {
+                return true;
+            }
+
+            removed = false;
+
+            return false;
+        }
+    }
+}
@@ -20,7 +20,6 @@
  */
 package org.norm4j;
 
-import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -29,15 +28,20 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.norm4j.dialects.SQLDialect;
-import org.norm4j.metadata.ColumnMetadata;
-import org.norm4j.metadata.TableMetadata;
+import org.norm4j.mappings.Projection;
 
 public class Query {
     private final Map<Integer, Object> parameters;
     private final TableManager tableManager;
     private final String sql;
+    private int fetchSize;
 
     public Query(TableManager tableManager, String sql) {
         this.tableManager = tableManager;
@@ -45,16 +49,40 @@ public class Query {
         this.sql = sql;
 
         parameters = new HashMap<>();
+
+        fetchSize = 1000;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public Query setFetchSize(int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("Invalid fetch size " + fetchSize);
+        }
+
+        this.fetchSize = fetchSize;
+
+        return this;
     }
 
-    @SuppressWarnings("unchecked")
     public <K, V> Map<K, List<V>> mapResultList(Class<K> keyType, Class<V> valueType) {
+        return mapResultList(null, keyType, valueType);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, List<V>> mapResultList(Connection connection, Class<K> keyType, Class<V> valueType) {
         Map<K, List<V>> map;
         List<Object[]> rows;
 
         map = new HashMap<>();
 
-        rows = getResultList(keyType, valueType);
+        if (connection == null) {
+            rows = getResultList(keyType, valueType);
+        } else {
+            rows = getResultList(connection, keyType, valueType);
+        }
 
         for (Object[] row : rows) {
             List<V> values;
@@ -85,14 +113,22 @@ public class Query {
         return map;
     }
 
-    @SuppressWarnings("unchecked")
     public <K, V> Map<K, V> mapSingleResult(Class<K> keyType, Class<V> valueType) {
+        return mapSingleResult(null, keyType, valueType);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, V> mapSingleResult(Connection connection, Class<K> keyType, Class<V> valueType) {
         Map<K, V> map;
         List<Object[]> rows;
 
         map = new HashMap<>();
 
-        rows = getResultList(keyType, valueType);
+        if (connection == null) {
+            rows = getResultList(keyType, valueType);
+        } else {
+            rows = getResultList(connection, keyType, valueType);
+        }
 
         for (Object[] row : rows) {
             if (row.length != 2) {
@@ -171,7 +207,7 @@ public class Query {
     }
 
     public List<Object[]> getResultList(Class<?>... types) {
-        try (Connection connection = tableManager.getDataSource().getConnection()) {
+        try (Connection connection = tableManager.getConnection()) {
             return getResultList(connection, types);
         } catch (Exception e) {
             throw new RuntimeException(e);
@@ -190,83 +226,241 @@ public class Query {
 
             try (ResultSet rs = ps.executeQuery()) {
                 List<Object[]> rows;
-                int columnCount;
+                ResultPlan plan;
 
                 rows = new ArrayList<>();
 
-                columnCount = rs.getMetaData().getColumnCount();
+                plan = tableManager.getResultPlan(sql, types, rs.getMetaData());
 
                 while (rs.next()) {
-                    List<Object> columns;
-                    Object[] row;
-                    int index;
+                    rows.add(plan.read(tableManager, connection, rs, dialect));
+                }
 
-                    columns = new ArrayList<>();
+                return rows;
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-                    index = 1;
+    public SpillableResultList getSpillableResultList(long memoryBudget, Class<?>... types) {
+        try (Connection connection = tableManager.getConnection()) {
+            return getSpillableResultList(connection, memoryBudget, types);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-                    for (Class<?> type : types) {
-                        TableMetadata table;
-                        Object record;
+    public SpillableResultList getSpillableResultList(Connection connection,
+            long memoryBudget,
+            Class<?>... types) {
+        SpillableResultList rows;
+
+        rows = new SpillableResultList(tableManager, types, memoryBudget);
+
+        try (ResultCursor cursor = new ResultCursor(tableManager,
+                connection,
+                false,
+                sql,
+                parameters,
+                types,
+                fetchSize)) {
+            while (cursor.next()) {
+                rows.append(cursor.read());
+            }
 
-                        table = tableManager.getMetadataManager()
-                                .getTableMetadata(type);
+            return rows.complete();
+        } catch (Exception e) {
+            rows.close();
 
-                        if (table == null) {
-                            columns.add(rs.getObject(index));
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
 
-                            index++;
-                        } else {
-                            record = type.getDeclaredConstructor().newInstance();
+            throw new RuntimeException(e);
+        }
+    }
 
-                            for (int i = 0; i < table.getColumns().size(); i++) {
-                                Object value;
+    public <D> List<D> getResultList(Projection<D> projection) {
+        try (Connection connection = tableManager.getConnection()) {
+            return getResultList(connection, projection);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-                                value = rs.getObject(i + index);
+    public <D> List<D> getResultList(Connection connection, Projection<D> projection) {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            SQLDialect dialect;
 
-                                if (value != null) {
-                                    ColumnMetadata column;
-                                    String columnName;
-                                    Field field;
+            dialect = tableManager.getMetadataManager().initDialect(connection);
 
-                                    columnName = rs.getMetaData().getColumnName(i + index);
+            for (Map.Entry<Integer, Object> entry : parameters.entrySet()) {
+                ps.setObject(entry.getKey(), entry.getValue());
+            }
 
-                                    column = table.getColumns().stream()
-                                            .filter(c -> c.getColumnName().equalsIgnoreCase(columnName))
-                                            .findFirst().get();
+            try (ResultSet rs = ps.executeQuery()) {
+                List<D> results;
 
-                                    field = column.getField();
+                results = new ArrayList<>();
 
-                                    field.setAccessible(true);
+                while (rs.next()) {
+                    results.add(projection.read(rs, 1, dialect));
+                }
 
-                                    field.set(record, dialect.fromSqlValue(column, value));
-                                }
-                            }
+                return results;
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-                            index += table.getColumns().size();
+    public ResultColumns getColumns(Class<?>... types) {
+        try (Connection connection = tableManager.getConnection()) {
+            return getColumns(connection, types);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-                            columns.add(record);
-                        }
-                    }
+    public ResultColumns getColumns(Connection connection, Class<?>... types) {
+        try (PreparedStatement ps = connection.prepareStatement(sql,
+                ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY)) {
+            ps.setFetchSize(fetchSize);
 
-                    for (int i = index; i <= columnCount; i++) {
-                        columns.add(rs.getObject(i));
-                    }
+            for (Map.Entry<Integer, Object> entry : parameters.entrySet()) {
+                ps.setObject(entry.getKey(), entry.getValue());
+            }
 
-                    row = new Object[columns.size()];
+            try (ResultSet rs = ps.executeQuery()) {
+                ResultColumns columns;
 
-                    for (int i = 0; i < columns.size(); i++) {
-                        row[i] = columns.get(i);
-                    }
+                columns = new ResultColumns(rs.getMetaData(), types);
 
-                    rows.add(row);
+                while (rs.next()) {
+                    columns.read(rs);
                 }
 
-                return rows;
+                return columns.complete();
             }
-        } catch (Exception e) {
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public <T> Stream<T> stream(Class<T> type) {
+        Connection connection;
+
+        try {
+            connection = tableManager.getConnection();
+        } catch (SQLException e) {
             throw new RuntimeException(e);
         }
+
+        return stream(connection, true, type);
+    }
+
+    public <T> Stream<T> stream(Connection connection, Class<T> type) {
+        return stream(connection, false, type);
+    }
+
+    public <T> void forEach(Class<T> type, Consumer<? super T> action) {
+        try (Stream<T> stream = stream(type)) {
+            stream.forEach(action);
+        }
+    }
+
+    public <T> void forEach(Connection connection, Class<T> type, Consumer<? super T> action) {
+        try (Stream<T> stream = stream(connection, type)) {
+            stream.forEach(action);
+        }
+    }
+
+    public Stream<Object[]> stream(Class<?>... types) {
+        Connection connection;
+
+        try {
+            connection = tableManager.getConnection();
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+
+        return streamRows(connection, true, types);
+    }
+
+    public Stream<Object[]> stream(Connection connection, Class<?>... types) {
+        return streamRows(connection, false, types);
+    }
+
+    private <T> Stream<T> stream(Connection connection, boolean ownsConnection, Class<T> type) {
+        Class<?>[] types;
+
+        if (tableManager.getMetadataManager()
+                .getTableMetadata(type) == null) {
+            types = new Class<?>[0];
+        } else {
+            types = new Class<?>[] { type };
+        }
+
+        return streamRows(connection, ownsConnection, types)
+                .map(row -> toResult(type, row[0]));
+    }
+
+    private Stream<Object[]> streamRows(Connection connection,
+            boolean ownsConnection,
+            Class<?>[] types) {
+        ResultCursor cursor;
+
+        cursor = new ResultCursor(tableManager,
+                connection,
+                ownsConnection,
+                sql,
+                parameters,
+                types,
+                fetchSize);
+
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<Object[]>(Long.MAX_VALUE,
+                Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Object[]> action) {
+                if (!cursor.next()) {
+                    return false;
+                }
+
+                action.accept(cursor.read());
+
+                return true;
+            }
+        }, false).onClose(cursor::close);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private <T> T toResult(Class<T> type, Object value) {
+        if (value != null &&
+                type.isEnum()) {
+            if (value instanceof Number) {
+                T[] constants;
+                int ordinal;
+
+                ordinal = ((Number) value).intValue();
+
+                constants = type.getEnumConstants();
+
+                if (ordinal < 0 || ordinal >= constants.length) {
+                    throw new IllegalArgumentException("Invalid ordinal ("
+                            + ordinal
+                            + ") for enum "
+                            + type.getName());
+                }
+
+                return constants[ordinal];
+            } else {
+                return (T) Enum.valueOf((Class<? extends Enum>) type, value.toString());
+            }
+        }
+
+        return (T) value;
     }
 
     public Object[] getSingleResult(Class<?>... tableClasses) {
@@ -318,7 +512,7 @@ public class Query {
     }
 
     public int executeUpdate() {
-        try (Connection connection = tableManager.getDataSource().getConnection()) {
+        try (Connection connection = tableManager.getConnection()) {
             return executeUpdate(connection);
         } catch (SQLException e) {
             throw new RuntimeException(e);
@@ -0,0 +1,719 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ResultColumns {
+    private final String[] columnNames;
+    private final Column[] columns;
+    private int size;
+
+    ResultColumns(ResultSetMetaData metaData, Class<?>[] types) throws SQLException {
+        int columnCount;
+
+        columnCount = metaData.getColumnCount();
+
+        if (types.length > columnCount) {
+            throw new IllegalArgumentException("Expected at most "
+                    + columnCount
+                    + " column types, got "
+                    + types.length
+                    + ".");
+        }
+
+        columnNames = new String[columnCount];
+
+        columns = new Column[columnCount];
+
+        for (int i = 0; i < columnCount; i++) {
+            Class<?> type;
+
+            columnNames[i] = metaData.getColumnLabel(i + 1);
+
+            if (i < types.length && types[i] != null) {
+                type = types[i];
+            } else {
+                type = getColumnType(metaData, i + 1);
+            }
+
+            columns[i] = createColumn(type);
+        }
+    }
+
+    void read(ResultSet rs) throws SQLException {
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].read(rs, i + 1, size);
+        }
+
+        size++;
+    }
+
+    ResultColumns complete() {
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].trim(size);
+
+            if (columns[i] instanceof NumberColumn) {
+                columns[i] = ((NumberColumn) columns[i]).resolve();
+            }
+        }
+
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public int getColumnIndex(String columnName) {
+        for (int i = 0; i < columnNames.length; i++) {
+            if (columnNames[i].equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+
+        throw new IllegalArgumentException("Column "
+                + columnName
+                + " not found.");
+    }
+
+    public Class<?> getColumnType(int column) {
+        return columns[column].getType();
+    }
+
+    public boolean isNull(int row, int column) {
+        checkRow(row);
+
+        return columns[column].nulls.get(row);
+    }
+
+    public BitSet getNulls(int column) {
+        return columns[column].nulls;
+    }
+
+    public long getLong(int row, int column) {
+        checkRow(row);
+
+        return columns[column].getLong(row);
+    }
+
+    public int getInt(int row, int column) {
+        checkRow(row);
+
+        return columns[column].getInt(row);
+    }
+
+    public double getDouble(int row, int column) {
+        checkRow(row);
+
+        return columns[column].getDouble(row);
+    }
+
+    public boolean getBoolean(int row, int column) {
+        checkRow(row);
+
+        return columns[column].getBoolean(row);
+    }
+
+    public String getString(int row, int column) {
+        checkRow(row);
+
+        return columns[column].getString(row);
+    }
+
+    public Object getObject(int row, int column) {
+        checkRow(row);
+
+        if (columns[column].nulls.get(row)) {
+            return null;
+        }
+
+        return columns[column].getObject(row);
+    }
+
+    public long[] getLongs(int column) {
+        return cast(column, LongColumn.class).values;
+    }
+
+    public int[] getInts(int column) {
+        return cast(column, IntColumn.class).values;
+    }
+
+    public double[] getDoubles(int column) {
+        return cast(column, DoubleColumn.class).values;
+    }
+
+    public boolean[] getBooleans(int column) {
+        return cast(column, BooleanColumn.class).values;
+    }
+
+    public int[] getStringCodes(int column) {
+        return cast(column, StringColumn.class).codes;
+    }
+
+    public List<String> getDictionary(int column) {
+        return Collections.unmodifiableList(cast(column, StringColumn.class).dictionary);
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row "
+                    + row
+                    + " out of bounds for size "
+                    + size);
+        }
+    }
+
+    private <C extends Column> C cast(int column, Class<C> columnClass) {
+        if (!columnClass.isInstance(columns[column])) {
+            throw new IllegalStateException("Column "
+                    + columnNames[column]
+                    + " is of type "
+                    + columns[column].getType().getName());
+        }
+
+        return columnClass.cast(columns[column]);
+    }
+
+    private static Class<?> getColumnType(ResultSetMetaData metaData, int index) throws SQLException {
+        switch (metaData.getColumnType(index)) {
+            case Types.BIGINT:
+                return long.class;
+            case Types.INTEGER:
+            case Types.SMALLINT:
+            case Types.TINYINT:
+                return int.class;
+            case Types.DOUBLE:
+            case Types.FLOAT:
+            case Types.REAL:
+                return double.class;
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                if (metaData.getPrecision(index) == 0) {
+                    return Number.class;
+                } else if (metaData.getScale(index) == 0
+                        && metaData.getPrecision(index) > 0
+                        && metaData.getPrecision(index) <= 18) {
+                    return long.class;
+                } else {
+                    return BigDecimal.class;
+                }
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return boolean.class;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return String.class;
+            default:
+                return Object.class;
+        }
+    }
+
+    private static Column createColumn(Class<?> type) {
+        if (type == long.class || type == Long.class) {
+            return new LongColumn();
+        } else if (type == int.class || type == Integer.class) {
+            return new IntColumn();
+        } else if (type == double.class || type == Double.class) {
+            return new DoubleColumn();
+        } else if (type == boolean.class || type == Boolean.class) {
+            return new BooleanColumn();
+        } else if (type == String.class) {
+            return new StringColumn();
+        } else if (type == Number.class) {
+            return new NumberColumn();
+        } else if (type == BigDecimal.class || type == Object.class) {
+            return new ObjectColumn(type);
+        } else {
+            throw new IllegalArgumentException("Unsupported column type "
+                    + type.getName());
+        }
+    }
+
+    private static int grow(int capacity, int row) {
+        if (row < capacity) {
+            return capacity;
+        }
+
+        return Math.max(capacity + (capacity >> 1), row + 1);
+    }
+
+    private abstract static class Column {
+        protected final BitSet nulls;
+        protected int capacity;
+
+        protected Column() {
+            nulls = new BitSet();
+
+            capacity = 1024;
+        }
+
+        abstract Class<?> getType();
+
+        abstract void read(ResultSet rs, int index, int row) throws SQLException;
+
+        abstract void trim(int size);
+
+        abstract Object getObject(int row);
+
+        long getLong(int row) {
+            throw new IllegalStateException("Column of type "
+                    + getType().getName()
+                    + " cannot be read as long.");
+        }
+
+        int getInt(int row) {
+            throw new IllegalStateException("Column of type "
+                    + getType().getName()
+                    + " cannot be read as int.");
+        }
+
+        double getDouble(int row) {
+            throw new IllegalStateException("Column of type "
+                    + getType().getName()
+                    + " cannot be read as double.");
+        }
+
+        boolean getBoolean(int row) {
+            throw new IllegalStateException("Column of type "
+                    + getType().getName()
+                    + " cannot be read as boolean.");
+        }
+
+        String getString(int row) {
+            Object value;
+
+            value = nulls.get(row) ? null : getObject(row);
+
+            return value == null ? null : value.toString();
+        }
+    }
+
+    private static class LongColumn extends Column {
+        private long[] values;
+
+        LongColumn() {
+            values = new long[capacity];
+        }
+
+        Class<?> getType() {
+            return long.class;
+        }
+
+        void read(ResultSet rs, int index, int row) throws SQLException {
+            long value;
+
+            value = rs.getLong(index);
+
+            if (row >= capacity) {
+                capacity = grow(capacity, row);
+
+                values = Arrays.copyOf(values, capacity);
+            }
+
+            values[row] = value;
+
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        void trim(int size) {
+            values = Arrays.copyOf(values, size);
+        }
+
+        Object getObject(int row) {
+            return values[row];
+        }
+
+        long getLong(int row) {
+            return values[row];
+        }
+
+        double getDouble(int row) {
+            return values[row];
+        }
+    }
+
+    private static class IntColumn extends Column {
+        private int[] values;
+
+        IntColumn() {
+            values = new int[capacity];
+        }
+
+        Class<?> getType() {
+            return int.class;
+        }
+
+        void read(ResultSet rs, int index, int row) throws SQLException {
+            int value;
+
+            value = rs.getInt(index);
+
+            if (row >= capacity) {
+                capacity = grow(capacity, row);
+
+                values = Arrays.copyOf(values, capacity);
+            }
+
+            values[row] = value;
+
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        void trim(int size) {
+            values = Arrays.copyOf(values, size);
+        }
+
+        Object getObject(int row) {
+            return values[row];
+        }
+
+        long getLong(int row) {
+            return values[row];
+        }
+
+        int getInt(int row) {
+            return values[row];
+        }
+
+        double getDouble(int row) {
+            return values[row];
+        }
+    }
+
+    private static class DoubleColumn extends Column {
+        private double[] values;
+
+        DoubleColumn() {
+            values = new double[capacity];
+        }
+
+        Class<?> getType() {
+            return double.class;
+        }
+
+        void read(ResultSet rs, int index, int row) throws SQLException {
+            double value;
+
+            value = rs.getDouble(index);
+
+            if (row >= capacity) {
+                capacity = grow(capacity, row);
+
+                values = Arrays.copyOf(values, capacity);
+            }
+
+            values[row] = value;
+
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        void trim(int size) {
+            values = Arrays.copyOf(values, size);
+        }
+
+        Object getObject(int row) {
+            return values[row];
+        }
+
+        double getDouble(int row) {
+            return values[row];
+        }
+    }
+
+    private static class BooleanColumn extends Column {
+        private boolean[] values;
+
+        BooleanColumn() {
+            values = new boolean[capacity];
+        }
+
+        Class<?> getType() {
+            return boolean.class;
+        }
+
+        void read(ResultSet rs, int index, int row) throws SQLException {
+            boolean value;
+
+            value = rs.getBoolean(index);
+
+            if (row >= capacity) {
+                capacity = grow(capacity, row);
+
+                values = Arrays.copyOf(values, capacity);
+            }
+
+            values[row] = value;
+
+            if (rs.wasNull()) {
+                nulls.set(row);
+            }
+        }
+
+        void trim(int size) {
+            values = Arrays.copyOf(values, size);
+        }
+
+        Object getObject(int row) {
+            return values[row];
+        }
+
+        boolean getBoolean(int row) {
+            return values[row];
+        }
+    }
+
+    private static class StringColumn extends Column {
+        private final Map<String, Integer> codesByValue;
+        private final List<String> dictionary;
+        private int[] codes;
+
+        StringColumn() {
+            codesByValue = new HashMap<>();
+
+            dictionary = new ArrayList<>();
+
+            codes = new int[capacity];
+        }
+
+        Class<?> getType() {
+            return String.class;
+        }
+
+        void read(ResultSet rs, int index, int row) throws SQLException {
+            String value;
+            int code;
+
+            value = rs.getString(index);
+
+            if (value == null) {
+                code = -1;
+
+                nulls.set(row);
+            } else {
+                Integer existing;
+
+                existing = codesByValue.get(value);
+
+                if (existing == null) {
+                    code = dictionary.size();
+
+                    codesByValue.put(value, code);
+
+                    dictionary.add(value);
+                } else {
+                    code = existing;
+                }
+            }
+
+            if (row >= capacity) {
+                capacity = grow(capacity, row);
+
+                codes = Arrays.copyOf(codes, capacity);
+            }
+
+            codes[row] = code;
+        }
+
+        void trim(int size) {
+            codes = Arrays.copyOf(codes, size);
+
+            codesByValue.clear();
+        }
+
+        Object getObject(int row) {
+            return getString(row);
+        }
+
+        String getString(int row) {
+            return codes[row] == -1 ? null : dictionary.get(codes[row]);
+        }
+    }
+
+    private static class NumberColumn extends Column {
+        private long[] longs;
+        private BigDecimal[] decimals;
+
+        NumberColumn() {
+            longs = new long[capacity];
+        }
+
+        Class<?> getType() {
+            return decimals == null ? long.class : BigDecimal.class;
+        }
+
+        void read(ResultSet rs, int index, int row) throws SQLException {
+            BigDecimal value;
+
+            value = rs.getBigDecimal(index);
+
+            if (row >= capacity) {
+                capacity = grow(capacity, row);
+
+                if (decimals == null) {
+                    longs = Arrays.copyOf(longs, capacity);
+                } else {
+                    decimals = Arrays.copyOf(decimals, capacity);
+                }
+            }
+
+            if (value == null) {
+                nulls.set(row);
+            } else if (decimals == null && isLong(value)) {
+                longs[row] = value.longValue();
+            } else {
+                if (decimals == null) {
+                    decimals = new BigDecimal[capacity];
+
+                    for (int i = 0; i < row; i++) {
+                        if (!nulls.get(i)) {
+                            decimals[i] = BigDecimal.valueOf(longs[i]);
+                        }
+                    }
+
+                    longs = null;
+                }
+
+                decimals[row] = value;
+            }
+        }
+
+        void trim(int size) {
+            if (decimals == null) {
+                longs = Arrays.copyOf(longs, size);
+            } else {
+                decimals = Arrays.copyOf(decimals, size);
+            }
+        }
+
+        Object getObject(int row) {
+            return decimals == null ? longs[row] : decimals[row];
+        }
+
+        Column resolve() {
+            if (decimals == null) {
+                LongColumn column;
+
+                column = new LongColumn();
+
+                column.values = longs;
+                column.capacity = longs.length;
+                column.nulls.or(nulls);
+
+                return column;
+            } else {
+                ObjectColumn column;
+
+                column = new ObjectColumn(BigDecimal.class);
+
+                column.values = decimals;
+                column.capacity = decimals.length;
+                column.nulls.or(nulls);
+
+                return column;
+            }
+        }
+
+        private static boolean isLong(BigDecimal value) {
+            if (value.signum() == 0) {
+                return true;
+            }
+
+            value = value.stripTrailingZeros();
+
+            return value.scale() <= 0 && value.precision() - value.scale() <= 18;
+        }
+    }
+
+    private static class ObjectColumn extends Column {
+        private final Class<?> type;
+        private Object[] values;
+
+        ObjectColumn(Class<?> type) {
+            this.type = type;
+
+            values = new Object[capacity];
+        }
+
+        Class<?> getType() {
+            return type;
+        }
+
+        void read(ResultSet rs, int index, int row) throws SQLException {
+            Object value;
+
+            if (type == BigDecimal.class) {
+                value = rs.getBigDecimal(index);
+            } else {
+                value = rs.getObject(index);
+            }
+
+            if (row >= capacity) {
+                capacity = grow(capacity, row);
+
+                values = Arrays.copyOf(values, capacity);
+            }
+
+            values[row] = value;
+
+            if (value == null) {
+                nulls.set(row);
+            }
+        }
+
+        void trim(int size) {
+            values = Arrays.copyOf(values, size);
+        }
+
+        Object getObject(int row) {
+            return values[row];
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+import org.norm4j.dialects.SQLDialect;
+
+class ResultCursor implements AutoCloseable {
+    private final TableManager tableManager;
+    private final Connection connection;
+    private final boolean ownsConnection;
+    private boolean autoCommit;
+    private PreparedStatement ps;
+    private ResultSet rs;
+    private SQLDialect dialect;
+    private ResultPlan plan;
+    private boolean closed;
+
+    ResultCursor(TableManager tableManager,
+            Connection connection,
+            boolean ownsConnection,
+            String sql,
+            Map<Integer, Object> parameters,
+            Class<?>[] types,
+            int fetchSize) {
+        this.tableManager = tableManager;
+
+        this.connection = connection;
+
+        this.ownsConnection = ownsConnection;
+
+        try {
+            dialect = tableManager.getMetadataManager().initDialect(connection);
+
+            if (dialect.isCursorTransactionRequired() &&
+                    connection.getAutoCommit()) {
+                autoCommit = true;
+
+                connection.setAutoCommit(false);
+
+                tableManager.beginTracking(connection);
+            }
+
+            ps = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+
+            ps.setFetchSize(fetchSize);
+
+            for (Map.Entry<Integer, Object> entry : parameters.entrySet()) {
+                ps.setObject(entry.getKey(), entry.getValue());
+            }
+
+            rs = ps.executeQuery();
+
+            rs.setFetchSize(fetchSize);
+
+            plan = tableManager.getResultPlan(sql, types, rs.getMetaData());
+        } catch (SQLException | RuntimeException e) {
+            try {
+                close();
+            } catch (RuntimeException ce) {
+                e.addSuppressed(ce);
+            }
+
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+
+            throw new RuntimeException(e);
+        }
+    }
+
+    boolean next() {
+        try {
+            return rs.next();
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    Object[] read() {
+        try {
+            return plan.read(tableManager, connection, rs, dialect);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        SQLException exception;
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        exception = null;
+
+        try {
+            if (rs != null) {
+                rs.close();
+            }
+
+            if (ps != null) {
+                ps.close();
+            }
+        } catch (SQLException e) {
+            exception = e;
+        }
+
+        try {
+            if (autoCommit) {
+                try {
+                    connection.commit();
+
+                    tableManager.commitTracking(connection);
+
+                    connection.setAutoCommit(true);
+                } finally {
+                    tableManager.endTracking(connection);
+                }
+            }
+        } catch (SQLException e) {
+            if (exception == null) {
+                exception = e;
+            } else {
+                exception.addSuppressed(e);
+            }
+        }
+
+        try {
+            if (ownsConnection) {
+                connection.close();
+            }
+        } catch (SQLException e) {
+            if (exception == null) {
+                exception = e;
+            } else {
+                exception.addSuppressed(e);
+            }
+        }
+
+        if (exception != null) {
+            throw new RuntimeException(exception);
+        }
+    }
+}
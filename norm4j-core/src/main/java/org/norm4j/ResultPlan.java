@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import org.norm4j.dialects.SQLDialect;
+import org.norm4j.metadata.ColumnMetadata;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.metadata.TableMetadata;
+
+class ResultPlan {
+    private final int columnCount;
+    private final int[] indexes;
+    private final TableMetadata[] tables;
+    private final ColumnMetadata[][] columns;
+    private final int[][] parameterIndexes;
+
+    ResultPlan(MetadataManager metadataManager,
+            Class<?>[] types,
+            ResultSetMetaData metaData) throws SQLException {
+        int slotCount;
+        int index;
+
+        columnCount = metaData.getColumnCount();
+
+        slotCount = 0;
+
+        index = 1;
+
+        for (Class<?> type : types) {
+            TableMetadata table;
+
+            table = metadataManager.getTableMetadata(type);
+
+            if (table == null) {
+                index++;
+            } else {
+                index += table.getColumns().size();
+            }
+
+            slotCount++;
+        }
+
+        slotCount += Math.max(columnCount - index + 1, 0);
+
+        indexes = new int[slotCount];
+
+        tables = new TableMetadata[slotCount];
+
+        columns = new ColumnMetadata[slotCount][];
+
+        parameterIndexes = new int[slotCount][];
+
+        index = 1;
+
+        for (int slot = 0; slot < slotCount; slot++) {
+            TableMetadata table;
+
+            indexes[slot] = index;
+
+            if (slot < types.length) {
+                table = metadataManager.getTableMetadata(types[slot]);
+            } else {
+                table = null;
+            }
+
+            if (table == null) {
+                index++;
+            } else {
+                tables[slot] = table;
+
+                columns[slot] = new ColumnMetadata[table.getColumns().size()];
+
+                for (int i = 0; i < columns[slot].length; i++) {
+                    columns[slot][i] = getColumn(table, metaData.getColumnName(index + i));
+                }
+
+                parameterIndexes[slot] = table.getCreator().getParameterIndexes(columns[slot]);
+
+                index += columns[slot].length;
+            }
+        }
+    }
+
+    boolean matches(ResultSetMetaData metaData) throws SQLException {
+        if (metaData.getColumnCount() != columnCount) {
+            return false;
+        }
+
+        for (int slot = 0; slot < indexes.length; slot++) {
+            if (tables[slot] != null) {
+                for (int i = 0; i < columns[slot].length; i++) {
+                    if (!columns[slot][i].getColumnName()
+                            .equalsIgnoreCase(metaData.getColumnName(indexes[slot] + i))) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    Object[] read(TableManager tableManager,
+            Connection connection,
+            ResultSet rs,
+            SQLDialect dialect) throws Exception {
+        Object[] row;
+
+        row = new Object[indexes.length];
+
+        for (int slot = 0; slot < indexes.length; slot++) {
+            if (tables[slot] == null) {
+                row[slot] = rs.getObject(indexes[slot]);
+            } else {
+                Object record;
+
+                record = tables[slot].getCreator().newInstance(columns[slot],
+                        parameterIndexes[slot],
+                        rs,
+                        indexes[slot],
+                        dialect);
+
+                tableManager.track(connection, record, tables[slot]);
+
+                row[slot] = record;
+            }
+        }
+
+        return row;
+    }
+
+    private ColumnMetadata getColumn(TableMetadata table, String columnName) {
+        for (ColumnMetadata column : table.getColumns()) {
+            if (column.getColumnName().equalsIgnoreCase(columnName)) {
+                return column;
+            }
+        }
+
+        throw new IllegalStateException("Column "
+                + columnName
+                + " not found in class "
+                + table.getTableClass().getName());
+    }
+}
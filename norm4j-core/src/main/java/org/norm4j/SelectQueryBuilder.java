@@ -20,20 +20,69 @@
  */
 package org.norm4j;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.norm4j.mappings.Projection;
+import org.norm4j.mappings.RecordMapper;
 import org.norm4j.metadata.ColumnMetadata;
 import org.norm4j.metadata.TableMetadata;
 
 public class SelectQueryBuilder extends QueryBuilder<SelectQueryBuilder> {
+    private static final int MAX_CURSOR_TOKEN_LENGTH = 4096;
+    private static final byte INTEGER = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte FLOAT = 4;
+    private static final byte TRUE = 5;
+    private static final byte FALSE = 6;
+    private static final byte SHORT = 7;
+    private static final byte BYTE = 8;
+    private static final byte STRING = 9;
+    private static final byte BIG_DECIMAL = 10;
+    private static final byte BIG_INTEGER = 11;
+    private static final byte UUID_VALUE = 12;
+    private static final byte TIMESTAMP = 13;
+    private static final byte SQL_DATE = 14;
+    private static final byte DATE = 15;
+    private static final byte LOCAL_DATE = 16;
+    private static final byte LOCAL_DATE_TIME = 17;
+    private static final byte LOCAL_TIME = 18;
+    private static final byte INSTANT = 19;
+    private static final byte OFFSET_DATE_TIME = 20;
+    private static final byte ENUM = 21;
+
     private final List<FromClauseTable> fromClauseTables;
     private final StringBuilder selectClause;
     private final StringBuilder fromClause;
     private final StringBuilder orderByClause;
+    private final List<OrderByKey> orderByKeys;
     private final StringBuilder groupByClause;
+    private boolean orderByExpression;
+    private int fetchSize;
     private int offset;
     private int limit;
 
@@ -48,6 +97,8 @@ public class SelectQueryBuilder extends QueryBuilder<SelectQueryBuilder> {
 
         orderByClause = new StringBuilder();
 
+        orderByKeys = new ArrayList<>();
+
         groupByClause = new StringBuilder();
     }
 
@@ -565,11 +616,7 @@ public class SelectQueryBuilder extends QueryBuilder<SelectQueryBuilder> {
     }
 
     public <T, R> SelectQueryBuilder orderBy(FieldGetter<T, R> fieldGetter, String alias) {
-        if (!orderByClause.isEmpty()) {
-            orderByClause.append(", ");
-        }
-
-        append(fieldGetter, alias, orderByClause);
+        appendOrderBy(fieldGetter, alias, false);
 
         return this;
     }
@@ -579,18 +626,39 @@ public class SelectQueryBuilder extends QueryBuilder<SelectQueryBuilder> {
     }
 
     public <T, R> SelectQueryBuilder orderByDesc(FieldGetter<T, R> fieldGetter, String alias) {
-        orderBy(fieldGetter, alias);
-
-        orderByClause.append(" DESC");
+        appendOrderBy(fieldGetter, alias, true);
 
         return this;
     }
 
+    private <T, R> void appendOrderBy(FieldGetter<T, R> fieldGetter,
+            String alias,
+            boolean descending) {
+        ColumnMetadata column;
+
+        column = getTableManager().getMetadataManager()
+                .getColumnMetadata(fieldGetter);
+
+        if (!orderByClause.isEmpty()) {
+            orderByClause.append(", ");
+        }
+
+        append(column, alias, orderByClause);
+
+        if (descending) {
+            orderByClause.append(" DESC");
+        }
+
+        orderByKeys.add(new OrderByKey(column, alias, descending));
+    }
+
     public SelectQueryBuilder orderBy(SelectQueryBuilder builder) {
         if (!orderByClause.isEmpty()) {
             orderByClause.append(", ");
         }
 
+        orderByExpression = true;
+
         orderByClause.append("(");
         orderByClause.append(builder.build());
         orderByClause.append(")");
@@ -618,6 +686,8 @@ public class SelectQueryBuilder extends QueryBuilder<SelectQueryBuilder> {
             orderByClause.append(", ");
         }
 
+        orderByExpression = true;
+
         orderByClause.append(expression);
 
         if (expressionParameters != null) {
@@ -627,6 +697,460 @@ public class SelectQueryBuilder extends QueryBuilder<SelectQueryBuilder> {
         return this;
     }
 
+    public SelectQueryBuilder seekAfter(Object lastRow) {
+        return seek(getKeyValues(lastRow));
+    }
+
+    public SelectQueryBuilder seekAfter(String cursorToken) {
+        if (cursorToken == null) {
+            checkOrderByKeys();
+
+            return this;
+        }
+
+        return seek(decodeCursorToken(cursorToken));
+    }
+
+    public SelectQueryBuilder after(Object... values) {
+        return seek(Arrays.asList(values));
+    }
+
+    public String getCursorToken(Object lastRow) {
+        ByteArrayOutputStream bytes;
+        List<Object> values;
+        String cursorToken;
+
+        values = getKeyValues(lastRow);
+
+        bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(values.size());
+
+            for (int i = 0; i < values.size(); i++) {
+                writeCursorValue(orderByKeys.get(i).column, values.get(i), out);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        cursorToken = Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(bytes.toByteArray());
+
+        if (cursorToken.length() > MAX_CURSOR_TOKEN_LENGTH) {
+            throw new IllegalArgumentException("The key values are too large for a cursor token.");
+        }
+
+        return cursorToken;
+    }
+
+    private SelectQueryBuilder seek(List<Object> values) {
+        StringBuilder condition;
+        boolean descending;
+        boolean mixed;
+
+        checkOrderByKeys();
+
+        if (values.size() != orderByKeys.size()) {
+            throw new IllegalArgumentException("Expected "
+                    + orderByKeys.size()
+                    + " key values, got "
+                    + values.size()
+                    + ".");
+        }
+
+        for (Object value : values) {
+            if (value == null) {
+                throw new IllegalArgumentException("Keyset pagination does not support null key values.");
+            }
+        }
+
+        descending = orderByKeys.get(0).descending;
+
+        mixed = orderByKeys.stream()
+                .anyMatch(k -> k.descending != descending);
+
+        condition = new StringBuilder();
+
+        condition.append("(");
+
+        if (orderByKeys.size() == 1) {
+            appendSeekCondition(orderByKeys.get(0), values.get(0), condition);
+        } else if (!mixed && getTableManager().getDialect().isTupleComparisonSupported()) {
+            condition.append("(");
+
+            for (int i = 0; i < orderByKeys.size(); i++) {
+                if (i > 0) {
+                    condition.append(", ");
+                }
+
+                append(orderByKeys.get(i).column, orderByKeys.get(i).alias, condition);
+            }
+
+            condition.append(descending ? ") < (" : ") > (");
+
+            for (int i = 0; i < orderByKeys.size(); i++) {
+                if (i > 0) {
+                    condition.append(", ");
+                }
+
+                appendValue(values.get(i), condition, orderByKeys.get(i).column);
+            }
+
+            condition.append(")");
+        } else {
+            for (int i = 0; i < orderByKeys.size(); i++) {
+                if (i > 0) {
+                    condition.append(" OR ");
+                }
+
+                condition.append("(");
+
+                for (int j = 0; j < i; j++) {
+                    append(orderByKeys.get(j).column, orderByKeys.get(j).alias, condition);
+
+                    condition.append(" = ");
+
+                    appendValue(values.get(j), condition, orderByKeys.get(j).column);
+
+                    condition.append(" AND ");
+                }
+
+                appendSeekCondition(orderByKeys.get(i), values.get(i), condition);
+
+                condition.append(")");
+            }
+        }
+
+        condition.append(")");
+
+        return where(condition.toString(), null);
+    }
+
+    private void appendSeekCondition(OrderByKey key,
+            Object value,
+            StringBuilder condition) {
+        append(key.column, key.alias, condition);
+
+        condition.append(key.descending ? " < " : " > ");
+
+        appendValue(value, condition, key.column);
+    }
+
+    private List<Object> getKeyValues(Object lastRow) {
+        List<Object> values;
+
+        checkOrderByKeys();
+
+        if (lastRow == null) {
+            throw new IllegalArgumentException("Last row is required.");
+        }
+
+        values = new ArrayList<>();
+
+        for (OrderByKey key : orderByKeys) {
+            Object record;
+
+            record = null;
+
+            if (lastRow instanceof Object[]) {
+                for (Object element : (Object[]) lastRow) {
+                    if (element != null
+                            && key.column.getTable().getTableClass().isInstance(element)) {
+                        record = element;
+
+                        break;
+                    }
+                }
+            } else if (key.column.getTable().getTableClass().isInstance(lastRow)) {
+                record = lastRow;
+            }
+
+            if (record == null) {
+                throw new IllegalArgumentException("No "
+                        + key.column.getTable().getTableClass().getName()
+                        + " found in last row.");
+            }
+
+            values.add(key.column.getValue(record));
+        }
+
+        return values;
+    }
+
+    private List<Object> decodeCursorToken(String cursorToken) {
+        List<Object> values;
+        byte[] bytes;
+
+        checkOrderByKeys();
+
+        if (cursorToken.length() > MAX_CURSOR_TOKEN_LENGTH) {
+            throw new IllegalArgumentException("Invalid cursor token.");
+        }
+
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursorToken);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor token.", e);
+        }
+
+        values = new ArrayList<>();
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readUnsignedByte() != orderByKeys.size()) {
+                throw new IllegalArgumentException("Invalid cursor token.");
+            }
+
+            for (OrderByKey key : orderByKeys) {
+                values.add(readCursorValue(key.column, in));
+            }
+
+            if (in.available() > 0) {
+                throw new IllegalArgumentException("Invalid cursor token.");
+            }
+        } catch (IOException | DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor token.", e);
+        }
+
+        return values;
+    }
+
+    private void writeCursorValue(ColumnMetadata column,
+            Object value,
+            DataOutputStream out) throws IOException {
+        if (value == null) {
+            throw new IllegalArgumentException("Keyset pagination does not support null key values.");
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeCursorString((String) value, out);
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(BIG_DECIMAL);
+            writeCursorString(value.toString(), out);
+        } else if (value instanceof BigInteger) {
+            out.writeByte(BIG_INTEGER);
+            writeCursorString(value.toString(), out);
+        } else if (value instanceof UUID) {
+            out.writeByte(UUID_VALUE);
+            out.writeLong(((UUID) value).getMostSignificantBits());
+            out.writeLong(((UUID) value).getLeastSignificantBits());
+        } else if (value.getClass() == java.sql.Timestamp.class) {
+            out.writeByte(TIMESTAMP);
+            out.writeLong(((java.sql.Timestamp) value).getTime());
+            out.writeInt(((java.sql.Timestamp) value).getNanos());
+        } else if (value.getClass() == java.sql.Date.class) {
+            out.writeByte(SQL_DATE);
+            out.writeLong(((java.sql.Date) value).getTime());
+        } else if (value.getClass() == java.util.Date.class) {
+            out.writeByte(DATE);
+            out.writeLong(((java.util.Date) value).getTime());
+        } else if (value instanceof LocalDate) {
+            out.writeByte(LOCAL_DATE);
+            writeCursorString(value.toString(), out);
+        } else if (value instanceof LocalDateTime) {
+            out.writeByte(LOCAL_DATE_TIME);
+            writeCursorString(value.toString(), out);
+        } else if (value instanceof LocalTime) {
+            out.writeByte(LOCAL_TIME);
+            writeCursorString(value.toString(), out);
+        } else if (value instanceof Instant) {
+            out.writeByte(INSTANT);
+            writeCursorString(value.toString(), out);
+        } else if (value instanceof OffsetDateTime) {
+            out.writeByte(OFFSET_DATE_TIME);
+            writeCursorString(value.toString(), out);
+        } else if (value instanceof Enum) {
+            out.writeByte(ENUM);
+            writeCursorString(((Enum<?>) value).name(), out);
+        } else {
+            throw new IllegalArgumentException("Column "
+                    + column.getColumnName()
+                    + " of type "
+                    + value.getClass().getName()
+                    + " cannot be used in a cursor token.");
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object readCursorValue(ColumnMetadata column, DataInputStream in) throws IOException {
+        Class<?> type;
+        Object value;
+        byte tag;
+
+        type = MethodType.methodType(column.getField().getType())
+                .wrap()
+                .returnType();
+
+        tag = in.readByte();
+
+        switch (tag) {
+            case INTEGER:
+                value = in.readInt();
+                break;
+            case LONG:
+                value = in.readLong();
+                break;
+            case DOUBLE:
+                value = in.readDouble();
+                break;
+            case FLOAT:
+                value = in.readFloat();
+                break;
+            case TRUE:
+                value = Boolean.TRUE;
+                break;
+            case FALSE:
+                value = Boolean.FALSE;
+                break;
+            case SHORT:
+                value = in.readShort();
+                break;
+            case BYTE:
+                value = in.readByte();
+                break;
+            case STRING:
+                value = readCursorString(in);
+                break;
+            case BIG_DECIMAL:
+                value = new BigDecimal(readCursorString(in));
+                break;
+            case BIG_INTEGER:
+                value = new BigInteger(readCursorString(in));
+                break;
+            case UUID_VALUE:
+                value = new UUID(in.readLong(), in.readLong());
+                break;
+            case TIMESTAMP:
+                java.sql.Timestamp timestamp;
+
+                timestamp = new java.sql.Timestamp(in.readLong());
+
+                timestamp.setNanos(in.readInt());
+
+                value = timestamp;
+                break;
+            case SQL_DATE:
+                value = new java.sql.Date(in.readLong());
+                break;
+            case DATE:
+                value = new java.util.Date(in.readLong());
+                break;
+            case LOCAL_DATE:
+                value = LocalDate.parse(readCursorString(in));
+                break;
+            case LOCAL_DATE_TIME:
+                value = LocalDateTime.parse(readCursorString(in));
+                break;
+            case LOCAL_TIME:
+                value = LocalTime.parse(readCursorString(in));
+                break;
+            case INSTANT:
+                value = Instant.parse(readCursorString(in));
+                break;
+            case OFFSET_DATE_TIME:
+                value = OffsetDateTime.parse(readCursorString(in));
+                break;
+            case ENUM:
+                if (!type.isEnum()) {
+                    throw new IllegalArgumentException("Invalid cursor token.");
+                }
+
+                value = Enum.valueOf((Class) type, readCursorString(in));
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid cursor token.");
+        }
+
+        if (!type.isInstance(value)) {
+            throw new IllegalArgumentException("Invalid cursor token.");
+        }
+
+        return value;
+    }
+
+    private void writeCursorString(String value, DataOutputStream out) throws IOException {
+        byte[] bytes;
+
+        bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readCursorString(DataInputStream in) throws IOException {
+        byte[] bytes;
+        int length;
+
+        length = in.readUnsignedShort();
+
+        if (length > in.available()) {
+            throw new IllegalArgumentException("Invalid cursor token.");
+        }
+
+        bytes = new byte[length];
+
+        in.readFully(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void checkOrderByKeys() {
+        if (orderByKeys.isEmpty()) {
+            throw new RuntimeException("Call orderBy(...) before seekAfter(...).");
+        }
+
+        if (orderByExpression) {
+            throw new RuntimeException("seekAfter(...) requires orderBy(...) on fields only.");
+        }
+
+        for (OrderByKey key : orderByKeys) {
+            if (isOrderedByPrimaryKey(key.column.getTable(), key.alias)) {
+                return;
+            }
+        }
+
+        throw new RuntimeException("seekAfter(...) requires orderBy(...) to include the primary key.");
+    }
+
+    private boolean isOrderedByPrimaryKey(TableMetadata table, String alias) {
+        List<ColumnMetadata> primaryKeys;
+
+        primaryKeys = table.getPrimaryKeys();
+
+        if (primaryKeys.isEmpty()) {
+            return false;
+        }
+
+        for (ColumnMetadata primaryKey : primaryKeys) {
+            if (orderByKeys.stream()
+                    .noneMatch(k -> k.column == primaryKey && Objects.equals(k.alias, alias))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     public <T, R> SelectQueryBuilder groupBy(FieldGetter<T, R> fieldGetter) {
         return groupBy(fieldGetter, null);
     }
@@ -694,13 +1218,23 @@ public class SelectQueryBuilder extends QueryBuilder<SelectQueryBuilder> {
         return this;
     }
 
+    public SelectQueryBuilder fetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+
+        return this;
+    }
+
     public String build() {
+        return build(selectClause);
+    }
+
+    private String build(CharSequence select) {
         StringBuilder statement;
 
         statement = new StringBuilder();
 
         statement.append("SELECT ");
-        statement.append(selectClause.toString());
+        statement.append(select.toString());
         statement.append(" FROM ");
         statement.append(fromClause.toString());
 
@@ -731,10 +1265,18 @@ public class SelectQueryBuilder extends QueryBuilder<SelectQueryBuilder> {
         return createQuery().mapResultList(keyType, valueType);
     }
 
+    public <K, V> Map<K, List<V>> mapResultList(Connection connection, Class<K> keyType, Class<V> valueType) {
+        return createQuery().mapResultList(connection, keyType, valueType);
+    }
+
     public <K, V> Map<K, V> mapSingleResult(Class<K> keyType, Class<V> valueType) {
         return createQuery().mapSingleResult(keyType, valueType);
     }
 
+    public <K, V> Map<K, V> mapSingleResult(Connection connection, Class<K> keyType, Class<V> valueType) {
+        return createQuery().mapSingleResult(connection, keyType, valueType);
+    }
+
     public <T> List<T> getResultList(Class<T> type) {
         return createQuery().getResultList(type);
     }
@@ -767,10 +1309,125 @@ public class SelectQueryBuilder extends QueryBuilder<SelectQueryBuilder> {
         return createQuery().getSingleResult(connection, tableClasses);
     }
 
+    public SpillableResultList getSpillableResultList(long memoryBudget, Class<?>... types) {
+        return createQuery().getSpillableResultList(memoryBudget, types);
+    }
+
+    public SpillableResultList getSpillableResultList(Connection connection,
+            long memoryBudget,
+            Class<?>... types) {
+        return createQuery().getSpillableResultList(connection, memoryBudget, types);
+    }
+
+    public <R, D> List<D> project(Class<R> sourceClass, RecordMapper<R, D> mapper) {
+        return project(null, sourceClass, mapper);
+    }
+
+    public <R, D> List<D> project(Connection connection, Class<R> sourceClass, RecordMapper<R, D> mapper) {
+        return project(connection,
+                sourceClass,
+                getTableManager().getProjection(sourceClass, mapper));
+    }
+
+    public <D> List<D> project(Class<?> sourceClass, Class<D> targetClass) {
+        return project(null, sourceClass, targetClass);
+    }
+
+    public <D> List<D> project(Connection connection, Class<?> sourceClass, Class<D> targetClass) {
+        return project(connection,
+                sourceClass,
+                getTableManager().getProjection(sourceClass, targetClass));
+    }
+
+    public <D> List<D> project(Projection<D> projection) {
+        return project(null, projection);
+    }
+
+    public <D> List<D> project(Connection connection, Projection<D> projection) {
+        return project(connection, projection.getSourceClass(), projection);
+    }
+
+    private <D> List<D> project(Connection connection,
+            Class<?> sourceClass,
+            Projection<D> projection) {
+        FromClauseTable source;
+        StringBuilder select;
+        Query query;
+
+        if (!selectClause.isEmpty()) {
+            throw new IllegalStateException("project(...) builds the select list, do not call select(...).");
+        }
+
+        source = fromClauseTables.stream()
+                .filter(t -> t.table.getTableClass().equals(sourceClass))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Class "
+                        + sourceClass.getName()
+                        + " is not part of the from clause."));
+
+        select = new StringBuilder();
+
+        for (ColumnMetadata column : projection.getColumns()) {
+            if (!select.isEmpty()) {
+                select.append(", ");
+            }
+
+            append(column, source.alias, select);
+        }
+
+        query = createQuery(build(select));
+
+        if (connection == null) {
+            return query.getResultList(projection);
+        } else {
+            return query.getResultList(connection, projection);
+        }
+    }
+
+    public ResultColumns getColumns(Class<?>... types) {
+        return createQuery().getColumns(types);
+    }
+
+    public ResultColumns getColumns(Connection connection, Class<?>... types) {
+        return createQuery().getColumns(connection, types);
+    }
+
+    public <T> Stream<T> stream(Class<T> type) {
+        return createQuery().stream(type);
+    }
+
+    public <T> Stream<T> stream(Connection connection, Class<T> type) {
+        return createQuery().stream(connection, type);
+    }
+
+    public Stream<Object[]> stream(Class<?>... tableClasses) {
+        return createQuery().stream(tableClasses);
+    }
+
+    public Stream<Object[]> stream(Connection connection, Class<?>... tableClasses) {
+        return createQuery().stream(connection, tableClasses);
+    }
+
+    public <T> void forEach(Class<T> type, Consumer<? super T> action) {
+        createQuery().forEach(type, action);
+    }
+
+    public <T> void forEach(Connection connection, Class<T> type, Consumer<? super T> action) {
+        createQuery().forEach(connection, type, action);
+    }
+
     private Query createQuery() {
+        return createQuery(build());
+    }
+
+    private Query createQuery(String sql) {
         Query query;
 
-        query = getTableManager().createQuery(build());
+        query = getTableManager().createQuery(sql);
+
+        if (fetchSize > 0) {
+            query.setFetchSize(fetchSize);
+        }
 
         for (int i = 0; i < getParameters().size(); i++) {
             query.setParameter(i + 1, getParameters().get(i));
@@ -779,6 +1436,20 @@ public class SelectQueryBuilder extends QueryBuilder<SelectQueryBuilder> {
         return query;
     }
 
+    private class OrderByKey {
+        private final ColumnMetadata column;
+        private final String alias;
+        private final boolean descending;
+
+        public OrderByKey(ColumnMetadata column, String alias, boolean descending) {
+            this.column = column;
+
+            this.alias = alias;
+
+            this.descending = descending;
+        }
+    }
+
     private class FromClauseTable {
         private final TableMetadata table;
         private final String alias;
@@ -33,4 +33,6 @@ public @interface SequenceGenerator {
     String schema() default "";
 
     int initialValue() default 1;
+
+    int allocationSize() default 1;
 }
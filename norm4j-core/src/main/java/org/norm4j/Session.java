@@ -0,0 +1,351 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public class Session implements AutoCloseable {
+    private final TableManager tableManager;
+    private final Connection connection;
+    private final UnitOfWork unitOfWork;
+    private final boolean autoCommit;
+    private FlushMode flushMode;
+    private boolean closed;
+
+    public Session(TableManager tableManager) {
+        StatementCache statementCache;
+
+        this.tableManager = tableManager;
+
+        unitOfWork = new UnitOfWork(tableManager);
+
+        flushMode = tableManager.getFlushMode();
+
+        statementCache = tableManager.getStatementCache();
+
+        try {
+            if (statementCache == null) {
+                connection = tableManager.getConnection();
+            } else {
+                connection = statementCache.wrap(tableManager.getConnection());
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+
+        try {
+            autoCommit = connection.getAutoCommit();
+
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
+        } catch (SQLException e) {
+            try {
+                connection.close();
+            } catch (SQLException ce) {
+                e.addSuppressed(ce);
+            }
+
+            throw new RuntimeException(e);
+        }
+
+        tableManager.beginTracking(connection);
+    }
+
+    public TableManager getTableManager() {
+        return tableManager;
+    }
+
+    public Connection getConnection() {
+        flush();
+
+        return connection;
+    }
+
+    public FlushMode getFlushMode() {
+        return flushMode;
+    }
+
+    public Session setFlushMode(FlushMode flushMode) {
+        if (flushMode == FlushMode.IMMEDIATE) {
+            flush();
+        }
+
+        this.flushMode = flushMode;
+
+        return this;
+    }
+
+    public void flush() {
+        checkOpen();
+
+        unitOfWork.flush(connection);
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public void commit() {
+        flush();
+
+        try {
+            connection.commit();
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+
+        tableManager.commitTracking(connection);
+    }
+
+    public void rollback() {
+        checkOpen();
+
+        unitOfWork.clear();
+
+        tableManager.rollbackTracking(connection);
+
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void persist(Object record) {
+        if (isDeferred()) {
+            unitOfWork.persist(connection, record);
+        } else {
+            tableManager.persist(getConnection(), record);
+        }
+    }
+
+    public void persistAll(Collection<?> records) {
+        persistAll(records, tableManager.getBatchSize());
+    }
+
+    public void persistAll(Collection<?> records, int batchSize) {
+        if (isDeferred()) {
+            for (Object record : records) {
+                unitOfWork.persist(connection, record);
+            }
+        } else {
+            tableManager.persistAll(getConnection(), records, batchSize);
+        }
+    }
+
+    public <T> T merge(T record) {
+        if (isDeferred()) {
+            unitOfWork.merge(record);
+
+            return record;
+        } else {
+            return tableManager.merge(getConnection(), record);
+        }
+    }
+
+    public <T> Collection<T> mergeAll(Collection<T> records) {
+        return mergeAll(records, tableManager.getBatchSize());
+    }
+
+    public <T> Collection<T> mergeAll(Collection<T> records, int batchSize) {
+        if (isDeferred()) {
+            for (T record : records) {
+                unitOfWork.merge(record);
+            }
+
+            return records;
+        } else {
+            return tableManager.mergeAll(getConnection(), records, batchSize);
+        }
+    }
+
+    public <T> T upsert(T record) {
+        return tableManager.upsert(getConnection(), record);
+    }
+
+    public <T> T upsert(T record, UpsertOptions options) {
+        return tableManager.upsert(getConnection(), record, options);
+    }
+
+    public <T> Collection<T> upsertAll(Collection<T> records) {
+        return tableManager.upsertAll(getConnection(), records);
+    }
+
+    public <T> Collection<T> upsertAll(Collection<T> records, UpsertOptions options) {
+        return tableManager.upsertAll(getConnection(), records, options);
+    }
+
+    public <T> Collection<T> upsertAll(Collection<T> records, UpsertOptions options, int batchSize) {
+        return tableManager.upsertAll(getConnection(), records, options, batchSize);
+    }
+
+    public void remove(Object record) {
+        if (isDeferred()) {
+            unitOfWork.remove(record);
+        } else {
+            tableManager.remove(getConnection(), record);
+        }
+    }
+
+    public void remove(Class<?> tableClass, Object primaryKey) {
+        if (isDeferred()) {
+            unitOfWork.remove(tableClass, primaryKey);
+        } else {
+            tableManager.remove(getConnection(), tableClass, primaryKey);
+        }
+    }
+
+    public void removeAll(Collection<?> records) {
+        removeAll(records, tableManager.getBatchSize());
+    }
+
+    public void removeAll(Collection<?> records, int batchSize) {
+        if (isDeferred()) {
+            for (Object record : records) {
+                unitOfWork.remove(record);
+            }
+        } else {
+            tableManager.removeAll(getConnection(), records, batchSize);
+        }
+    }
+
+    public <T> T find(Class<T> tableClass, Object primaryKey) {
+        return tableManager.find(getConnection(), tableClass, primaryKey);
+    }
+
+    @SafeVarargs
+    public final <T, S, R> T joinOne(Object leftRecord,
+            Class<T> rightTableClass,
+            FieldGetter<S, R>... fieldGetters) {
+        return tableManager.joinOne(getConnection(), leftRecord, rightTableClass, fieldGetters);
+    }
+
+    public <T, R, L> T joinOne(L leftRecord,
+            FieldGetter<L, R> leftFieldGetter,
+            Class<T> rightTableClass,
+            FieldGetter<T, R> rightFieldGetter) {
+        return tableManager.joinOne(getConnection(),
+                leftRecord,
+                leftFieldGetter,
+                rightTableClass,
+                rightFieldGetter);
+    }
+
+    @SafeVarargs
+    public final <T, S, R> List<T> joinMany(Object leftRecord,
+            Class<T> rightTableClass,
+            FieldGetter<S, R>... fieldGetters) {
+        return tableManager.joinMany(getConnection(), leftRecord, rightTableClass, fieldGetters);
+    }
+
+    public <T, L, R> List<T> joinMany(L leftRecord,
+            FieldGetter<L, R> leftFieldGetter,
+            Class<T> rightTableClass,
+            FieldGetter<T, R> rightFieldGetter) {
+        return tableManager.joinMany(getConnection(),
+                leftRecord,
+                leftFieldGetter,
+                rightTableClass,
+                rightFieldGetter);
+    }
+
+    public <R, T> Map<R, List<T>> mapMany(List<R> records, Class<T> rightTableClass) {
+        return tableManager.mapMany(getConnection(), records, rightTableClass);
+    }
+
+    public void execute(String sql) {
+        tableManager.execute(getConnection(), sql);
+    }
+
+    public <T> List<T> getResultList(Query query, Class<T> type) {
+        return query.getResultList(getConnection(), type);
+    }
+
+    public int executeUpdate(Query query) {
+        return query.executeUpdate(getConnection());
+    }
+
+    @Override
+    public void close() {
+        SQLException exception;
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        unitOfWork.clear();
+
+        tableManager.endTracking(connection);
+
+        exception = null;
+
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            exception = e;
+        }
+
+        try {
+            if (autoCommit) {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            if (exception == null) {
+                exception = e;
+            } else {
+                exception.addSuppressed(e);
+            }
+        }
+
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            if (exception == null) {
+                exception = e;
+            } else {
+                exception.addSuppressed(e);
+            }
+        }
+
+        if (exception != null) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private boolean isDeferred() {
+        checkOpen();
+
+        return flushMode == FlushMode.COMMIT;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The session is closed.");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SnowflakeIdGenerator implements IdGenerator<Long> {
+    public static final long DEFAULT_EPOCH = 1735689600000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private final AtomicLong state;
+    private final long nodeId;
+    private final long epoch;
+
+    public SnowflakeIdGenerator() {
+        this(Long.getLong("norm4j.nodeId", 0));
+    }
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, DEFAULT_EPOCH);
+    }
+
+    public SnowflakeIdGenerator(long nodeId, long epoch) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Invalid node id " + nodeId);
+        }
+
+        if (epoch < 0 || epoch > System.currentTimeMillis()) {
+            throw new IllegalArgumentException("Invalid epoch " + epoch);
+        }
+
+        this.nodeId = nodeId;
+
+        this.epoch = epoch;
+
+        state = new AtomicLong();
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    @Override
+    public Long generate() {
+        long value;
+
+        value = reserve();
+
+        return ((value >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | (value & SEQUENCE_MASK);
+    }
+
+    private long reserve() {
+        for (;;) {
+            long previous;
+            long next;
+
+            previous = state.get();
+
+            next = Math.max((System.currentTimeMillis() - epoch) << SEQUENCE_BITS, previous + 1);
+
+            if (state.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+}
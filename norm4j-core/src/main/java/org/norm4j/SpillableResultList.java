@@ -0,0 +1,701 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.norm4j.metadata.ColumnMetadata;
+import org.norm4j.metadata.TableMetadata;
+
+public class SpillableResultList extends AbstractList<Object[]> implements AutoCloseable {
+    private static final byte NULL = 0;
+    private static final byte INTEGER = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte FLOAT = 4;
+    private static final byte TRUE = 5;
+    private static final byte FALSE = 6;
+    private static final byte SHORT = 7;
+    private static final byte BYTE = 8;
+    private static final byte STRING = 9;
+    private static final byte BIG_DECIMAL = 10;
+    private static final byte UUID_VALUE = 11;
+    private static final byte TIMESTAMP = 12;
+    private static final byte SQL_DATE = 13;
+    private static final byte DATE = 14;
+    private static final byte BYTES = 15;
+    private static final byte ENUM = 16;
+    private static final byte LOCAL_DATE = 17;
+    private static final byte LOCAL_TIME = 18;
+    private static final byte LOCAL_DATE_TIME = 19;
+    private static final byte INSTANT = 20;
+    private static final byte OFFSET_DATE_TIME = 21;
+    private static final byte TIME = 22;
+    private static final byte INT_ARRAY = 23;
+    private static final byte LONG_ARRAY = 24;
+    private static final byte FLOAT_ARRAY = 25;
+    private static final byte DOUBLE_ARRAY = 26;
+    private static final byte SHORT_ARRAY = 27;
+    private static final byte BOOLEAN_ARRAY = 28;
+    private static final byte OBJECT_ARRAY = 29;
+
+    private final TableMetadata[] tables;
+    private final List<Class<?>> types;
+    private final Map<Class<?>, Integer> typeIndexes;
+    private final long memoryBudget;
+    private final List<Object[]> memoryRows;
+    private final ByteArrayOutputStream rowBytes;
+    private final DataOutputStream rowOutput;
+    private long memorySize;
+    private Path file;
+    private OutputStream fileOutput;
+    private long fileSize;
+    private long[] offsets;
+    private int spilledCount;
+    private MappedByteBuffer[] segments;
+    private long[] segmentOffsets;
+    private int[] segmentRows;
+    private boolean closed;
+
+    SpillableResultList(TableManager tableManager,
+            Class<?>[] types,
+            long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+
+        tables = new TableMetadata[types.length];
+
+        for (int i = 0; i < types.length; i++) {
+            tables[i] = tableManager.getMetadataManager().getTableMetadata(types[i]);
+        }
+
+        this.types = new ArrayList<>();
+
+        typeIndexes = new HashMap<>();
+
+        memoryRows = new ArrayList<>();
+
+        rowBytes = new ByteArrayOutputStream();
+
+        rowOutput = new DataOutputStream(rowBytes);
+    }
+
+    void append(Object[] row) throws IOException {
+        if (file == null) {
+            memorySize += estimate(row);
+
+            if (memorySize <= memoryBudget) {
+                memoryRows.add(row);
+
+                return;
+            }
+
+            file = Files.createTempFile("norm4j-", ".rows");
+
+            file.toFile().deleteOnExit();
+
+            fileOutput = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024);
+
+            offsets = new long[1024];
+        }
+
+        rowBytes.reset();
+
+        writeRow(row);
+
+        if (spilledCount == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+
+        offsets[spilledCount++] = fileSize;
+
+        rowBytes.writeTo(fileOutput);
+
+        fileSize += rowBytes.size();
+    }
+
+    SpillableResultList complete() throws IOException {
+        List<MappedByteBuffer> mapped;
+        List<Long> starts;
+        List<Integer> rows;
+
+        if (file == null) {
+            return this;
+        }
+
+        fileOutput.close();
+
+        fileOutput = null;
+
+        mapped = new ArrayList<>();
+
+        starts = new ArrayList<>();
+
+        rows = new ArrayList<>();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int first;
+
+            first = 0;
+
+            for (int i = 1; i < spilledCount; i++) {
+                long end;
+
+                end = i + 1 < spilledCount ? offsets[i + 1] : fileSize;
+
+                if (end - offsets[first] > Integer.MAX_VALUE) {
+                    mapped.add(channel.map(FileChannel.MapMode.READ_ONLY,
+                            offsets[first],
+                            offsets[i] - offsets[first]));
+
+                    starts.add(offsets[first]);
+
+                    rows.add(first);
+
+                    first = i;
+                }
+            }
+
+            mapped.add(channel.map(FileChannel.MapMode.READ_ONLY,
+                    offsets[first],
+                    fileSize - offsets[first]));
+
+            starts.add(offsets[first]);
+
+            rows.add(first);
+        }
+
+        segments = mapped.toArray(new MappedByteBuffer[0]);
+
+        segmentOffsets = starts.stream().mapToLong(Long::longValue).toArray();
+
+        segmentRows = rows.stream().mapToInt(Integer::intValue).toArray();
+
+        return this;
+    }
+
+    public boolean isSpilled() {
+        return file != null;
+    }
+
+    public int getMemoryRowCount() {
+        return memoryRows.size();
+    }
+
+    public int getSpilledRowCount() {
+        return spilledCount;
+    }
+
+    @Override
+    public int size() {
+        return memoryRows.size() + spilledCount;
+    }
+
+    @Override
+    public Object[] get(int index) {
+        ByteBuffer buffer;
+        int segment;
+        int row;
+
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index "
+                    + index
+                    + " out of bounds for size "
+                    + size());
+        }
+
+        if (index < memoryRows.size()) {
+            return memoryRows.get(index);
+        }
+
+        if (closed) {
+            throw new IllegalStateException("Result list is closed.");
+        }
+
+        row = index - memoryRows.size();
+
+        segment = Arrays.binarySearch(segmentRows, row);
+
+        if (segment < 0) {
+            segment = -segment - 2;
+        }
+
+        buffer = segments[segment].duplicate();
+
+        buffer.position((int) (offsets[row] - segmentOffsets[segment]));
+
+        return readRow(buffer);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        segments = null;
+
+        if (file != null) {
+            try {
+                if (fileOutput != null) {
+                    fileOutput.close();
+                }
+
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private void writeRow(Object[] row) throws IOException {
+        rowOutput.writeShort(row.length);
+
+        for (int slot = 0; slot < row.length; slot++) {
+            TableMetadata table;
+
+            table = slot < tables.length ? tables[slot] : null;
+
+            if (table == null) {
+                writeValue(row[slot]);
+            } else if (row[slot] == null) {
+                rowOutput.writeByte(NULL);
+            } else {
+                rowOutput.writeByte(TRUE);
+
+                for (ColumnMetadata column : table.getColumns()) {
+                    writeValue(column.getValue(row[slot]));
+                }
+            }
+        }
+
+        rowOutput.flush();
+    }
+
+    private Object[] readRow(ByteBuffer buffer) {
+        Object[] row;
+
+        row = new Object[buffer.getShort()];
+
+        for (int slot = 0; slot < row.length; slot++) {
+            TableMetadata table;
+
+            table = slot < tables.length ? tables[slot] : null;
+
+            if (table == null) {
+                row[slot] = readValue(buffer);
+            } else if (buffer.get() != NULL) {
+                Object[] values;
+
+                values = new Object[table.getColumns().size()];
+
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = readValue(buffer);
+                }
+
+                row[slot] = table.getCreator().newInstance(values);
+            }
+        }
+
+        return row;
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            rowOutput.writeByte(NULL);
+        } else if (value instanceof Integer) {
+            rowOutput.writeByte(INTEGER);
+            rowOutput.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            rowOutput.writeByte(LONG);
+            rowOutput.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            rowOutput.writeByte(DOUBLE);
+            rowOutput.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            rowOutput.writeByte(FLOAT);
+            rowOutput.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            rowOutput.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Short) {
+            rowOutput.writeByte(SHORT);
+            rowOutput.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            rowOutput.writeByte(BYTE);
+            rowOutput.writeByte((Byte) value);
+        } else if (value instanceof String) {
+            rowOutput.writeByte(STRING);
+            writeBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof BigDecimal) {
+            rowOutput.writeByte(BIG_DECIMAL);
+            writeBytes(value.toString().getBytes(StandardCharsets.US_ASCII));
+        } else if (value instanceof UUID) {
+            rowOutput.writeByte(UUID_VALUE);
+            rowOutput.writeLong(((UUID) value).getMostSignificantBits());
+            rowOutput.writeLong(((UUID) value).getLeastSignificantBits());
+        } else if (value.getClass() == java.sql.Timestamp.class) {
+            rowOutput.writeByte(TIMESTAMP);
+            rowOutput.writeLong(((java.sql.Timestamp) value).getTime());
+            rowOutput.writeInt(((java.sql.Timestamp) value).getNanos());
+        } else if (value.getClass() == java.sql.Date.class) {
+            rowOutput.writeByte(SQL_DATE);
+            rowOutput.writeLong(((java.sql.Date) value).getTime());
+        } else if (value.getClass() == java.util.Date.class) {
+            rowOutput.writeByte(DATE);
+            rowOutput.writeLong(((java.util.Date) value).getTime());
+        } else if (value.getClass() == java.sql.Time.class) {
+            rowOutput.writeByte(TIME);
+            rowOutput.writeLong(((java.sql.Time) value).getTime());
+        } else if (value instanceof Enum) {
+            rowOutput.writeByte(ENUM);
+            rowOutput.writeShort(getTypeIndex(((Enum<?>) value).getDeclaringClass()));
+            rowOutput.writeInt(((Enum<?>) value).ordinal());
+        } else if (value instanceof LocalDate) {
+            rowOutput.writeByte(LOCAL_DATE);
+            rowOutput.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            rowOutput.writeByte(LOCAL_TIME);
+            rowOutput.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            rowOutput.writeByte(LOCAL_DATE_TIME);
+            rowOutput.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            rowOutput.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else if (value instanceof Instant) {
+            rowOutput.writeByte(INSTANT);
+            rowOutput.writeLong(((Instant) value).getEpochSecond());
+            rowOutput.writeInt(((Instant) value).getNano());
+        } else if (value instanceof OffsetDateTime) {
+            rowOutput.writeByte(OFFSET_DATE_TIME);
+            rowOutput.writeLong(((OffsetDateTime) value).toLocalDate().toEpochDay());
+            rowOutput.writeLong(((OffsetDateTime) value).toLocalTime().toNanoOfDay());
+            rowOutput.writeInt(((OffsetDateTime) value).getOffset().getTotalSeconds());
+        } else if (value instanceof byte[]) {
+            rowOutput.writeByte(BYTES);
+            writeBytes((byte[]) value);
+        } else if (value instanceof int[]) {
+            rowOutput.writeByte(INT_ARRAY);
+            rowOutput.writeInt(((int[]) value).length);
+
+            for (int element : (int[]) value) {
+                rowOutput.writeInt(element);
+            }
+        } else if (value instanceof long[]) {
+            rowOutput.writeByte(LONG_ARRAY);
+            rowOutput.writeInt(((long[]) value).length);
+
+            for (long element : (long[]) value) {
+                rowOutput.writeLong(element);
+            }
+        } else if (value instanceof float[]) {
+            rowOutput.writeByte(FLOAT_ARRAY);
+            rowOutput.writeInt(((float[]) value).length);
+
+            for (float element : (float[]) value) {
+                rowOutput.writeFloat(element);
+            }
+        } else if (value instanceof double[]) {
+            rowOutput.writeByte(DOUBLE_ARRAY);
+            rowOutput.writeInt(((double[]) value).length);
+
+            for (double element : (double[]) value) {
+                rowOutput.writeDouble(element);
+            }
+        } else if (value instanceof short[]) {
+            rowOutput.writeByte(SHORT_ARRAY);
+            rowOutput.writeInt(((short[]) value).length);
+
+            for (short element : (short[]) value) {
+                rowOutput.writeShort(element);
+            }
+        } else if (value instanceof boolean[]) {
+            rowOutput.writeByte(BOOLEAN_ARRAY);
+            rowOutput.writeInt(((boolean[]) value).length);
+
+            for (boolean element : (boolean[]) value) {
+                rowOutput.writeBoolean(element);
+            }
+        } else if (value instanceof Object[]) {
+            rowOutput.writeByte(OBJECT_ARRAY);
+            rowOutput.writeShort(getTypeIndex(value.getClass().getComponentType()));
+            rowOutput.writeInt(((Object[]) value).length);
+
+            for (Object element : (Object[]) value) {
+                writeValue(element);
+            }
+        } else {
+            throw new IllegalStateException("Cannot spill value of type "
+                    + value.getClass().getName());
+        }
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        rowOutput.writeInt(bytes.length);
+        rowOutput.write(bytes);
+    }
+
+    private int getTypeIndex(Class<?> type) {
+        Integer index;
+
+        index = typeIndexes.get(type);
+
+        if (index == null) {
+            if (types.size() == 0xFFFF) {
+                throw new IllegalStateException("Too many spilled value types.");
+            }
+
+            index = types.size();
+
+            types.add(type);
+
+            typeIndexes.put(type, index);
+        }
+
+        return index;
+    }
+
+    private Object readValue(ByteBuffer buffer) {
+        Object[] objects;
+        int length;
+        byte tag;
+
+        tag = buffer.get();
+
+        switch (tag) {
+            case NULL:
+                return null;
+            case INTEGER:
+                return buffer.getInt();
+            case LONG:
+                return buffer.getLong();
+            case DOUBLE:
+                return buffer.getDouble();
+            case FLOAT:
+                return buffer.getFloat();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case SHORT:
+                return buffer.getShort();
+            case BYTE:
+                return buffer.get();
+            case STRING:
+                return new String(readBytes(buffer), StandardCharsets.UTF_8);
+            case BIG_DECIMAL:
+                return new BigDecimal(new String(readBytes(buffer), StandardCharsets.US_ASCII));
+            case UUID_VALUE:
+                return new UUID(buffer.getLong(), buffer.getLong());
+            case TIMESTAMP:
+                java.sql.Timestamp timestamp;
+
+                timestamp = new java.sql.Timestamp(buffer.getLong());
+
+                timestamp.setNanos(buffer.getInt());
+
+                return timestamp;
+            case SQL_DATE:
+                return new java.sql.Date(buffer.getLong());
+            case DATE:
+                return new java.util.Date(buffer.getLong());
+            case TIME:
+                return new java.sql.Time(buffer.getLong());
+            case ENUM:
+                return types.get(Short.toUnsignedInt(buffer.getShort())).getEnumConstants()[buffer.getInt()];
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(buffer.getLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(buffer.getLong());
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.of(LocalDate.ofEpochDay(buffer.getLong()),
+                        LocalTime.ofNanoOfDay(buffer.getLong()));
+            case INSTANT:
+                return Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            case OFFSET_DATE_TIME:
+                return OffsetDateTime.of(LocalDate.ofEpochDay(buffer.getLong()),
+                        LocalTime.ofNanoOfDay(buffer.getLong()),
+                        ZoneOffset.ofTotalSeconds(buffer.getInt()));
+            case BYTES:
+                return readBytes(buffer);
+            case INT_ARRAY:
+                int[] ints;
+
+                ints = new int[buffer.getInt()];
+
+                buffer.asIntBuffer().get(ints);
+
+                buffer.position(buffer.position() + ints.length * Integer.BYTES);
+
+                return ints;
+            case LONG_ARRAY:
+                long[] longs;
+
+                longs = new long[buffer.getInt()];
+
+                buffer.asLongBuffer().get(longs);
+
+                buffer.position(buffer.position() + longs.length * Long.BYTES);
+
+                return longs;
+            case FLOAT_ARRAY:
+                float[] floats;
+
+                floats = new float[buffer.getInt()];
+
+                buffer.asFloatBuffer().get(floats);
+
+                buffer.position(buffer.position() + floats.length * Float.BYTES);
+
+                return floats;
+            case DOUBLE_ARRAY:
+                double[] doubles;
+
+                doubles = new double[buffer.getInt()];
+
+                buffer.asDoubleBuffer().get(doubles);
+
+                buffer.position(buffer.position() + doubles.length * Double.BYTES);
+
+                return doubles;
+            case SHORT_ARRAY:
+                short[] shorts;
+
+                shorts = new short[buffer.getInt()];
+
+                buffer.asShortBuffer().get(shorts);
+
+                buffer.position(buffer.position() + shorts.length * Short.BYTES);
+
+                return shorts;
+            case BOOLEAN_ARRAY:
+                boolean[] booleans;
+
+                booleans = new boolean[buffer.getInt()];
+
+                for (int i = 0; i < booleans.length; i++) {
+                    booleans[i] = buffer.get() != 0;
+                }
+
+                return booleans;
+            case OBJECT_ARRAY:
+                Class<?> componentType;
+
+                componentType = types.get(Short.toUnsignedInt(buffer.getShort()));
+
+                length = buffer.getInt();
+
+                objects = (Object[]) java.lang.reflect.Array.newInstance(componentType, length);
+
+                for (int i = 0; i < length; i++) {
+                    objects[i] = readValue(buffer);
+                }
+
+                return objects;
+            default:
+                throw new IllegalStateException("Invalid spilled value tag " + tag);
+        }
+    }
+
+    private byte[] readBytes(ByteBuffer buffer) {
+        byte[] bytes;
+
+        bytes = new byte[buffer.getInt()];
+
+        buffer.get(bytes);
+
+        return bytes;
+    }
+
+    private long estimate(Object[] row) {
+        long size;
+
+        size = 16 + 8L * row.length;
+
+        for (int slot = 0; slot < row.length; slot++) {
+            TableMetadata table;
+
+            table = slot < tables.length ? tables[slot] : null;
+
+            if (table == null || row[slot] == null) {
+                size += estimate(row[slot]);
+            } else {
+                size += 16;
+
+                for (ColumnMetadata column : table.getColumns()) {
+                    size += 8 + estimate(column.getValue(row[slot]));
+                }
+            }
+        }
+
+        return size;
+    }
+
+    private static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof String) {
+            return 40 + ((String) value).length();
+        } else if (value instanceof Number || value instanceof Boolean) {
+            return 16;
+        } else if (value instanceof byte[]) {
+            return 16 + ((byte[]) value).length;
+        } else if (value instanceof Object[]) {
+            long size;
+
+            size = 16;
+
+            for (Object element : (Object[]) value) {
+                size += 8 + estimate(element);
+            }
+
+            return size;
+        } else if (value.getClass().isArray()) {
+            return 16 + 8L * java.lang.reflect.Array.getLength(value);
+        } else {
+            return 32;
+        }
+    }
+}
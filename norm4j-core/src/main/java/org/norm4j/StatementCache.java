@@ -0,0 +1,332 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class StatementCache {
+    private final AtomicLong evictionCount;
+    private final AtomicLong missCount;
+    private final AtomicLong hitCount;
+    private final int maxSize;
+
+    public StatementCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Invalid statement cache size " + maxSize);
+        }
+
+        this.maxSize = maxSize;
+
+        evictionCount = new AtomicLong();
+
+        missCount = new AtomicLong();
+
+        hitCount = new AtomicLong();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public void resetCounts() {
+        evictionCount.set(0);
+
+        missCount.set(0);
+
+        hitCount.set(0);
+    }
+
+    public Connection wrap(Connection connection) {
+        if (Proxy.isProxyClass(connection.getClass()) &&
+                Proxy.getInvocationHandler(connection) instanceof CachedConnection) {
+            return connection;
+        }
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new CachedConnection(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private class CachedConnection implements InvocationHandler {
+        private final Map<String, CachedStatement> statements;
+        private final Connection connection;
+
+        public CachedConnection(Connection connection) {
+            this.connection = connection;
+
+            statements = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("prepareStatement")) {
+                return prepareStatement(proxy, method, args);
+            } else if (method.getName().equals("close")) {
+                return close(method, args);
+            } else if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            } else if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+
+            return StatementCache.invoke(connection, method, args);
+        }
+
+        private synchronized PreparedStatement prepareStatement(Object proxy,
+                Method method,
+                Object[] args) throws Throwable {
+            CachedStatement statement;
+            PreparedStatement ps;
+            String key;
+
+            key = getKey(args);
+
+            statement = statements.get(key);
+
+            if (statement != null) {
+                if (statement.statement.isClosed()) {
+                    statements.remove(key);
+                } else if (!statement.inUse) {
+                    statement.inUse = true;
+
+                    hitCount.incrementAndGet();
+
+                    return statement.proxy;
+                } else {
+                    missCount.incrementAndGet();
+
+                    return (PreparedStatement) StatementCache.invoke(connection, method, args);
+                }
+            }
+
+            missCount.incrementAndGet();
+
+            ps = (PreparedStatement) StatementCache.invoke(connection, method, args);
+
+            statement = new CachedStatement(ps, (Connection) proxy);
+
+            statement.inUse = true;
+
+            statements.put(key, statement);
+
+            evict();
+
+            return statement.proxy;
+        }
+
+        private void evict() throws SQLException {
+            List<CachedStatement> evicted;
+
+            if (statements.size() <= maxSize) {
+                return;
+            }
+
+            evicted = new ArrayList<>();
+
+            for (Map.Entry<String, CachedStatement> entry : statements.entrySet()) {
+                if (statements.size() - evicted.size() <= maxSize) {
+                    break;
+                }
+
+                if (!entry.getValue().inUse) {
+                    evicted.add(entry.getValue());
+                }
+            }
+
+            for (CachedStatement statement : evicted) {
+                statements.values().remove(statement);
+
+                statement.statement.close();
+
+                evictionCount.incrementAndGet();
+            }
+        }
+
+        private Object close(Method method, Object[] args) throws Throwable {
+            SQLException exception;
+
+            exception = closeStatements();
+
+            try {
+                StatementCache.invoke(connection, method, args);
+            } catch (Throwable e) {
+                if (exception != null) {
+                    e.addSuppressed(exception);
+                }
+
+                throw e;
+            }
+
+            if (exception != null) {
+                throw exception;
+            }
+
+            return null;
+        }
+
+        private synchronized SQLException closeStatements() {
+            SQLException exception;
+
+            exception = null;
+
+            for (CachedStatement statement : statements.values()) {
+                try {
+                    statement.statement.close();
+                } catch (SQLException e) {
+                    if (exception == null) {
+                        exception = e;
+                    } else {
+                        exception.addSuppressed(e);
+                    }
+                }
+            }
+
+            statements.clear();
+
+            return exception;
+        }
+
+        private String getKey(Object[] args) {
+            StringBuilder key;
+
+            key = new StringBuilder();
+
+            key.append(args[0]);
+
+            for (int i = 1; i < args.length; i++) {
+                key.append('\u0000');
+
+                if (args[i] instanceof int[]) {
+                    key.append(Arrays.toString((int[]) args[i]));
+                } else if (args[i] instanceof Object[]) {
+                    key.append(Arrays.toString((Object[]) args[i]));
+                } else {
+                    key.append(args[i]);
+                }
+            }
+
+            return key.toString();
+        }
+    }
+
+    private static class CachedStatement implements InvocationHandler {
+        private final PreparedStatement statement;
+        private final PreparedStatement proxy;
+        private final Connection connection;
+        private final int fetchSize;
+        private final int maxRows;
+        private final int queryTimeout;
+        private volatile boolean inUse;
+
+        public CachedStatement(PreparedStatement statement, Connection connection) throws SQLException {
+            this.statement = statement;
+
+            this.connection = connection;
+
+            fetchSize = statement.getFetchSize();
+
+            maxRows = statement.getMaxRows();
+
+            queryTimeout = statement.getQueryTimeout();
+
+            proxy = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class },
+                    this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("close")) {
+                release();
+
+                return null;
+            } else if (method.getName().equals("isClosed")) {
+                return !inUse || statement.isClosed();
+            } else if (method.getName().equals("getConnection")) {
+                return connection;
+            } else if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            } else if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+
+            return StatementCache.invoke(statement, method, args);
+        }
+
+        private void release() throws SQLException {
+            if (!inUse) {
+                return;
+            }
+
+            if (!statement.isClosed()) {
+                statement.clearParameters();
+
+                statement.clearBatch();
+
+                if (statement.getFetchSize() != fetchSize) {
+                    statement.setFetchSize(fetchSize);
+                }
+
+                if (statement.getMaxRows() != maxRows) {
+                    statement.setMaxRows(maxRows);
+                }
+
+                if (statement.getQueryTimeout() != queryTimeout) {
+                    statement.setQueryTimeout(queryTimeout);
+                }
+            }
+
+            inUse = false;
+        }
+    }
+}
@@ -37,4 +37,6 @@ public @interface TableGenerator {
     String valueColumnName() default "";
 
     int initialValue() default 0;
+
+    int allocationSize() default 1;
 }
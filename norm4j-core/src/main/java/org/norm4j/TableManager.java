@@ -24,33 +24,70 @@ import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.sql.DataSource;
 
 import org.norm4j.dialects.SQLDialect;
+import org.norm4j.mappings.Projection;
+import org.norm4j.mappings.RecordMapper;
 import org.norm4j.metadata.ColumnMetadata;
 import org.norm4j.metadata.MetadataManager;
+import org.norm4j.metadata.SequenceIdGenerator;
 import org.norm4j.metadata.TableIdGenerator;
 import org.norm4j.metadata.TableMetadata;
-
-import com.fasterxml.uuid.Generators;
+import org.norm4j.metadata.TableStatements;
 
 public class TableManager {
     private final MetadataManager metadataManager;
+    private final Map<ColumnMetadata, TableIdGenerator> tableIdGenerators;
+    private final Map<String, SequenceIdGenerator> sequenceIdGenerators;
+    private final Map<Class<?>, IdGenerator<?>> idGenerators;
+    private final Map<List<Object>, ResultPlan> resultPlans;
+    private final Map<List<Object>, Projection<?>> projections;
+    private final UuidV7Generator uuidGenerator;
     private final DataSource dataSource;
+    private StatementCache statementCache;
+    private ChangeTracker changeTracker;
+    private FlushMode flushMode;
+    private BulkMode bulkMode;
+    private int batchSize;
 
     public TableManager(DataSource dataSource, MetadataManager metadataManager) {
         this.dataSource = dataSource;
 
         this.metadataManager = metadataManager;
+
+        tableIdGenerators = new ConcurrentHashMap<>();
+
+        sequenceIdGenerators = new ConcurrentHashMap<>();
+
+        idGenerators = new ConcurrentHashMap<>();
+
+        resultPlans = new ConcurrentHashMap<>();
+
+        projections = new ConcurrentHashMap<>();
+
+        uuidGenerator = new UuidV7Generator();
+
+        flushMode = FlushMode.IMMEDIATE;
+
+        bulkMode = BulkMode.BATCH;
+
+        batchSize = 1000;
     }
 
     public MetadataManager getMetadataManager() {
@@ -61,459 +98,729 @@ public class TableManager {
         return dataSource;
     }
 
-    public SQLDialect getDialect() {
-        if (metadataManager.getDialect() == null) {
-            try (Connection connection = dataSource.getConnection()) {
-                return metadataManager.initDialect(connection);
-            } catch (SQLException e) {
-                throw new RuntimeException(e);
-            }
-        } else {
-            return metadataManager.getDialect();
-        }
+    public int getBatchSize() {
+        return batchSize;
     }
 
-    public void persist(Object record) {
-        List<ColumnMetadata> generatedKeyColumns;
-        List<ColumnMetadata> outputColumns;
-        TableMetadata table;
-        Class<?> tableClass;
-        int index;
+    public TableManager setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch size " + batchSize);
+        }
 
-        tableClass = record.getClass();
+        this.batchSize = batchSize;
 
-        table = getTable(tableClass);
+        return this;
+    }
 
-        generatedKeyColumns = new ArrayList<>();
+    public BulkMode getBulkMode() {
+        return bulkMode;
+    }
 
-        outputColumns = new ArrayList<>();
+    public TableManager setBulkMode(BulkMode bulkMode) {
+        this.bulkMode = bulkMode;
 
-        index = 1;
+        return this;
+    }
 
-        try (Connection connection = dataSource.getConnection()) {
-            SQLDialect dialect;
+    public boolean isChangeTracking() {
+        return changeTracker != null;
+    }
 
-            dialect = metadataManager.initDialect(connection);
+    public TableManager setChangeTracking(boolean changeTracking) {
+        if (!changeTracking) {
+            changeTracker = null;
+        } else if (changeTracker == null) {
+            changeTracker = new ChangeTracker();
+        }
 
-            try (PreparedStatement ps = dialect.createPersistStatement(connection, table)) {
-                for (ColumnMetadata column : table.getColumns()) {
-                    GeneratedValue generatedValue;
+        return this;
+    }
 
-                    generatedValue = (GeneratedValue) column.getAnnotations()
-                            .get(GeneratedValue.class);
+    public FlushMode getFlushMode() {
+        return flushMode;
+    }
 
-                    if (generatedValue != null) {
-                        if (generatedValue.strategy() == GenerationType.SEQUENCE &&
-                                !dialect.isGeneratedKeysForSequenceSupported()) {
-                            outputColumns.add(column);
+    public TableManager setFlushMode(FlushMode flushMode) {
+        this.flushMode = flushMode;
 
-                            continue;
-                        } else if (generatedValue.strategy() == GenerationType.AUTO ||
-                                generatedValue.strategy() == GenerationType.IDENTITY ||
-                                (generatedValue.strategy() == GenerationType.SEQUENCE &&
-                                        dialect.isGeneratedKeysForSequenceSupported())) {
-                            generatedKeyColumns.add(column);
+        return this;
+    }
 
-                            continue;
-                        } else if (generatedValue.strategy() == GenerationType.TABLE) {
-                            TableIdGenerator idGenerator;
+    public WriteBehindQueue createWriteBehindQueue(int capacity, int flushSize, long flushIntervalMillis) {
+        return new WriteBehindQueue(this, capacity, flushSize, flushIntervalMillis);
+    }
 
-                            idGenerator = new TableIdGenerator((TableGenerator) column
-                                    .getAnnotations().get(TableGenerator.class));
+    public <T> HotCounter createHotCounter(FieldGetter<T, ?> counterField, long flushIntervalMillis) {
+        return new HotCounter(this,
+                metadataManager.getColumnMetadata(counterField),
+                flushIntervalMillis);
+    }
 
-                            setRecordValue(record, column, idGenerator
-                                    .generateId(connection,
-                                            dialect,
-                                            table.getTableName()
-                                                    + "_"
-                                                    + column.getColumnName()));
-                        } else if (generatedValue.strategy() == GenerationType.UUID) {
-                            UUID id;
+    public TableManager registerIdGenerator(IdGenerator<?> idGenerator) {
+        idGenerators.put(idGenerator.getClass(), idGenerator);
 
-                            id = Generators.timeBasedEpochGenerator().generate();
+        return this;
+    }
 
-                            setRecordValue(record, column, id);
-                        }
-                    }
+    public StatementCache getStatementCache() {
+        return statementCache;
+    }
 
-                    setColumnValue(record, column, index, dialect, ps);
+    public TableManager setStatementCacheSize(int statementCacheSize) {
+        if (statementCacheSize < 0) {
+            throw new IllegalArgumentException("Invalid statement cache size " + statementCacheSize);
+        }
 
-                    index++;
-                }
+        if (statementCacheSize == 0) {
+            statementCache = null;
+        } else {
+            statementCache = new StatementCache(statementCacheSize);
+        }
 
-                if (outputColumns.isEmpty()) {
-                    ps.executeUpdate();
-                } else {
-                    try (ResultSet rs = ps.executeQuery()) {
-                        if (rs.next()) {
-                            for (int i = 0; i < outputColumns.size(); i++) {
-                                ColumnMetadata outputColumn;
+        return this;
+    }
 
-                                outputColumn = outputColumns.get(i);
+    public Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
 
-                                setRecordValue(record,
-                                        outputColumn,
-                                        rs.getObject(i + 1));
-                            }
-                        }
-                    }
-                }
+    public Session openSession() {
+        return new Session(this);
+    }
 
-                if (!generatedKeyColumns.isEmpty()) {
-                    try (ResultSet rs = ps.getGeneratedKeys()) {
-                        if (rs.next()) {
-                            for (int i = 0; i < generatedKeyColumns.size(); i++) {
-                                ColumnMetadata generatedColumn;
-                                Object generatedKey;
-
-                                generatedKey = rs.getObject(i + 1);
-
-                                generatedColumn = generatedKeyColumns.get(i);
-
-                                if (generatedKey instanceof Number) {
-                                    if (generatedColumn.getField().getType() == short.class ||
-                                            generatedColumn.getField().getType() == Short.class) {
-                                        generatedKey = ((Number) generatedKey).shortValue();
-                                    } else if (generatedColumn.getField().getType() == int.class ||
-                                            generatedColumn.getField().getType() == Integer.class) {
-                                        generatedKey = ((Number) generatedKey).intValue();
-                                    } else if (generatedColumn.getField().getType() == long.class ||
-                                            generatedColumn.getField().getType() == Long.class) {
-                                        generatedKey = ((Number) generatedKey).longValue();
-                                    }
-                                }
+    public void inTransaction(Consumer<Session> work) {
+        try (Session session = openSession()) {
+            work.accept(session);
 
-                                setRecordValue(record,
-                                        generatedColumn,
-                                        generatedKey);
-                            }
-                        }
-                    }
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
+            session.commit();
         }
     }
 
-    public <T> T merge(T record) {
-        List<ColumnMetadata> primaryKeys;
-        TableMetadata table;
-        Class<?> tableClass;
-        int index;
-
-        tableClass = record.getClass();
-
-        table = getTable(tableClass);
+    public <R> R callInTransaction(Function<Session, R> work) {
+        try (Session session = openSession()) {
+            R result;
 
-        try (Connection connection = dataSource.getConnection()) {
-            SQLDialect dialect;
-            StringBuilder sql;
+            result = work.apply(session);
 
-            dialect = metadataManager.initDialect(connection);
+            session.commit();
 
-            primaryKeys = table.getPrimaryKeys();
+            return result;
+        }
+    }
 
-            if (primaryKeys.isEmpty()) {
-                throw new IllegalStateException("No primary key found for class "
-                        + tableClass.getName());
+    public SQLDialect getDialect() {
+        if (metadataManager.getDialect() == null) {
+            try (Connection connection = getConnection()) {
+                return metadataManager.initDialect(connection);
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
             }
+        } else {
+            return metadataManager.getDialect();
+        }
+    }
 
-            sql = new StringBuilder();
-
-            sql.append("UPDATE ");
-            sql.append(dialect.getTableName(table));
-            sql.append(" SET ");
+    public void persist(Object record) {
+        try (Connection connection = getConnection()) {
+            persist(connection, record);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-            index = 1;
+    public void persist(Connection connection, Object record) {
+        TableMetadata table;
+        SQLDialect dialect;
 
-            for (ColumnMetadata column : table.getColumns()) {
-                if (!column.isPrimaryKey()) {
-                    if (index > 1) {
-                        sql.append(", ");
-                    }
+        table = getTable(record.getClass());
 
-                    sql.append(column.getColumnName());
-                    sql.append(" = ?");
+        dialect = metadataManager.initDialect(connection);
 
-                    index++;
-                }
-            }
+        try (PreparedStatement ps = dialect.createPersistStatement(connection, table)) {
+            setPersistValues(record, table, connection, dialect, ps, 1, true);
 
-            index = 1;
+            executePersist(record, table, dialect, ps);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
 
-            for (ColumnMetadata column : primaryKeys) {
-                if (index == 1) {
-                    sql.append(" WHERE ");
-                } else {
-                    sql.append(" AND ");
-                }
+        track(connection, record, table);
+    }
 
-                sql.append(column.getColumnName());
-                sql.append("=?");
+    public void persistAll(Collection<?> records) {
+        persistAll(records, batchSize);
+    }
 
-                index++;
-            }
+    public void persistAll(Collection<?> records, int batchSize) {
+        if (records.isEmpty()) {
+            return;
+        }
 
-            index = 1;
+        try (Connection connection = getConnection()) {
+            persistAll(connection, records, batchSize);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-            try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
-                for (ColumnMetadata column : table.getColumns()) {
-                    if (!column.isPrimaryKey()) {
-                        setColumnValue(record, column, index, dialect, ps);
+    public void persistAll(Connection connection, Collection<?> records) {
+        persistAll(connection, records, batchSize);
+    }
 
-                        index++;
-                    }
-                }
+    public void persistAll(Connection connection, Collection<?> records, int batchSize) {
+        SQLDialect dialect;
 
-                for (ColumnMetadata column : primaryKeys) {
-                    setColumnValue(record, column, index, dialect, ps);
+        if (records.isEmpty()) {
+            return;
+        }
 
-                    index++;
-                }
+        dialect = metadataManager.initDialect(connection);
 
-                ps.executeUpdate();
+        try {
+            for (Map.Entry<TableMetadata, List<Object>> entry : groupByTable(records).entrySet()) {
+                persistTable(entry.getKey(),
+                        entry.getValue(),
+                        batchSize,
+                        connection,
+                        dialect,
+                        true);
             }
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
-
-        return record;
     }
 
-    public void remove(Object record) {
-        List<ColumnMetadata> primaryKeys;
+    public void generateValues(Connection connection, Object record) {
         TableMetadata table;
-        Class<?> tableClass;
-        int index;
+        SQLDialect dialect;
 
-        tableClass = record.getClass();
+        table = getTable(record.getClass());
 
-        table = getTable(tableClass);
-
-        try (Connection connection = dataSource.getConnection()) {
-            SQLDialect dialect;
-            StringBuilder sql;
+        dialect = metadataManager.initDialect(connection);
 
-            dialect = metadataManager.initDialect(connection);
+        for (ColumnMetadata column : table.getColumns()) {
+            GeneratedValue generatedValue;
 
-            primaryKeys = table.getPrimaryKeys();
+            generatedValue = (GeneratedValue) column.getAnnotations()
+                    .get(GeneratedValue.class);
 
-            if (primaryKeys.isEmpty()) {
-                throw new IllegalStateException("No primary key found for class "
-                        + tableClass.getName());
+            if (generatedValue != null) {
+                generateValue(record, table, column, generatedValue, connection, dialect);
             }
+        }
+    }
 
-            sql = new StringBuilder();
+    void generateValues(Object record) {
+        TableMetadata table;
 
-            sql.append("DELETE FROM ");
-            sql.append(dialect.getTableName(table));
+        table = getTable(record.getClass());
 
-            index = 1;
+        for (ColumnMetadata column : table.getColumns()) {
+            GeneratedValue generatedValue;
 
-            for (ColumnMetadata column : primaryKeys) {
-                if (index == 1) {
-                    sql.append(" WHERE ");
-                } else {
-                    sql.append(" AND ");
-                }
+            generatedValue = (GeneratedValue) column.getAnnotations()
+                    .get(GeneratedValue.class);
 
-                sql.append(column.getColumnName());
-                sql.append(" = ?");
+            if (generatedValue != null &&
+                    (generatedValue.strategy() == GenerationType.TABLE || column.isPooledSequence())) {
+                try (Connection connection = getConnection()) {
+                    generateValues(connection, record);
+                } catch (SQLException e) {
+                    throw new RuntimeException(e);
+                }
 
-                index++;
+                return;
             }
+        }
 
-            index = 1;
-
-            try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
-                for (ColumnMetadata column : primaryKeys) {
-                    setColumnValue(record, column, index, dialect, ps);
+        for (ColumnMetadata column : table.getColumns()) {
+            GeneratedValue generatedValue;
 
-                    index++;
-                }
+            generatedValue = (GeneratedValue) column.getAnnotations()
+                    .get(GeneratedValue.class);
 
-                ps.executeUpdate();
+            if (generatedValue != null) {
+                generateValue(record, table, column, generatedValue, null, null);
             }
+        }
+    }
 
+    public <T> T merge(T record) {
+        try (Connection connection = getConnection()) {
+            return merge(connection, record);
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
     }
 
-    public void remove(Class<?> tableClass, Object primaryKey) {
-        List<ColumnMetadata> primaryKeys;
+    public <T> T merge(Connection connection, T record) {
+        List<ColumnMetadata> changedColumns;
         TableMetadata table;
-        int index;
+        SQLDialect dialect;
 
-        table = getTable(tableClass);
+        table = getTable(record.getClass());
 
-        try (Connection connection = dataSource.getConnection()) {
-            SQLDialect dialect;
-            StringBuilder sql;
+        dialect = metadataManager.initDialect(connection);
 
-            dialect = metadataManager.initDialect(connection);
+        changedColumns = getChangedColumns(connection, record, table);
 
-            primaryKeys = table.getPrimaryKeys();
+        if (changedColumns == null) {
+            try (PreparedStatement ps = connection.prepareStatement(table.getStatements(dialect).getMergeSql())) {
+                setMergeValues(record, table, dialect, ps);
 
-            if (primaryKeys.isEmpty()) {
-                throw new IllegalStateException("No primary key found for class "
-                        + tableClass.getName());
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
             }
 
-            sql = new StringBuilder();
+            track(connection, record, table);
+        } else if (!changedColumns.isEmpty()) {
+            try (PreparedStatement ps = connection.prepareStatement(table.getStatements(dialect)
+                    .getMergeSql(changedColumns))) {
+                setMergeValues(record, table, changedColumns, dialect, ps);
 
-            sql.append("DELETE FROM ");
-            sql.append(dialect.getTableName(table));
-
-            index = 1;
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
 
-            for (ColumnMetadata column : primaryKeys) {
-                if (index == 1) {
-                    sql.append(" WHERE ");
-                } else {
-                    sql.append(" AND ");
-                }
+            track(connection, record, table);
+        }
 
-                sql.append(column.getColumnName());
-                sql.append(" = ?");
+        return record;
+    }
 
-                index++;
-            }
+    public <T> Collection<T> mergeAll(Collection<T> records) {
+        return mergeAll(records, batchSize);
+    }
 
-            try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
-                setPrimaryKeyValue(tableClass,
-                        table,
-                        primaryKeys,
-                        primaryKey,
-                        ps);
+    public <T> Collection<T> mergeAll(Collection<T> records, int batchSize) {
+        if (records.isEmpty()) {
+            return records;
+        }
 
-                ps.executeUpdate();
-            }
-        } catch (Exception e) {
+        try (Connection connection = getConnection()) {
+            return mergeAll(connection, records, batchSize);
+        } catch (SQLException e) {
             throw new RuntimeException(e);
         }
     }
 
-    public <T> T find(Class<T> tableClass, Object primaryKey) {
-        List<ColumnMetadata> primaryKeys;
-        TableMetadata table;
-        int index;
+    public <T> Collection<T> mergeAll(Connection connection, Collection<T> records) {
+        return mergeAll(connection, records, batchSize);
+    }
 
-        table = getTable(tableClass);
+    public <T> Collection<T> mergeAll(Connection connection, Collection<T> records, int batchSize) {
+        SQLDialect dialect;
+
+        if (records.isEmpty()) {
+            return records;
+        }
 
-        try (Connection connection = dataSource.getConnection()) {
-            SQLDialect dialect;
-            StringBuilder sql;
+        dialect = metadataManager.initDialect(connection);
 
-            dialect = metadataManager.initDialect(connection);
+        try {
+            for (Map.Entry<TableMetadata, List<Object>> entry : groupByTable(records).entrySet()) {
+                TableMetadata table;
 
-            primaryKeys = table.getPrimaryKeys();
+                table = entry.getKey();
 
-            if (primaryKeys.isEmpty()) {
-                throw new IllegalStateException("No primary key found for class "
-                        + tableClass.getName());
+                if (changeTracker == null) {
+                    try (PreparedStatement ps = connection.prepareStatement(table.getStatements(dialect).getMergeSql())) {
+                        executeBatch(entry.getValue(),
+                                batchSize,
+                                ps,
+                                record -> setMergeValues(record, table, dialect, ps));
+                    }
+                } else {
+                    mergeChanges(table, entry.getValue(), batchSize, connection, dialect);
+                }
             }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
 
-            sql = new StringBuilder();
+        return records;
+    }
 
-            sql.append("SELECT ");
+    public <T> T upsert(T record) {
+        return upsert(record, new UpsertOptions());
+    }
 
-            index = 1;
+    public <T> T upsert(T record, UpsertOptions options) {
+        try (Connection connection = getConnection()) {
+            return upsert(connection, record, options);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-            for (ColumnMetadata column : table.getColumns()) {
-                if (index > 1) {
-                    sql.append(", ");
-                }
+    public <T> T upsert(Connection connection, T record) {
+        return upsert(connection, record, new UpsertOptions());
+    }
 
-                sql.append(column.getColumnName());
+    public <T> T upsert(Connection connection, T record, UpsertOptions options) {
+        List<ColumnMetadata> conflictColumns;
+        List<ColumnMetadata> insertColumns;
+        TableMetadata table;
+        SQLDialect dialect;
+        boolean storedKey;
 
-                index++;
-            }
+        table = getTable(record.getClass());
 
-            sql.append(" FROM ");
-            sql.append(dialect.getTableName(table));
+        insertColumns = getUpsertColumns(table, options);
 
-            index = 1;
+        conflictColumns = getConflictColumns(table, options);
 
-            for (ColumnMetadata column : primaryKeys) {
-                if (index == 1) {
-                    sql.append(" WHERE ");
-                } else {
-                    sql.append(" AND ");
-                }
+        storedKey = isStoredKeyRequired(table, conflictColumns);
 
-                sql.append(column.getColumnName());
-                sql.append(" = ?");
+        dialect = metadataManager.initDialect(connection);
 
-                index++;
-            }
+        try (PreparedStatement ps = connection.prepareStatement(createUpsertSql(table,
+                insertColumns,
+                options,
+                dialect))) {
+            boolean loaded;
 
-            try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
-                List<T> records;
+            loaded = storedKey && loadStoredKey(record, table, conflictColumns, connection, dialect);
 
-                setPrimaryKeyValue(tableClass,
-                        table,
-                        primaryKeys,
-                        primaryKey,
-                        ps);
+            setUpsertValues(record, table, insertColumns, connection, dialect, ps);
 
-                records = listRecords(tableClass,
-                        table,
-                        dialect,
-                        ps);
+            ps.executeUpdate();
 
-                if (records.isEmpty()) {
-                    return null;
-                } else if (records.size() == 1) {
-                    return records.get(0);
-                } else {
-                    throw new RuntimeException("The query returned more than one record.");
-                }
+            if (storedKey && !loaded) {
+                loadStoredKey(record, table, conflictColumns, connection, dialect);
             }
-        } catch (Exception e) {
+        } catch (SQLException e) {
             throw new RuntimeException(e);
         }
+
+        return record;
     }
 
-    @SafeVarargs
-    public final <T, S, R> T joinOne(Object leftRecord,
-            Class<T> rightTableClass,
-            FieldGetter<S, R>... fieldGetters) {
-        List<T> rightRecords;
+    public <T> Collection<T> upsertAll(Collection<T> records) {
+        return upsertAll(records, new UpsertOptions(), batchSize);
+    }
 
-        rightRecords = joinMany(leftRecord,
-                rightTableClass,
-                fieldGetters);
+    public <T> Collection<T> upsertAll(Collection<T> records, UpsertOptions options) {
+        return upsertAll(records, options, batchSize);
+    }
 
-        if (rightRecords.isEmpty()) {
-            return null;
-        } else if (rightRecords.size() == 1) {
-            return rightRecords.get(0);
-        } else {
-            throw new RuntimeException("The query returned more than one record.");
+    public <T> Collection<T> upsertAll(Collection<T> records, UpsertOptions options, int batchSize) {
+        if (records.isEmpty()) {
+            return records;
+        }
+
+        try (Connection connection = getConnection()) {
+            return upsertAll(connection, records, options, batchSize);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
         }
     }
 
-    public <T, R, L> T joinOne(L leftRecord,
-            FieldGetter<L, R> leftFieldGetter,
-            Class<T> rightTableClass,
-            FieldGetter<T, R> rightFieldGetter) {
-        return joinOne(leftRecord,
-                Arrays.asList(leftFieldGetter),
-                rightTableClass,
-                Arrays.asList(rightFieldGetter));
+    public <T> Collection<T> upsertAll(Connection connection, Collection<T> records) {
+        return upsertAll(connection, records, new UpsertOptions(), batchSize);
     }
 
-    public <T, R, L> T joinOne(L leftRecord,
-            List<FieldGetter<L, R>> leftFieldGetters,
-            Class<T> rightTableClass,
-            List<FieldGetter<T, R>> rightFieldGetters) {
-        List<T> rightRecords;
+    public <T> Collection<T> upsertAll(Connection connection, Collection<T> records, UpsertOptions options) {
+        return upsertAll(connection, records, options, batchSize);
+    }
 
-        rightRecords = joinMany(leftRecord,
-                leftFieldGetters,
-                rightTableClass,
+    public <T> Collection<T> upsertAll(Connection connection,
+            Collection<T> records,
+            UpsertOptions options,
+            int batchSize) {
+        SQLDialect dialect;
+
+        if (records.isEmpty()) {
+            return records;
+        }
+
+        dialect = metadataManager.initDialect(connection);
+
+        try {
+            for (Map.Entry<TableMetadata, List<Object>> entry : groupByTable(records).entrySet()) {
+                List<ColumnMetadata> conflictColumns;
+                List<ColumnMetadata> insertColumns;
+                List<Object> unloadedRecords;
+                TableMetadata table;
+                boolean storedKey;
+
+                table = entry.getKey();
+
+                insertColumns = getUpsertColumns(table, options);
+
+                conflictColumns = getConflictColumns(table, options);
+
+                storedKey = isStoredKeyRequired(table, conflictColumns);
+
+                unloadedRecords = new ArrayList<>();
+
+                try (PreparedStatement ps = connection.prepareStatement(createUpsertSql(table,
+                        insertColumns,
+                        options,
+                        dialect))) {
+                    executeBatch(entry.getValue(),
+                            batchSize,
+                            ps,
+                            record -> {
+                                if (storedKey &&
+                                        !loadStoredKey(record, table, conflictColumns, connection, dialect)) {
+                                    unloadedRecords.add(record);
+                                }
+
+                                setUpsertValues(record,
+                                        table,
+                                        insertColumns,
+                                        connection,
+                                        dialect,
+                                        ps);
+                            });
+                }
+
+                for (Object record : unloadedRecords) {
+                    loadStoredKey(record, table, conflictColumns, connection, dialect);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+
+        return records;
+    }
+
+    public void remove(Object record) {
+        try (Connection connection = getConnection()) {
+            remove(connection, record);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void remove(Connection connection, Object record) {
+        TableMetadata table;
+        SQLDialect dialect;
+
+        table = getTable(record.getClass());
+
+        dialect = metadataManager.initDialect(connection);
+
+        try (PreparedStatement ps = connection.prepareStatement(table.getStatements(dialect).getRemoveSql())) {
+            setRemoveValues(record, table, dialect, ps);
+
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+
+        untrack(connection, record);
+    }
+
+    public void removeAll(Collection<?> records) {
+        removeAll(records, batchSize);
+    }
+
+    public void removeAll(Collection<?> records, int batchSize) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        try (Connection connection = getConnection()) {
+            removeAll(connection, records, batchSize);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void removeAll(Connection connection, Collection<?> records) {
+        removeAll(connection, records, batchSize);
+    }
+
+    public void removeAll(Connection connection, Collection<?> records, int batchSize) {
+        SQLDialect dialect;
+
+        if (records.isEmpty()) {
+            return;
+        }
+
+        dialect = metadataManager.initDialect(connection);
+
+        try {
+            for (Map.Entry<TableMetadata, List<Object>> entry : groupByTable(records).entrySet()) {
+                TableMetadata table;
+
+                table = entry.getKey();
+
+                try (PreparedStatement ps = connection.prepareStatement(table.getStatements(dialect).getRemoveSql())) {
+                    executeBatch(entry.getValue(),
+                            batchSize,
+                            ps,
+                            record -> setRemoveValues(record, table, dialect, ps));
+                }
+
+                for (Object record : entry.getValue()) {
+                    untrack(connection, record);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void remove(Class<?> tableClass, Object primaryKey) {
+        try (Connection connection = getConnection()) {
+            remove(connection, tableClass, primaryKey);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void remove(Connection connection, Class<?> tableClass, Object primaryKey) {
+        List<ColumnMetadata> primaryKeys;
+        TableMetadata table;
+        SQLDialect dialect;
+
+        table = getTable(tableClass);
+
+        dialect = metadataManager.initDialect(connection);
+
+        primaryKeys = table.getStatements(dialect).getPrimaryKeys();
+
+        try (PreparedStatement ps = connection.prepareStatement(table.getStatements(dialect).getRemoveSql())) {
+            setPrimaryKeyValue(tableClass,
+                    table,
+                    primaryKeys,
+                    primaryKey,
+                    ps);
+
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public <T> T find(Class<T> tableClass, Object primaryKey) {
+        try (Connection connection = getConnection()) {
+            return find(connection, tableClass, primaryKey);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public <T> T find(Connection connection, Class<T> tableClass, Object primaryKey) {
+        TableStatements statements;
+        TableMetadata table;
+        SQLDialect dialect;
+
+        table = getTable(tableClass);
+
+        dialect = metadataManager.initDialect(connection);
+
+        statements = table.getStatements(dialect);
+
+        try (PreparedStatement ps = connection.prepareStatement(statements.getFindSql())) {
+            List<T> records;
+
+            setPrimaryKeyValue(tableClass,
+                    table,
+                    statements.getPrimaryKeys(),
+                    primaryKey,
+                    ps);
+
+            records = listRecords(connection,
+                    tableClass,
+                    table,
+                    dialect,
+                    ps);
+
+            if (records.isEmpty()) {
+                return null;
+            } else if (records.size() == 1) {
+                return records.get(0);
+            } else {
+                throw new RuntimeException("The query returned more than one record.");
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @SafeVarargs
+    public final <T, S, R> T joinOne(Object leftRecord,
+            Class<T> rightTableClass,
+            FieldGetter<S, R>... fieldGetters) {
+        return joinOne(null,
+                leftRecord,
+                rightTableClass,
+                fieldGetters);
+    }
+
+    @SafeVarargs
+    public final <T, S, R> T joinOne(Connection connection,
+            Object leftRecord,
+            Class<T> rightTableClass,
+            FieldGetter<S, R>... fieldGetters) {
+        List<T> rightRecords;
+
+        rightRecords = joinMany(connection,
+                leftRecord,
+                rightTableClass,
+                fieldGetters);
+
+        if (rightRecords.isEmpty()) {
+            return null;
+        } else if (rightRecords.size() == 1) {
+            return rightRecords.get(0);
+        } else {
+            throw new RuntimeException("The query returned more than one record.");
+        }
+    }
+
+    public <T, R, L> T joinOne(L leftRecord,
+            FieldGetter<L, R> leftFieldGetter,
+            Class<T> rightTableClass,
+            FieldGetter<T, R> rightFieldGetter) {
+        return joinOne(null,
+                leftRecord,
+                Arrays.asList(leftFieldGetter),
+                rightTableClass,
+                Arrays.asList(rightFieldGetter));
+    }
+
+    public <T, R, L> T joinOne(Connection connection,
+            L leftRecord,
+            FieldGetter<L, R> leftFieldGetter,
+            Class<T> rightTableClass,
+            FieldGetter<T, R> rightFieldGetter) {
+        return joinOne(connection,
+                leftRecord,
+                Arrays.asList(leftFieldGetter),
+                rightTableClass,
+                Arrays.asList(rightFieldGetter));
+    }
+
+    public <T, R, L> T joinOne(L leftRecord,
+            List<FieldGetter<L, R>> leftFieldGetters,
+            Class<T> rightTableClass,
+            List<FieldGetter<T, R>> rightFieldGetters) {
+        return joinOne(null,
+                leftRecord,
+                leftFieldGetters,
+                rightTableClass,
+                rightFieldGetters);
+    }
+
+    public <T, R, L> T joinOne(Connection connection,
+            L leftRecord,
+            List<FieldGetter<L, R>> leftFieldGetters,
+            Class<T> rightTableClass,
+            List<FieldGetter<T, R>> rightFieldGetters) {
+        List<T> rightRecords;
+
+        rightRecords = joinMany(connection,
+                leftRecord,
+                leftFieldGetters,
+                rightTableClass,
                 rightFieldGetters);
 
         if (rightRecords.isEmpty()) {
@@ -529,6 +836,17 @@ public class TableManager {
     public final <T, S, R> List<T> joinMany(Object leftRecord,
             Class<T> rightTableClass,
             FieldGetter<S, R>... fieldGetters) {
+        return joinMany(null,
+                leftRecord,
+                rightTableClass,
+                fieldGetters);
+    }
+
+    @SafeVarargs
+    public final <T, S, R> List<T> joinMany(Connection connection,
+            Object leftRecord,
+            Class<T> rightTableClass,
+            FieldGetter<S, R>... fieldGetters) {
         TableMetadata leftTable;
         Join join;
 
@@ -552,14 +870,16 @@ public class TableManager {
                         + leftRecord.getClass().getName());
             }
 
-            return join(leftRecord,
+            return join(connection,
+                    leftRecord,
                     metadataManager.getColumnMetadata(leftRecord.getClass(),
                             join.reference().columns()),
                     rightTableClass,
                     metadataManager.getColumnMetadata(rightTableClass,
                             join.columns()));
         } else {
-            return join(leftRecord,
+            return join(connection,
+                    leftRecord,
                     metadataManager.getColumnMetadata(leftRecord.getClass(),
                             join.columns()),
                     rightTableClass,
@@ -579,302 +899,1191 @@ public class TableManager {
                 }
             }
 
-            if (join.reference().table().equals(rightTableClass)) {
-                return join;
+            if (join.reference().table().equals(rightTableClass)) {
+                return join;
+            }
+        }
+
+        return null;
+    }
+
+    public <T, L, R> List<T> joinMany(L leftRecord,
+            FieldGetter<L, R> leftFieldGetter,
+            Class<T> rightTableClass,
+            FieldGetter<T, R> rightFieldGetter) {
+        return joinMany(null,
+                leftRecord,
+                Arrays.asList(leftFieldGetter),
+                rightTableClass,
+                Arrays.asList(rightFieldGetter));
+    }
+
+    public <T, L, R> List<T> joinMany(Connection connection,
+            L leftRecord,
+            FieldGetter<L, R> leftFieldGetter,
+            Class<T> rightTableClass,
+            FieldGetter<T, R> rightFieldGetter) {
+        return joinMany(connection,
+                leftRecord,
+                Arrays.asList(leftFieldGetter),
+                rightTableClass,
+                Arrays.asList(rightFieldGetter));
+    }
+
+    public <T, L, R> List<T> joinMany(L leftRecord,
+            List<FieldGetter<L, R>> leftFieldGetters,
+            Class<T> rightTableClass,
+            List<FieldGetter<T, R>> rightFieldGetters) {
+        return joinMany(null,
+                leftRecord,
+                leftFieldGetters,
+                rightTableClass,
+                rightFieldGetters);
+    }
+
+    public <T, L, R> List<T> joinMany(Connection connection,
+            L leftRecord,
+            List<FieldGetter<L, R>> leftFieldGetters,
+            Class<T> rightTableClass,
+            List<FieldGetter<T, R>> rightFieldGetters) {
+        List<ColumnMetadata> leftColumns;
+        List<ColumnMetadata> rightColumns;
+
+        leftColumns = new ArrayList<>();
+
+        for (FieldGetter<L, R> fieldGetter : leftFieldGetters) {
+            leftColumns.add(metadataManager.getColumnMetadata(fieldGetter));
+        }
+
+        rightColumns = new ArrayList<>();
+
+        for (FieldGetter<T, R> fieldGetter : rightFieldGetters) {
+            rightColumns.add(metadataManager.getColumnMetadata(fieldGetter));
+        }
+
+        return join(connection, leftRecord, leftColumns, rightTableClass, rightColumns);
+    }
+
+    private <T> List<T> join(Connection connection,
+            Object leftRecord,
+            List<ColumnMetadata> leftColumns,
+            Class<T> rightTableClass,
+            List<ColumnMetadata> rightColumns) {
+        TableMetadata rightTable;
+        SQLDialect dialect;
+        String sql;
+        int index;
+
+        if (connection == null) {
+            try (Connection newConnection = getConnection()) {
+                return join(newConnection, leftRecord, leftColumns, rightTableClass, rightColumns);
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        rightTable = getTable(rightTableClass);
+
+        dialect = metadataManager.initDialect(connection);
+
+        sql = rightTable.getStatements(dialect).getJoinSql(rightColumns);
+
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            index = 1;
+
+            for (ColumnMetadata leftColumn : leftColumns) {
+                setColumnValue(leftRecord, leftColumn, index, dialect, ps);
+
+                index++;
+            }
+
+            return listRecords(connection,
+                    rightTableClass,
+                    rightTable,
+                    dialect,
+                    ps);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public <R, T> Map<R, List<T>> mapMany(List<R> records, Class<T> rightTableClass) {
+        return mapMany(null, records, rightTableClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R, T> Map<R, List<T>> mapMany(Connection connection, List<R> records, Class<T> rightTableClass) {
+        final List<ColumnMetadata> primaryKeys;
+        Map<R, List<Object>> primaryKeyMap;
+        SelectQueryBuilder queryBuilder;
+        Class<R> recordClass = null;
+
+        if (records.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        primaryKeys = new ArrayList<>();
+
+        primaryKeyMap = new HashMap<>();
+
+        for (R record : records) {
+            List<Object> values;
+
+            if (recordClass == null) {
+                TableMetadata table;
+
+                recordClass = (Class<R>) record.getClass();
+
+                table = getTable(recordClass);
+
+                primaryKeys.addAll(table.getPrimaryKeys());
+
+                if (primaryKeys.isEmpty()) {
+                    throw new IllegalStateException("No primary key found for class "
+                            + recordClass.getName());
+                }
+            }
+
+            values = new ArrayList<>();
+
+            for (ColumnMetadata primaryKey : primaryKeys) {
+                values.add(primaryKey.getValue(record));
+            }
+
+            primaryKeyMap.put(record, values);
+        }
+
+        queryBuilder = createSelectQueryBuilder()
+                .select(recordClass)
+                .select(rightTableClass)
+                .from(recordClass)
+                .innerJoin(rightTableClass);
+
+        if (primaryKeys.size() == 1) {
+            List<Object> values;
+
+            values = new ArrayList<>();
+
+            for (R record : primaryKeyMap.keySet()) {
+                values.add(primaryKeyMap.get(record).get(0));
+            }
+
+            queryBuilder.where(primaryKeys.get(0), "in", values);
+        } else {
+            if (getDialect().isTupleSupported()) {
+                List<List<Object>> values;
+
+                values = new ArrayList<>();
+
+                for (R record : primaryKeyMap.keySet()) {
+                    values.add(primaryKeyMap.get(record));
+                }
+
+                queryBuilder.where(primaryKeys, "in", values);
+            } else {
+                for (R record : primaryKeyMap.keySet()) {
+                    queryBuilder.or(q -> {
+                        List<Object> values;
+                        int index;
+
+                        values = primaryKeyMap.get(record);
+
+                        index = 0;
+
+                        for (ColumnMetadata primaryKey : primaryKeys) {
+                            q.and(primaryKey, "=", values.get(index));
+
+                            index++;
+                        }
+                    });
+                }
+            }
+        }
+
+        if (recordClass == null) {
+            return new HashMap<>();
+        } else {
+            return queryBuilder.mapResultList(connection, recordClass, rightTableClass);
+        }
+    }
+
+    private <T> List<T> listRecords(Connection connection,
+            Class<T> tableClass,
+            TableMetadata table,
+            SQLDialect dialect,
+            PreparedStatement ps) {
+        try (ResultSet rs = ps.executeQuery()) {
+            List<T> records;
+
+            records = new ArrayList<>();
+
+            while (rs.next()) {
+                T record;
+
+                record = tableClass.cast(table.getCreator().newInstance(rs, 1, dialect));
+
+                track(connection, record, table);
+
+                records.add(record);
+            }
+
+            return records;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void execute(String sql) {
+        try (Connection connection = getConnection()) {
+            execute(connection, sql);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void execute(Connection connection, String sql) {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public Query createQuery(String query) {
+        return new Query(this, query);
+    }
+
+    public SelectQueryBuilder createSelectQueryBuilder() {
+        return new SelectQueryBuilder(this);
+    }
+
+    public UpdateQueryBuilder createUpdateQueryBuilder() {
+        return new UpdateQueryBuilder(this);
+    }
+
+    public DeleteQueryBuilder createDeleteQueryBuilder() {
+        return new DeleteQueryBuilder(this);
+    }
+
+    ResultPlan getResultPlan(String sql,
+            Class<?>[] types,
+            ResultSetMetaData metaData) throws SQLException {
+        List<Object> key;
+        ResultPlan plan;
+
+        key = new ArrayList<>(types.length + 1);
+
+        key.add(sql);
+
+        key.addAll(Arrays.asList(types));
+
+        plan = resultPlans.get(key);
+
+        if (plan == null || !plan.matches(metaData)) {
+            plan = new ResultPlan(metadataManager, types, metaData);
+
+            if (resultPlans.size() >= 1000) {
+                resultPlans.clear();
+            }
+
+            resultPlans.put(key, plan);
+        }
+
+        return plan;
+    }
+
+    <R, D> Projection<D> getProjection(Class<R> sourceClass, RecordMapper<R, D> mapper) {
+        return getProjection(List.of(sourceClass, mapper),
+                () -> Projection.of(metadataManager, sourceClass, mapper));
+    }
+
+    <D> Projection<D> getProjection(Class<?> sourceClass, Class<D> targetClass) {
+        return getProjection(List.of(sourceClass, targetClass),
+                () -> Projection.of(metadataManager, sourceClass, targetClass));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <D> Projection<D> getProjection(List<Object> key, Supplier<Projection<D>> factory) {
+        Projection<D> projection;
+
+        projection = (Projection<D>) projections.get(key);
+
+        if (projection == null) {
+            projection = factory.get();
+
+            if (projections.size() >= 1000) {
+                projections.clear();
+            }
+
+            projections.put(key, projection);
+        }
+
+        return projection;
+    }
+
+    void track(Connection connection, Object record, TableMetadata table) {
+        ChangeTracker changeTracker;
+
+        changeTracker = this.changeTracker;
+
+        if (changeTracker != null) {
+            changeTracker.track(connection, record, table);
+        }
+    }
+
+    void beginTracking(Connection connection) {
+        ChangeTracker changeTracker;
+
+        changeTracker = this.changeTracker;
+
+        if (changeTracker != null) {
+            changeTracker.begin(connection);
+        }
+    }
+
+    void commitTracking(Connection connection) {
+        ChangeTracker changeTracker;
+
+        changeTracker = this.changeTracker;
+
+        if (changeTracker != null) {
+            changeTracker.commit(connection);
+        }
+    }
+
+    void rollbackTracking(Connection connection) {
+        ChangeTracker changeTracker;
+
+        changeTracker = this.changeTracker;
+
+        if (changeTracker != null) {
+            changeTracker.rollback(connection);
+        }
+    }
+
+    void endTracking(Connection connection) {
+        ChangeTracker changeTracker;
+
+        changeTracker = this.changeTracker;
+
+        if (changeTracker != null) {
+            changeTracker.end(connection);
+        }
+    }
+
+    void persistPending(Connection connection, List<Object> records) {
+        for (Map.Entry<TableMetadata, List<Object>> entry : groupByTable(records).entrySet()) {
+            persistPending(connection, entry.getKey(), entry.getValue());
+        }
+    }
+
+    void persistPending(Connection connection, TableMetadata table, List<Object> records) {
+        try {
+            persistTable(table,
+                    records,
+                    batchSize,
+                    connection,
+                    metadataManager.initDialect(connection),
+                    false);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    void removePending(Connection connection, TableMetadata table, List<Object> primaryKeys) {
+        List<ColumnMetadata> columns;
+        SQLDialect dialect;
+
+        dialect = metadataManager.initDialect(connection);
+
+        columns = table.getStatements(dialect).getPrimaryKeys();
+
+        try (PreparedStatement ps = connection.prepareStatement(table.getStatements(dialect).getRemoveSql())) {
+            executeBatch(primaryKeys,
+                    batchSize,
+                    ps,
+                    primaryKey -> setPrimaryKeyValue(table.getTableClass(),
+                            table,
+                            columns,
+                            primaryKey,
+                            ps));
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    void incrementPending(Connection connection,
+            TableMetadata table,
+            ColumnMetadata column,
+            List<Object> increments) {
+        List<ColumnMetadata> columns;
+        SQLDialect dialect;
+
+        dialect = metadataManager.initDialect(connection);
+
+        columns = table.getStatements(dialect).getPrimaryKeys();
+
+        try (PreparedStatement ps = connection.prepareStatement(table.getStatements(dialect)
+                .getIncrementSql(column))) {
+            executeBatch(increments,
+                    batchSize,
+                    ps,
+                    increment -> {
+                        Map.Entry<?, ?> entry;
+
+                        entry = (Map.Entry<?, ?>) increment;
+
+                        ps.setObject(1, entry.getValue());
+
+                        setPrimaryKeyValue(table.getTableClass(),
+                                table,
+                                columns,
+                                entry.getKey(),
+                                ps,
+                                2);
+                    });
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void persistTable(TableMetadata table,
+            List<Object> records,
+            int batchSize,
+            Connection connection,
+            SQLDialect dialect,
+            boolean generate) throws SQLException {
+        if (bulkMode == BulkMode.MULTI_ROW &&
+                dialect.isMultiRowInsertSupported(table)) {
+            persistMultiRow(table,
+                    records,
+                    batchSize,
+                    connection,
+                    dialect,
+                    generate);
+        } else {
+            persistBatch(table,
+                    records,
+                    batchSize,
+                    connection,
+                    dialect,
+                    generate);
+        }
+
+        if (changeTracker != null) {
+            for (Object record : records) {
+                track(connection, record, table);
+            }
+        }
+    }
+
+    private void mergeChanges(TableMetadata table,
+            List<Object> records,
+            int batchSize,
+            Connection connection,
+            SQLDialect dialect) throws SQLException {
+        Map<List<ColumnMetadata>, List<Object>> groups;
+        List<Object> untrackedRecords;
+
+        groups = new LinkedHashMap<>();
+
+        untrackedRecords = new ArrayList<>();
+
+        for (Object record : records) {
+            List<ColumnMetadata> changedColumns;
+
+            changedColumns = getChangedColumns(connection, record, table);
+
+            if (changedColumns == null) {
+                untrackedRecords.add(record);
+            } else if (!changedColumns.isEmpty()) {
+                groups.computeIfAbsent(changedColumns, k -> new ArrayList<>()).add(record);
+            }
+        }
+
+        if (!untrackedRecords.isEmpty()) {
+            try (PreparedStatement ps = connection.prepareStatement(table.getStatements(dialect).getMergeSql())) {
+                executeBatch(untrackedRecords,
+                        batchSize,
+                        ps,
+                        record -> setMergeValues(record, table, dialect, ps));
+            }
+
+            for (Object record : untrackedRecords) {
+                track(connection, record, table);
+            }
+        }
+
+        for (Map.Entry<List<ColumnMetadata>, List<Object>> entry : groups.entrySet()) {
+            try (PreparedStatement ps = connection.prepareStatement(table.getStatements(dialect)
+                    .getMergeSql(entry.getKey()))) {
+                executeBatch(entry.getValue(),
+                        batchSize,
+                        ps,
+                        record -> setMergeValues(record, table, entry.getKey(), dialect, ps));
+            }
+
+            for (Object record : entry.getValue()) {
+                track(connection, record, table);
+            }
+        }
+    }
+
+    private List<ColumnMetadata> getChangedColumns(Connection connection,
+            Object record,
+            TableMetadata table) {
+        ChangeTracker changeTracker;
+
+        changeTracker = this.changeTracker;
+
+        if (changeTracker == null) {
+            return null;
+        }
+
+        return changeTracker.getChangedColumns(connection, record, table);
+    }
+
+    private void untrack(Connection connection, Object record) {
+        ChangeTracker changeTracker;
+
+        changeTracker = this.changeTracker;
+
+        if (changeTracker != null) {
+            changeTracker.untrack(connection, record);
+        }
+    }
+
+    private void persistBatch(TableMetadata table,
+            List<Object> records,
+            int batchSize,
+            Connection connection,
+            SQLDialect dialect,
+            boolean generate) throws SQLException {
+        List<ColumnMetadata> generatedKeyColumns;
+        List<ColumnMetadata> outputColumns;
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch size " + batchSize);
+        }
+
+        generatedKeyColumns = table.getStatements(dialect).getGeneratedKeyColumns();
+
+        outputColumns = table.getStatements(dialect).getOutputColumns();
+
+        try (PreparedStatement ps = dialect.createPersistStatement(connection, table)) {
+            if (!outputColumns.isEmpty() ||
+                    (!generatedKeyColumns.isEmpty() && !dialect.isBatchGeneratedKeysSupported())) {
+                for (Object record : records) {
+                    setPersistValues(record, table, connection, dialect, ps, 1, generate);
+
+                    executePersist(record, table, dialect, ps);
+                }
+            } else {
+                for (int start = 0; start < records.size(); start += batchSize) {
+                    List<Object> chunk;
+
+                    chunk = records.subList(start, Math.min(start + batchSize, records.size()));
+
+                    for (Object record : chunk) {
+                        setPersistValues(record, table, connection, dialect, ps, 1, generate);
+
+                        ps.addBatch();
+                    }
+
+                    ps.executeBatch();
+
+                    if (!generatedKeyColumns.isEmpty()) {
+                        try (ResultSet rs = ps.getGeneratedKeys()) {
+                            for (Object record : chunk) {
+                                if (!rs.next()) {
+                                    break;
+                                }
+
+                                setGeneratedValues(record, generatedKeyColumns, rs);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void persistMultiRow(TableMetadata table,
+            List<Object> records,
+            int batchSize,
+            Connection connection,
+            SQLDialect dialect,
+            boolean generate) throws SQLException {
+        List<ColumnMetadata> generatedColumns;
+        PreparedStatement ps;
+        int parameterCount;
+        int rowCount;
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch size " + batchSize);
+        }
+
+        generatedColumns = new ArrayList<>();
+
+        parameterCount = 0;
+
+        for (ColumnMetadata column : table.getColumns()) {
+            if (isGeneratedByDatabase(column)) {
+                generatedColumns.add(column);
+            } else {
+                parameterCount++;
+            }
+        }
+
+        rowCount = Math.min(batchSize, dialect.getMaxInsertRowCount());
+
+        if (parameterCount > 0) {
+            rowCount = Math.min(rowCount, dialect.getMaxParameterCount() / parameterCount);
+        }
+
+        rowCount = Math.max(rowCount, 1);
+
+        ps = null;
+
+        try {
+            for (int start = 0; start < records.size(); start += rowCount) {
+                List<Object> chunk;
+                int index;
+
+                chunk = records.subList(start, Math.min(start + rowCount, records.size()));
+
+                if (ps == null || chunk.size() < rowCount) {
+                    if (ps != null) {
+                        ps.close();
+                    }
+
+                    ps = dialect.createBulkPersistStatement(connection,
+                            table,
+                            chunk.size(),
+                            chunk.size() == rowCount);
+                }
+
+                index = 1;
+
+                for (Object record : chunk) {
+                    index = setPersistValues(record, table, connection, dialect, ps, index, generate);
+                }
+
+                if (generatedColumns.isEmpty()) {
+                    ps.executeUpdate();
+                } else {
+                    ResultSet rs;
+
+                    if (ps.execute()) {
+                        rs = ps.getResultSet();
+                    } else {
+                        rs = ps.getGeneratedKeys();
+                    }
+
+                    try {
+                        for (Object record : chunk) {
+                            if (!rs.next()) {
+                                break;
+                            }
+
+                            setGeneratedValues(record, generatedColumns, rs);
+                        }
+                    } finally {
+                        rs.close();
+                    }
+                }
+            }
+        } finally {
+            if (ps != null) {
+                ps.close();
+            }
+        }
+    }
+
+    private boolean isGeneratedByDatabase(ColumnMetadata column) {
+        GeneratedValue generatedValue;
+
+        generatedValue = (GeneratedValue) column.getAnnotations()
+                .get(GeneratedValue.class);
+
+        return generatedValue != null &&
+                !column.isPooledSequence() &&
+                (generatedValue.strategy() == GenerationType.AUTO ||
+                        generatedValue.strategy() == GenerationType.IDENTITY ||
+                        generatedValue.strategy() == GenerationType.SEQUENCE);
+    }
+
+    private void executeBatch(List<Object> records,
+            int batchSize,
+            PreparedStatement ps,
+            RecordBinder binder) throws SQLException {
+        int count;
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch size " + batchSize);
+        }
+
+        count = 0;
+
+        for (Object record : records) {
+            binder.bind(record);
+
+            ps.addBatch();
+
+            count++;
+
+            if (count % batchSize == 0) {
+                ps.executeBatch();
+            }
+        }
+
+        if (count % batchSize != 0) {
+            ps.executeBatch();
+        }
+    }
+
+    private Map<TableMetadata, List<Object>> groupByTable(Collection<?> records) {
+        Map<TableMetadata, List<Object>> groups;
+
+        groups = new LinkedHashMap<>();
+
+        for (Object record : records) {
+            groups.computeIfAbsent(getTable(record.getClass()), k -> new ArrayList<>())
+                    .add(record);
+        }
+
+        return groups;
+    }
+
+    private int setPersistValues(Object record,
+            TableMetadata table,
+            Connection connection,
+            SQLDialect dialect,
+            PreparedStatement ps,
+            int index,
+            boolean generate) throws SQLException {
+        for (ColumnMetadata column : table.getStatements(dialect).getPersistColumns()) {
+            GeneratedValue generatedValue;
+
+            generatedValue = (GeneratedValue) column.getAnnotations()
+                    .get(GeneratedValue.class);
+
+            if (generate && generatedValue != null) {
+                generateValue(record, table, column, generatedValue, connection, dialect);
+            }
+
+            setColumnValue(record, column, index, dialect, ps);
+
+            index++;
+        }
+
+        return index;
+    }
+
+    private void generateValue(Object record,
+            TableMetadata table,
+            ColumnMetadata column,
+            GeneratedValue generatedValue,
+            Connection connection,
+            SQLDialect dialect) {
+        if (generatedValue.strategy() == GenerationType.TABLE) {
+            TableIdGenerator idGenerator;
+            String sequenceName;
+            long id;
+
+            idGenerator = tableIdGenerators.computeIfAbsent(column,
+                    c -> new TableIdGenerator((TableGenerator) c
+                            .getAnnotations().get(TableGenerator.class)));
+
+            sequenceName = table.getTableName()
+                    + "_"
+                    + column.getColumnName();
+
+            try {
+                if (idGenerator.getAllocationSize() > 1 &&
+                        !connection.getAutoCommit()) {
+                    id = idGenerator.generateId(dataSource, dialect, sequenceName);
+                } else {
+                    id = idGenerator.generateId(connection, dialect, sequenceName);
+                }
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+
+            setRecordValue(record, column, toFieldType(column, id));
+        } else if (column.isPooledSequence()) {
+            SequenceIdGenerator idGenerator;
+
+            idGenerator = sequenceIdGenerators.computeIfAbsent(dialect.getSequenceName(column),
+                    k -> new SequenceIdGenerator((SequenceGenerator) column
+                            .getAnnotations().get(SequenceGenerator.class)));
+
+            setRecordValue(record, column, toFieldType(column, idGenerator
+                    .generateId(connection, dialect, column)));
+        } else if (generatedValue.strategy() == GenerationType.UUID ||
+                generatedValue.strategy() == GenerationType.CUSTOM) {
+            setRecordValue(record, column, toFieldType(column,
+                    getIdGenerator(column, generatedValue).generate()));
+        }
+    }
+
+    private IdGenerator<?> getIdGenerator(ColumnMetadata column, GeneratedValue generatedValue) {
+        if (generatedValue.generator() == IdGenerator.class) {
+            if (generatedValue.strategy() == GenerationType.CUSTOM) {
+                throw new IllegalStateException("Missing generator for column "
+                        + column.getColumnName());
+            }
+
+            return uuidGenerator;
+        }
+
+        return idGenerators.computeIfAbsent(generatedValue.generator(), generatorClass -> {
+            try {
+                return (IdGenerator<?>) generatorClass.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    private void executePersist(Object record,
+            TableMetadata table,
+            SQLDialect dialect,
+            PreparedStatement ps) throws SQLException {
+        List<ColumnMetadata> generatedKeyColumns;
+        List<ColumnMetadata> outputColumns;
+
+        generatedKeyColumns = table.getStatements(dialect).getGeneratedKeyColumns();
+
+        outputColumns = table.getStatements(dialect).getOutputColumns();
+
+        if (outputColumns.isEmpty()) {
+            ps.executeUpdate();
+        } else {
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    setGeneratedValues(record, outputColumns, rs);
+                }
+            }
+        }
+
+        if (!generatedKeyColumns.isEmpty()) {
+            try (ResultSet rs = ps.getGeneratedKeys()) {
+                if (rs.next()) {
+                    setGeneratedValues(record, generatedKeyColumns, rs);
+                }
             }
         }
-
-        return null;
     }
 
-    public <T, L, R> List<T> joinMany(L leftRecord,
-            FieldGetter<L, R> leftFieldGetter,
-            Class<T> rightTableClass,
-            FieldGetter<T, R> rightFieldGetter) {
-        return joinMany(leftRecord,
-                Arrays.asList(leftFieldGetter),
-                rightTableClass,
-                Arrays.asList(rightFieldGetter));
-    }
+    private void setGeneratedValues(Object record,
+            List<ColumnMetadata> generatedColumns,
+            ResultSet rs) throws SQLException {
+        for (int i = 0; i < generatedColumns.size(); i++) {
+            ColumnMetadata generatedColumn;
+            Object generatedKey;
 
-    public <T, L, R> List<T> joinMany(L leftRecord,
-            List<FieldGetter<L, R>> leftFieldGetters,
-            Class<T> rightTableClass,
-            List<FieldGetter<T, R>> rightFieldGetters) {
-        List<ColumnMetadata> leftColumns;
-        List<ColumnMetadata> rightColumns;
+            generatedKey = rs.getObject(i + 1);
 
-        leftColumns = new ArrayList<>();
+            generatedColumn = generatedColumns.get(i);
 
-        for (FieldGetter<L, R> fieldGetter : leftFieldGetters) {
-            leftColumns.add(metadataManager.getColumnMetadata(fieldGetter));
-        }
+            generatedKey = toFieldType(generatedColumn, generatedKey);
 
-        rightColumns = new ArrayList<>();
+            setRecordValue(record,
+                    generatedColumn,
+                    generatedKey);
+        }
+    }
 
-        for (FieldGetter<T, R> fieldGetter : rightFieldGetters) {
-            rightColumns.add(metadataManager.getColumnMetadata(fieldGetter));
+    private Object toFieldType(ColumnMetadata column, Object value) {
+        if (value instanceof Number) {
+            if (column.getField().getType() == short.class ||
+                    column.getField().getType() == Short.class) {
+                return ((Number) value).shortValue();
+            } else if (column.getField().getType() == int.class ||
+                    column.getField().getType() == Integer.class) {
+                return ((Number) value).intValue();
+            } else if (column.getField().getType() == long.class ||
+                    column.getField().getType() == Long.class) {
+                return ((Number) value).longValue();
+            }
         }
 
-        return join(leftRecord, leftColumns, rightTableClass, rightColumns);
+        return value;
     }
 
-    private <T> List<T> join(Object leftRecord,
-            List<ColumnMetadata> leftColumns,
-            Class<T> rightTableClass,
-            List<ColumnMetadata> rightColumns) {
-        TableMetadata rightTable;
+    private void setMergeValues(Object record,
+            TableMetadata table,
+            SQLDialect dialect,
+            PreparedStatement ps) throws SQLException {
         int index;
 
-        rightTable = getTable(rightTableClass);
+        index = 1;
+
+        for (ColumnMetadata column : table.getStatements(dialect).getMergeColumns()) {
+            setColumnValue(record, column, index, dialect, ps);
 
-        try (Connection connection = dataSource.getConnection()) {
-            SQLDialect dialect;
-            StringBuilder sql;
+            index++;
+        }
+    }
 
-            dialect = metadataManager.initDialect(connection);
+    private void setMergeValues(Object record,
+            TableMetadata table,
+            List<ColumnMetadata> columns,
+            SQLDialect dialect,
+            PreparedStatement ps) throws SQLException {
+        int index;
 
-            sql = new StringBuilder();
+        index = 1;
 
-            sql.append("SELECT ");
+        for (ColumnMetadata column : columns) {
+            setColumnValue(record, column, index, dialect, ps);
 
-            index = 1;
+            index++;
+        }
 
-            for (ColumnMetadata column : rightTable.getColumns()) {
-                if (index > 1) {
-                    sql.append(", ");
-                }
+        for (ColumnMetadata column : table.getStatements(dialect).getPrimaryKeys()) {
+            setColumnValue(record, column, index, dialect, ps);
 
-                sql.append(column.getColumnName());
+            index++;
+        }
+    }
 
-                index++;
-            }
+    private void setRemoveValues(Object record,
+            TableMetadata table,
+            SQLDialect dialect,
+            PreparedStatement ps) throws SQLException {
+        int index;
 
-            sql.append(" FROM ");
-            sql.append(dialect.getTableName(rightTable));
+        index = 1;
 
-            index = 1;
+        for (ColumnMetadata column : table.getStatements(dialect).getPrimaryKeys()) {
+            setColumnValue(record, column, index, dialect, ps);
 
-            for (ColumnMetadata rightColumn : rightColumns) {
-                if (index == 1) {
-                    sql.append(" WHERE ");
-                } else {
-                    sql.append(" AND ");
-                }
+            index++;
+        }
+    }
 
-                sql.append(rightColumn.getColumnName());
-                sql.append(" = ?");
+    private List<ColumnMetadata> getPrimaryKeys(TableMetadata table) {
+        List<ColumnMetadata> primaryKeys;
 
-                index++;
-            }
+        primaryKeys = table.getPrimaryKeys();
 
-            try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
-                index = 1;
+        if (primaryKeys.isEmpty()) {
+            throw new IllegalStateException("No primary key found for class "
+                    + table.getTableClass().getName());
+        }
 
-                for (ColumnMetadata leftColumn : leftColumns) {
-                    setColumnValue(leftRecord, leftColumn, index, dialect, ps);
+        return primaryKeys;
+    }
 
-                    index++;
-                }
+    private List<ColumnMetadata> getUpsertColumns(TableMetadata table, UpsertOptions options) {
+        List<ColumnMetadata> conflictColumns;
+        List<ColumnMetadata> insertColumns;
 
-                return listRecords(rightTableClass,
-                        rightTable,
-                        dialect,
-                        ps);
+        conflictColumns = getConflictColumns(table, options);
+
+        for (ColumnMetadata column : conflictColumns) {
+            if (isGeneratedByDatabase(column)) {
+                throw new IllegalArgumentException("Column "
+                        + column.getColumnName()
+                        + " of class "
+                        + table.getTableClass().getName()
+                        + " is generated by the database and cannot be an upsert conflict target,"
+                        + " use onConflict(...) with a unique natural key.");
             }
-        } catch (Exception e) {
-            throw new RuntimeException(e);
         }
-    }
 
-    @SuppressWarnings("unchecked")
-    public <R, T> Map<R, List<T>> mapMany(List<R> records, Class<T> rightTableClass) {
-        final List<ColumnMetadata> primaryKeys;
-        Map<R, List<Object>> primaryKeyMap;
-        SelectQueryBuilder queryBuilder;
-        Class<R> recordClass = null;
+        insertColumns = new ArrayList<>();
 
-        if (records.isEmpty()) {
-            return new HashMap<>();
+        for (ColumnMetadata column : table.getColumns()) {
+            if (!isGeneratedByDatabase(column)) {
+                insertColumns.add(column);
+            }
         }
 
-        primaryKeys = new ArrayList<>();
-
-        primaryKeyMap = new HashMap<>();
+        return insertColumns;
+    }
 
-        for (R record : records) {
-            List<Object> values;
+    private List<ColumnMetadata> getConflictColumns(TableMetadata table, UpsertOptions options) {
+        List<ColumnMetadata> conflictColumns;
 
-            if (recordClass == null) {
-                TableMetadata table;
+        if (options.getConflictFieldGetters().isEmpty()) {
+            return getPrimaryKeys(table);
+        }
 
-                recordClass = (Class<R>) record.getClass();
+        conflictColumns = new ArrayList<>();
 
-                table = getTable(recordClass);
+        for (FieldGetter<?, ?> fieldGetter : options.getConflictFieldGetters()) {
+            conflictColumns.add(getColumn(table, fieldGetter));
+        }
 
-                primaryKeys.addAll(table.getPrimaryKeys());
+        return conflictColumns;
+    }
 
-                if (primaryKeys.isEmpty()) {
-                    throw new IllegalStateException("No primary key found for class "
-                            + recordClass.getName());
-                }
+    private boolean isStoredKeyRequired(TableMetadata table, List<ColumnMetadata> conflictColumns) {
+        for (ColumnMetadata column : getPrimaryKeys(table)) {
+            if (!conflictColumns.contains(column) &&
+                    column.getAnnotations().containsKey(GeneratedValue.class)) {
+                return true;
             }
+        }
 
-            values = new ArrayList<>();
+        return false;
+    }
 
-            for (ColumnMetadata primaryKey : primaryKeys) {
-                Field field;
+    private boolean loadStoredKey(Object record,
+            TableMetadata table,
+            List<ColumnMetadata> conflictColumns,
+            Connection connection,
+            SQLDialect dialect) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(table.getStatements(dialect)
+                .getJoinSql(conflictColumns))) {
+            int index;
 
-                field = primaryKey.getField();
+            index = 1;
 
-                field.setAccessible(true);
+            for (ColumnMetadata column : conflictColumns) {
+                setColumnValue(record, column, index, dialect, ps);
 
-                try {
-                    values.add(field.get(record));
-                } catch (IllegalAccessException e) {
-                    throw new RuntimeException(e);
-                }
+                index++;
             }
 
-            primaryKeyMap.put(record, values);
-        }
+            try (ResultSet rs = ps.executeQuery()) {
+                Object storedRecord;
 
-        queryBuilder = createSelectQueryBuilder()
-                .select(recordClass)
-                .select(rightTableClass)
-                .from(recordClass)
-                .innerJoin(rightTableClass);
+                if (!rs.next()) {
+                    return false;
+                }
 
-        if (primaryKeys.size() == 1) {
-            List<Object> values;
+                storedRecord = table.getCreator().newInstance(rs, 1, dialect);
 
-            values = new ArrayList<>();
+                for (ColumnMetadata column : getPrimaryKeys(table)) {
+                    setRecordValue(record, column, column.getValue(storedRecord));
+                }
 
-            for (R record : primaryKeyMap.keySet()) {
-                values.add(primaryKeyMap.get(record).get(0));
+                return true;
             }
+        }
+    }
 
-            queryBuilder.where(primaryKeys.get(0), "in", values);
-        } else {
-            if (getDialect().isTupleSupported()) {
-                List<List<Object>> values;
+    private String createUpsertSql(TableMetadata table,
+            List<ColumnMetadata> insertColumns,
+            UpsertOptions options,
+            SQLDialect dialect) {
+        List<ColumnMetadata> conflictColumns;
+        List<ColumnMetadata> updateColumns;
+        StringBuilder key;
 
-                values = new ArrayList<>();
+        conflictColumns = getConflictColumns(table, options);
 
-                for (R record : primaryKeyMap.keySet()) {
-                    values.add(primaryKeyMap.get(record));
-                }
+        updateColumns = new ArrayList<>();
 
-                queryBuilder.where(primaryKeys, "in", values);
+        if (!options.isDoNothing()) {
+            if (options.getUpdateFieldGetters().isEmpty()) {
+                for (ColumnMetadata column : insertColumns) {
+                    if (!column.isPrimaryKey() && !conflictColumns.contains(column)) {
+                        updateColumns.add(column);
+                    }
+                }
             } else {
-                for (R record : primaryKeyMap.keySet()) {
-                    queryBuilder.or(q -> {
-                        List<Object> values;
-                        int index;
-
-                        values = primaryKeyMap.get(record);
+                for (FieldGetter<?, ?> fieldGetter : options.getUpdateFieldGetters()) {
+                    ColumnMetadata column;
 
-                        index = 0;
+                    column = getColumn(table, fieldGetter);
 
-                        for (ColumnMetadata primaryKey : primaryKeys) {
-                            q.and(primaryKey, "=", values.get(index));
+                    if (!insertColumns.contains(column)) {
+                        throw new IllegalArgumentException("Column "
+                                + column.getColumnName()
+                                + " cannot be updated by an upsert");
+                    }
 
-                            index++;
-                        }
-                    });
+                    updateColumns.add(column);
                 }
             }
         }
 
-        if (recordClass == null) {
-            return new HashMap<>();
-        } else {
-            return queryBuilder.mapResultList(recordClass, rightTableClass);
-        }
-    }
-
-    private <T> List<T> listRecords(Class<T> tableClass,
-            TableMetadata table,
-            SQLDialect dialect,
-            PreparedStatement ps) {
-        try (ResultSet rs = ps.executeQuery()) {
-            List<T> records;
+        key = new StringBuilder("upsert");
 
-            records = new ArrayList<>();
+        for (ColumnMetadata column : conflictColumns) {
+            key.append(":");
+            key.append(column.getColumnName());
+        }
 
-            while (rs.next()) {
-                T record;
+        key.append("|");
 
-                record = tableClass.getDeclaredConstructor().newInstance();
+        for (ColumnMetadata column : updateColumns) {
+            key.append(":");
+            key.append(column.getColumnName());
+        }
 
-                for (ColumnMetadata column : table.getColumns()) {
-                    Field field;
-                    Object value;
+        return table.getStatements(dialect).getSql(key.toString(),
+                () -> dialect.createUpsertSql(table,
+                        insertColumns,
+                        conflictColumns,
+                        updateColumns));
+    }
 
-                    field = column.getField();
+    private void setUpsertValues(Object record,
+            TableMetadata table,
+            List<ColumnMetadata> insertColumns,
+            Connection connection,
+            SQLDialect dialect,
+            PreparedStatement ps) throws SQLException {
+        int index;
 
-                    field.setAccessible(true);
+        index = 1;
 
-                    value = rs.getObject(column.getColumnName());
+        for (ColumnMetadata column : insertColumns) {
+            GeneratedValue generatedValue;
 
-                    field.set(record, dialect.fromSqlValue(column, value));
-                }
+            generatedValue = (GeneratedValue) column.getAnnotations()
+                    .get(GeneratedValue.class);
 
-                records.add(record);
+            if (generatedValue != null && isUnassigned(record, column)) {
+                generateValue(record, table, column, generatedValue, connection, dialect);
             }
 
-            return records;
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
+            setColumnValue(record, column, index, dialect, ps);
 
-    public void execute(String sql) {
-        try (Connection connection = getDataSource().getConnection()) {
-            execute(connection, sql);
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
+            index++;
         }
     }
 
-    public void execute(Connection connection, String sql) {
-        try (Statement statement = connection.createStatement()) {
-            statement.execute(sql);
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-    }
+    private boolean isUnassigned(Object record, ColumnMetadata column) {
+        Object value;
 
-    public Query createQuery(String query) {
-        return new Query(this, query);
-    }
+        value = column.getValue(record);
 
-    public SelectQueryBuilder createSelectQueryBuilder() {
-        return new SelectQueryBuilder(this);
+        return value == null ||
+                (column.getField().getType().isPrimitive() &&
+                        value instanceof Number &&
+                        ((Number) value).longValue() == 0);
     }
 
-    public UpdateQueryBuilder createUpdateQueryBuilder() {
-        return new UpdateQueryBuilder(this);
+    private ColumnMetadata getColumn(TableMetadata table, FieldGetter<?, ?> fieldGetter) {
+        ColumnMetadata column;
+
+        column = metadataManager.getColumnMetadata(fieldGetter);
+
+        if (column.getTable() != table) {
+            throw new IllegalArgumentException("Column "
+                    + column.getColumnName()
+                    + " does not belong to class "
+                    + table.getTableClass().getName());
+        }
+
+        return column;
     }
 
-    public DeleteQueryBuilder createDeleteQueryBuilder() {
-        return new DeleteQueryBuilder(this);
+    Object getRecordValue(Object record, ColumnMetadata column) {
+        return column.getValue(record);
     }
 
     private void setRecordValue(Object record,
             ColumnMetadata column,
             Object value) {
-        Field field;
-
-        field = column.getField();
-
-        field.setAccessible(true);
-
-        try {
-            field.set(record, value);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        column.setValue(record, value);
     }
 
     private void setPrimaryKeyValue(Class<?> tableClass,
@@ -882,10 +2091,19 @@ public class TableManager {
             List<ColumnMetadata> primaryKeys,
             Object primaryKey,
             PreparedStatement ps) {
+        setPrimaryKeyValue(tableClass, table, primaryKeys, primaryKey, ps, 1);
+    }
+
+    private void setPrimaryKeyValue(Class<?> tableClass,
+            TableMetadata table,
+            List<ColumnMetadata> primaryKeys,
+            Object primaryKey,
+            PreparedStatement ps,
+            int index) {
         if (table.getIdClass() == null) {
             if (primaryKeys.size() == 1) {
                 try {
-                    ps.setObject(1, primaryKey);
+                    ps.setObject(index, primaryKey);
                 } catch (SQLException e) {
                     throw new RuntimeException(e);
                 }
@@ -895,7 +2113,6 @@ public class TableManager {
             }
         } else {
             Class<?> idClass;
-            int index;
 
             idClass = table.getIdClass();
 
@@ -904,21 +2121,10 @@ public class TableManager {
                         + tableClass.getName());
             }
 
-            index = 1;
-
             for (ColumnMetadata column : primaryKeys) {
-                Field field;
-                Object value;
-
                 try {
-                    field = idClass.getDeclaredField(column.getField().getName());
-
-                    field.setAccessible(true);
-
-                    value = field.get(primaryKey);
-
-                    ps.setObject(index, value);
-                } catch (SQLException | NoSuchFieldException | IllegalAccessException e) {
+                    ps.setObject(index, getPrimaryKeyValue(table, column, primaryKey));
+                } catch (SQLException e) {
                     throw new RuntimeException(e);
                 }
 
@@ -927,28 +2133,33 @@ public class TableManager {
         }
     }
 
-    private void setColumnValue(Object record,
-            ColumnMetadata column,
-            int index,
-            SQLDialect dialect,
-            PreparedStatement ps) throws SQLException {
+    Object getPrimaryKeyValue(TableMetadata table, ColumnMetadata column, Object primaryKey) {
         Field field;
-        Object value;
-
-        field = column.getField();
 
-        field.setAccessible(true);
+        if (table.getIdClass() == null) {
+            return primaryKey;
+        }
 
         try {
-            value = field.get(record);
+            field = table.getIdClass().getDeclaredField(column.getField().getName());
 
-            ps.setObject(index, dialect.toSqlValue(column, value));
-        } catch (IllegalAccessException e) {
+            field.setAccessible(true);
+
+            return field.get(primaryKey);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
             throw new RuntimeException(e);
         }
     }
 
-    private TableMetadata getTable(Class<?> tableClass) {
+    private void setColumnValue(Object record,
+            ColumnMetadata column,
+            int index,
+            SQLDialect dialect,
+            PreparedStatement ps) throws SQLException {
+        column.bindValue(record, ps, index, dialect);
+    }
+
+    TableMetadata getTable(Class<?> tableClass) {
         TableMetadata table;
 
         table = metadataManager.getTableMetadata(tableClass);
@@ -960,4 +2171,9 @@ public class TableManager {
             return table;
         }
     }
+
+    @FunctionalInterface
+    private interface RecordBinder {
+        void bind(Object record) throws SQLException;
+    }
 }
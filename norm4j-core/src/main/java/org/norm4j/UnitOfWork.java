@@ -0,0 +1,250 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.norm4j.metadata.TableMetadata;
+
+class UnitOfWork {
+    private final TableManager tableManager;
+    private final Map<TableMetadata, List<Object>> inserts;
+    private final Map<TableMetadata, List<Object>> updates;
+    private final Map<TableMetadata, List<Object>> deletes;
+    private final Map<TableMetadata, List<Object>> primaryKeyDeletes;
+    private final Set<Object> pendingInserts;
+    private final Set<Object> pendingUpdates;
+    private final Set<Object> pendingDeletes;
+
+    UnitOfWork(TableManager tableManager) {
+        this.tableManager = tableManager;
+
+        inserts = new LinkedHashMap<>();
+
+        updates = new LinkedHashMap<>();
+
+        deletes = new LinkedHashMap<>();
+
+        primaryKeyDeletes = new LinkedHashMap<>();
+
+        pendingInserts = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        pendingUpdates = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        pendingDeletes = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    boolean isEmpty() {
+        return inserts.isEmpty() &&
+                updates.isEmpty() &&
+                deletes.isEmpty() &&
+                primaryKeyDeletes.isEmpty();
+    }
+
+    void persist(Connection connection, Object record) {
+        TableMetadata table;
+
+        table = tableManager.getTable(record.getClass());
+
+        if (pendingDeletes.remove(record)) {
+            discard(deletes, table, record);
+
+            merge(record);
+
+            return;
+        }
+
+        if (!pendingInserts.add(record)) {
+            return;
+        }
+
+        tableManager.generateValues(connection, record);
+
+        inserts.computeIfAbsent(table, k -> new ArrayList<>()).add(record);
+    }
+
+    void merge(Object record) {
+        TableMetadata table;
+
+        table = tableManager.getTable(record.getClass());
+
+        if (pendingInserts.contains(record) ||
+                pendingDeletes.contains(record) ||
+                !pendingUpdates.add(record)) {
+            return;
+        }
+
+        updates.computeIfAbsent(table, k -> new ArrayList<>()).add(record);
+    }
+
+    void remove(Object record) {
+        TableMetadata table;
+
+        table = tableManager.getTable(record.getClass());
+
+        if (pendingInserts.remove(record)) {
+            discard(inserts, table, record);
+
+            return;
+        }
+
+        if (pendingUpdates.remove(record)) {
+            discard(updates, table, record);
+        }
+
+        if (pendingDeletes.add(record)) {
+            deletes.computeIfAbsent(table, k -> new ArrayList<>()).add(record);
+        }
+    }
+
+    void remove(Class<?> tableClass, Object primaryKey) {
+        primaryKeyDeletes.computeIfAbsent(tableManager.getTable(tableClass), k -> new ArrayList<>())
+                .add(primaryKey);
+    }
+
+    void flush(Connection connection) {
+        List<TableMetadata> tables;
+
+        if (isEmpty()) {
+            return;
+        }
+
+        tables = sortTables();
+
+        try {
+            for (TableMetadata table : tables) {
+                if (inserts.containsKey(table)) {
+                    tableManager.persistPending(connection, table, inserts.get(table));
+                }
+            }
+
+            for (TableMetadata table : tables) {
+                if (updates.containsKey(table)) {
+                    tableManager.mergeAll(connection, updates.get(table));
+                }
+            }
+
+            for (int i = tables.size() - 1; i >= 0; i--) {
+                TableMetadata table;
+
+                table = tables.get(i);
+
+                if (deletes.containsKey(table)) {
+                    tableManager.removeAll(connection, deletes.get(table));
+                }
+
+                if (primaryKeyDeletes.containsKey(table)) {
+                    tableManager.removePending(connection, table, primaryKeyDeletes.get(table));
+                }
+            }
+        } finally {
+            clear();
+        }
+    }
+
+    void clear() {
+        inserts.clear();
+
+        updates.clear();
+
+        deletes.clear();
+
+        primaryKeyDeletes.clear();
+
+        pendingInserts.clear();
+
+        pendingUpdates.clear();
+
+        pendingDeletes.clear();
+    }
+
+    private List<TableMetadata> sortTables() {
+        Set<TableMetadata> visited;
+        Set<TableMetadata> tables;
+        List<TableMetadata> sorted;
+
+        tables = new LinkedHashSet<>();
+
+        tables.addAll(inserts.keySet());
+        tables.addAll(updates.keySet());
+        tables.addAll(deletes.keySet());
+        tables.addAll(primaryKeyDeletes.keySet());
+
+        visited = new HashSet<>();
+
+        sorted = new ArrayList<>();
+
+        for (TableMetadata table : tables) {
+            visit(table, tables, visited, sorted);
+        }
+
+        return sorted;
+    }
+
+    private void visit(TableMetadata table,
+            Set<TableMetadata> tables,
+            Set<TableMetadata> visited,
+            List<TableMetadata> sorted) {
+        if (!visited.add(table)) {
+            return;
+        }
+
+        for (Join join : table.getJoins()) {
+            TableMetadata referenceTable;
+
+            if (!join.referencialIntegrity()) {
+                continue;
+            }
+
+            referenceTable = tableManager.getMetadataManager()
+                    .getTableMetadata(join.reference().table());
+
+            if (referenceTable != null && referenceTable != table) {
+                visit(referenceTable, tables, visited, sorted);
+            }
+        }
+
+        if (tables.contains(table)) {
+            sorted.add(table);
+        }
+    }
+
+    private void discard(Map<TableMetadata, List<Object>> actions, TableMetadata table, Object record) {
+        List<Object> records;
+
+        records = actions.get(table);
+
+        records.removeIf(r -> r == record);
+
+        if (records.isEmpty()) {
+            actions.remove(table);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class UpsertOptions {
+    private final List<FieldGetter<?, ?>> conflictFieldGetters;
+    private final List<FieldGetter<?, ?>> updateFieldGetters;
+    private boolean doNothing;
+
+    public UpsertOptions() {
+        conflictFieldGetters = new ArrayList<>();
+
+        updateFieldGetters = new ArrayList<>();
+    }
+
+    public <T, R> UpsertOptions onConflict(FieldGetter<T, R> fieldGetter) {
+        conflictFieldGetters.add(fieldGetter);
+
+        return this;
+    }
+
+    public <T, R> UpsertOptions update(FieldGetter<T, R> fieldGetter) {
+        updateFieldGetters.add(fieldGetter);
+
+        return this;
+    }
+
+    public UpsertOptions doNothing() {
+        doNothing = true;
+
+        return this;
+    }
+
+    public List<FieldGetter<?, ?>> getConflictFieldGetters() {
+        return conflictFieldGetters;
+    }
+
+    public List<FieldGetter<?, ?>> getUpdateFieldGetters() {
+        return updateFieldGetters;
+    }
+
+    public boolean isDoNothing() {
+        return doNothing;
+    }
+}
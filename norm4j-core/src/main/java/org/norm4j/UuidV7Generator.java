@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UuidV7Generator implements IdGenerator<UUID> {
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private final AtomicLong state;
+
+    public UuidV7Generator() {
+        state = new AtomicLong();
+    }
+
+    @Override
+    public UUID generate() {
+        return createUuid(reserve(1));
+    }
+
+    public List<UUID> generate(int count) {
+        List<UUID> uuids;
+        long first;
+
+        if (count < 1) {
+            throw new IllegalArgumentException("Invalid count " + count);
+        }
+
+        first = reserve(count);
+
+        uuids = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            uuids.add(createUuid(first + i));
+        }
+
+        return uuids;
+    }
+
+    private long reserve(int count) {
+        for (;;) {
+            long previous;
+            long next;
+
+            previous = state.get();
+
+            next = Math.max(System.currentTimeMillis() << COUNTER_BITS, previous + 1);
+
+            if (state.compareAndSet(previous, next + count - 1)) {
+                return next;
+            }
+        }
+    }
+
+    private UUID createUuid(long value) {
+        long mostSigBits;
+        long leastSigBits;
+
+        mostSigBits = ((value >>> COUNTER_BITS) << 16)
+                | 0x7000L
+                | (value & COUNTER_MASK);
+
+        leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL)
+                | 0x8000000000000000L;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,630 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.norm4j.metadata.ColumnMetadata;
+import org.norm4j.metadata.TableMetadata;
+
+public class WriteBehindQueue implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(WriteBehindQueue.class.getName());
+
+    private final TableManager tableManager;
+    private final List<Object> inserts;
+    private final Map<List<Object>, Object> merges;
+    private final ReentrantLock lock;
+    private final ReentrantLock flushLock;
+    private final Condition notFull;
+    private final Condition flushRequested;
+    private final Thread worker;
+    private final Thread shutdownHook;
+    private final int capacity;
+    private final int flushSize;
+    private final long flushIntervalNanos;
+    private final AtomicLong submittedCount;
+    private final AtomicLong coalescedCount;
+    private final AtomicLong flushedCount;
+    private final AtomicLong flushCount;
+    private final AtomicLong failedCount;
+    private final AtomicLong failedFlushCount;
+    private final AtomicLong totalFlushNanos;
+    private final AtomicLong maxFlushNanos;
+    private volatile BiConsumer<List<Object>, RuntimeException> failureHandler;
+    private volatile RuntimeException lastFailure;
+    private volatile long lastFlushNanos;
+    private volatile int maxRetries;
+    private volatile int consecutiveFailures;
+    private boolean closed;
+
+    public WriteBehindQueue(TableManager tableManager,
+            int capacity,
+            int flushSize,
+            long flushIntervalMillis) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+
+        if (flushSize < 1 || flushSize > capacity) {
+            throw new IllegalArgumentException("Invalid flush size " + flushSize);
+        }
+
+        if (flushIntervalMillis < 1) {
+            throw new IllegalArgumentException("Invalid flush interval " + flushIntervalMillis);
+        }
+
+        this.tableManager = tableManager;
+
+        this.capacity = capacity;
+
+        this.flushSize = flushSize;
+
+        flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+
+        inserts = new ArrayList<>();
+
+        merges = new LinkedHashMap<>();
+
+        lock = new ReentrantLock();
+
+        flushLock = new ReentrantLock();
+
+        notFull = lock.newCondition();
+
+        flushRequested = lock.newCondition();
+
+        submittedCount = new AtomicLong();
+
+        coalescedCount = new AtomicLong();
+
+        flushedCount = new AtomicLong();
+
+        flushCount = new AtomicLong();
+
+        failedCount = new AtomicLong();
+
+        failedFlushCount = new AtomicLong();
+
+        totalFlushNanos = new AtomicLong();
+
+        maxFlushNanos = new AtomicLong();
+
+        maxRetries = 5;
+
+        worker = new Thread(this::run, "norm4j-write-behind");
+
+        worker.setDaemon(true);
+
+        worker.start();
+
+        shutdownHook = new Thread(this::close, "norm4j-write-behind-shutdown");
+
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getFlushSize() {
+        return flushSize;
+    }
+
+    public long getFlushIntervalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos);
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public WriteBehindQueue setMaxRetries(int maxRetries) {
+        if (maxRetries < 1) {
+            throw new IllegalArgumentException("Invalid max retries " + maxRetries);
+        }
+
+        this.maxRetries = maxRetries;
+
+        return this;
+    }
+
+    public BiConsumer<List<Object>, RuntimeException> getFailureHandler() {
+        return failureHandler;
+    }
+
+    public WriteBehindQueue setFailureHandler(BiConsumer<List<Object>, RuntimeException> failureHandler) {
+        this.failureHandler = failureHandler;
+
+        return this;
+    }
+
+    public int getQueueDepth() {
+        lock.lock();
+
+        try {
+            return getDepth();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getSubmittedCount() {
+        return submittedCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public long getFlushedCount() {
+        return flushedCount.get();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getFailedFlushCount() {
+        return failedFlushCount.get();
+    }
+
+    public RuntimeException getLastFailure() {
+        return lastFailure;
+    }
+
+    public long getLastFlushLatencyNanos() {
+        return lastFlushNanos;
+    }
+
+    public long getMaxFlushLatencyNanos() {
+        return maxFlushNanos.get();
+    }
+
+    public long getAverageFlushLatencyNanos() {
+        long count;
+
+        count = flushCount.get() + failedFlushCount.get();
+
+        if (count == 0) {
+            return 0;
+        }
+
+        return totalFlushNanos.get() / count;
+    }
+
+    public void persist(Object record) {
+        tableManager.generateValues(record);
+
+        lock.lock();
+
+        try {
+            awaitCapacity();
+
+            inserts.add(record);
+
+            submitted();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void merge(Object record) {
+        List<Object> key;
+
+        key = getKey(record);
+
+        lock.lock();
+
+        try {
+            if (closed) {
+                throw new IllegalStateException("The write-behind queue is closed.");
+            }
+
+            if (merges.containsKey(key)) {
+                merges.put(key, record);
+
+                coalescedCount.incrementAndGet();
+
+                submittedCount.incrementAndGet();
+
+                return;
+            }
+
+            awaitCapacity();
+
+            merges.put(key, record);
+
+            submitted();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void flush() {
+        Map<List<Object>, Object> pendingMerges;
+        List<Object> pendingInserts;
+        List<Failure> failures;
+        List<Object> records;
+        long start;
+        long elapsed;
+        int failedRecordCount;
+
+        flushLock.lock();
+
+        try {
+            lock.lock();
+
+            try {
+                pendingInserts = new ArrayList<>(inserts);
+
+                pendingMerges = new LinkedHashMap<>(merges);
+
+                inserts.clear();
+
+                merges.clear();
+
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            records = new ArrayList<>(pendingInserts);
+
+            records.addAll(pendingMerges.values());
+
+            if (records.isEmpty()) {
+                return;
+            }
+
+            start = System.nanoTime();
+
+            failures = new ArrayList<>();
+
+            write(records, pendingInserts.size(), 0, records.size(), failures);
+
+            if (failures.isEmpty()) {
+                flushCount.incrementAndGet();
+
+                flushedCount.addAndGet(records.size());
+
+                succeeded();
+            } else {
+                failedRecordCount = 0;
+
+                for (Failure failure : failures) {
+                    failedRecordCount += failure.to - failure.from;
+                }
+
+                failedFlushCount.incrementAndGet();
+
+                flushedCount.addAndGet(records.size() - failedRecordCount);
+
+                failedCount.addAndGet(failedRecordCount);
+
+                lastFailure = failures.get(failures.size() - 1).exception;
+
+                failed(records, pendingInserts.size(), failures);
+            }
+
+            elapsed = System.nanoTime() - start;
+
+            lastFlushNanos = elapsed;
+
+            totalFlushNanos.addAndGet(elapsed);
+
+            maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        int depth;
+
+        lock.lock();
+
+        try {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+
+            flushRequested.signalAll();
+
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                LOGGER.log(Level.FINE, "Shutdown hook not removed, the JVM is shutting down.", e);
+            }
+        }
+
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        flush();
+
+        for (int attempt = 1; attempt < maxRetries && getQueueDepth() > 0; attempt++) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(getRetryDelayNanos());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                break;
+            }
+
+            flush();
+        }
+
+        depth = getQueueDepth();
+
+        if (depth > 0) {
+            throw new IllegalStateException("Unable to flush "
+                    + depth
+                    + " write-behind records.", lastFailure);
+        }
+    }
+
+    private void run() {
+        while (awaitFlush()) {
+            flush();
+        }
+    }
+
+    private boolean awaitFlush() {
+        long remaining;
+
+        lock.lock();
+
+        try {
+            if (consecutiveFailures > 0) {
+                remaining = getRetryDelayNanos();
+
+                while (!closed && remaining > 0) {
+                    remaining = flushRequested.awaitNanos(remaining);
+                }
+
+                return !closed;
+            }
+
+            remaining = flushIntervalNanos;
+
+            while (!closed && getDepth() < flushSize && remaining > 0) {
+                remaining = flushRequested.awaitNanos(remaining);
+            }
+
+            return !closed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitCapacity() {
+        while (!closed && getDepth() >= capacity) {
+            flushRequested.signal();
+
+            try {
+                notFull.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new IllegalStateException("Interrupted while waiting for capacity.", e);
+            }
+        }
+
+        if (closed) {
+            throw new IllegalStateException("The write-behind queue is closed.");
+        }
+    }
+
+    private void submitted() {
+        submittedCount.incrementAndGet();
+
+        if (getDepth() >= flushSize) {
+            flushRequested.signal();
+        }
+    }
+
+    private void succeeded() {
+        lock.lock();
+
+        try {
+            consecutiveFailures = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(List<Object> records,
+            int insertCount,
+            int from,
+            int to,
+            List<Failure> failures) {
+        try {
+            tableManager.inTransaction(session -> {
+                tableManager.persistPending(session.getConnection(),
+                        records.subList(Math.min(from, insertCount), Math.min(to, insertCount)));
+
+                tableManager.mergeAll(session.getConnection(),
+                        records.subList(Math.max(from, insertCount), Math.max(to, insertCount)));
+            });
+        } catch (RuntimeException e) {
+            int middle;
+
+            if (to - from == 1 || isConnectionFailure(e)) {
+                failures.add(new Failure(from, to, e));
+
+                return;
+            }
+
+            middle = (from + to) >>> 1;
+
+            write(records, insertCount, from, middle, failures);
+
+            write(records, insertCount, middle, to, failures);
+        }
+    }
+
+    private void failed(List<Object> records, int insertCount, List<Failure> failures) {
+        BiConsumer<List<Object>, RuntimeException> failureHandler;
+
+        failureHandler = this.failureHandler;
+
+        lock.lock();
+
+        try {
+            consecutiveFailures++;
+
+            if (failureHandler == null || consecutiveFailures < maxRetries) {
+                Map<List<Object>, Object> requeued;
+                List<Object> failedInserts;
+
+                failedInserts = new ArrayList<>();
+
+                requeued = new LinkedHashMap<>();
+
+                for (Failure failure : failures) {
+                    for (int i = failure.from; i < failure.to; i++) {
+                        if (i < insertCount) {
+                            failedInserts.add(records.get(i));
+                        } else {
+                            requeued.put(getKey(records.get(i)), records.get(i));
+                        }
+                    }
+                }
+
+                inserts.addAll(0, failedInserts);
+
+                requeued.putAll(merges);
+
+                merges.clear();
+
+                merges.putAll(requeued);
+
+                return;
+            }
+
+            consecutiveFailures = 0;
+        } finally {
+            lock.unlock();
+        }
+
+        for (Failure failure : failures) {
+            try {
+                failureHandler.accept(new ArrayList<>(records.subList(failure.from, failure.to)),
+                        failure.exception);
+            } catch (RuntimeException e) {
+                failure.exception.addSuppressed(e);
+            }
+        }
+    }
+
+    private boolean isConnectionFailure(Throwable exception) {
+        while (exception != null) {
+            if (exception instanceof SQLTransientConnectionException ||
+                    exception instanceof SQLNonTransientConnectionException ||
+                    exception instanceof SQLRecoverableException) {
+                return true;
+            }
+
+            if (exception instanceof SQLException &&
+                    ((SQLException) exception).getSQLState() != null &&
+                    ((SQLException) exception).getSQLState().startsWith("08")) {
+                return true;
+            }
+
+            exception = exception.getCause();
+        }
+
+        return false;
+    }
+
+    private long getRetryDelayNanos() {
+        return flushIntervalNanos << Math.max(Math.min(consecutiveFailures - 1, 6), 0);
+    }
+
+    private int getDepth() {
+        return inserts.size() + merges.size();
+    }
+
+    private List<Object> getKey(Object record) {
+        TableMetadata table;
+        List<Object> key;
+
+        table = tableManager.getTable(record.getClass());
+
+        key = new ArrayList<>();
+
+        key.add(table);
+
+        for (ColumnMetadata column : table.getPrimaryKeys()) {
+            key.add(tableManager.getRecordValue(record, column));
+        }
+
+        return key;
+    }
+
+    private static class Failure {
+        private final int from;
+        private final int to;
+        private final RuntimeException exception;
+
+        private Failure(int from, int to, RuntimeException exception) {
+            this.from = from;
+
+            this.to = to;
+
+            this.exception = exception;
+        }
+    }
+}
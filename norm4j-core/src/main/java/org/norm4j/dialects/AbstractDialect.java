@@ -66,11 +66,36 @@ public abstract class AbstractDialect implements SQLDialect {
         return true;
     }
 
+    @Override
+    public boolean isBatchGeneratedKeysSupported() {
+        return false;
+    }
+
     @Override
     public boolean isMultiStatementsSupported() {
         return true;
     }
 
+    @Override
+    public boolean isCursorTransactionRequired() {
+        return false;
+    }
+
+    @Override
+    public boolean isMultiRowInsertSupported(TableMetadata table) {
+        return true;
+    }
+
+    @Override
+    public int getMaxParameterCount() {
+        return 65535;
+    }
+
+    @Override
+    public int getMaxInsertRowCount() {
+        return Integer.MAX_VALUE;
+    }
+
     @Override
     public List<String> parseMultiStatements(String sql) {
         List<String> statements = new ArrayList<>();
@@ -330,6 +355,32 @@ public abstract class AbstractDialect implements SQLDialect {
     @Override
     public PreparedStatement createPersistStatement(Connection connection,
             TableMetadata table) {
+        return createBulkPersistStatement(connection, table, 1);
+    }
+
+    @Override
+    public PreparedStatement createBulkPersistStatement(Connection connection,
+            TableMetadata table,
+            int rowCount,
+            boolean cached) {
+        String sql;
+
+        if (cached) {
+            sql = table.getStatements(this).getSql("persist:" + rowCount,
+                    () -> createPersistSql(table, rowCount));
+        } else {
+            sql = createPersistSql(table, rowCount);
+        }
+
+        try {
+            return connection.prepareStatement(sql,
+                    Statement.RETURN_GENERATED_KEYS);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private String createPersistSql(TableMetadata table, int rowCount) {
         StringBuilder sql;
         StringBuilder values;
         int index;
@@ -351,8 +402,8 @@ public abstract class AbstractDialect implements SQLDialect {
                     .get(GeneratedValue.class);
 
             if (generatedValue == null ||
-                    (generatedValue != null &&
-                            generatedValue.strategy() != GenerationType.AUTO &&
+                    column.isPooledSequence() ||
+                    (generatedValue.strategy() != GenerationType.AUTO &&
                             generatedValue.strategy() != GenerationType.IDENTITY &&
                             generatedValue.strategy() != GenerationType.SEQUENCE)) {
                 if (index > 1) {
@@ -369,16 +420,19 @@ public abstract class AbstractDialect implements SQLDialect {
             }
         }
 
-        sql.append(") VALUES (");
-        sql.append(values);
-        sql.append(")");
+        sql.append(") VALUES ");
 
-        try {
-            return connection.prepareStatement(sql.toString(),
-                    Statement.RETURN_GENERATED_KEYS);
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append("(");
+            sql.append(values);
+            sql.append(")");
         }
+
+        return sql.toString();
     }
 
     @Override
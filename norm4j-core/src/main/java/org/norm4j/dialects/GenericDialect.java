@@ -1,7 +1,9 @@
 package org.norm4j.dialects;
 
 import java.sql.Connection;
+import java.util.List;
 
+import org.norm4j.metadata.ColumnMetadata;
 import org.norm4j.metadata.TableMetadata;
 import org.norm4j.schema.SchemaColumn;
 import org.norm4j.schema.SchemaJoin;
@@ -21,6 +23,14 @@ public class GenericDialect extends AbstractDialect {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public String createUpsertSql(TableMetadata table,
+            List<ColumnMetadata> insertColumns,
+            List<ColumnMetadata> conflictColumns,
+            List<ColumnMetadata> updateColumns) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public String createSequenceTable(String schema, String tableName, String pkColumnName, String valueColumnName) {
         throw new UnsupportedOperationException();
@@ -37,7 +47,17 @@ public class GenericDialect extends AbstractDialect {
     }
 
     @Override
-    public String createSequence(String schema, String sequenceName, int initialValue) {
+    public String createSequence(String schema, String sequenceName, int initialValue, int allocationSize) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String alterSequence(String schema, String sequenceName, int allocationSize) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String createNextSequenceValueSql(ColumnMetadata column) {
         throw new UnsupportedOperationException();
     }
 
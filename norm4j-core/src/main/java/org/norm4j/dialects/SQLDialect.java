@@ -39,14 +39,28 @@ public interface SQLDialect {
 
         public boolean isTupleSupported();
 
+        public default boolean isTupleComparisonSupported() {
+                return isTupleSupported();
+        }
+
         public boolean isArraySupported();
 
         public boolean isSequenceSupported();
 
         public boolean isGeneratedKeysForSequenceSupported();
 
+        public boolean isBatchGeneratedKeysSupported();
+
         public boolean isMultiStatementsSupported();
 
+        public boolean isCursorTransactionRequired();
+
+        public boolean isMultiRowInsertSupported(TableMetadata table);
+
+        public int getMaxParameterCount();
+
+        public int getMaxInsertRowCount();
+
         public List<String> parseMultiStatements(String sql);
 
         public default String getTableName(TableMetadata table) {
@@ -67,9 +81,22 @@ public interface SQLDialect {
 
         public String createSequenceName(SchemaTable table, SchemaColumn column);
 
+        public default String createSequence(String schema,
+                        String sequenceName,
+                        int initialValue) {
+                return createSequence(schema, sequenceName, initialValue, 1);
+        }
+
         public String createSequence(String schema,
                         String sequenceName,
-                        int initialValue);
+                        int initialValue,
+                        int allocationSize);
+
+        public String alterSequence(String schema,
+                        String sequenceName,
+                        int allocationSize);
+
+        public String createNextSequenceValueSql(ColumnMetadata column);
 
         public String createTable(TableMetadata table);
 
@@ -106,6 +133,22 @@ public interface SQLDialect {
         public PreparedStatement createPersistStatement(Connection connection,
                         TableMetadata table);
 
+        public default PreparedStatement createBulkPersistStatement(Connection connection,
+                        TableMetadata table,
+                        int rowCount) {
+                return createBulkPersistStatement(connection, table, rowCount, true);
+        }
+
+        public PreparedStatement createBulkPersistStatement(Connection connection,
+                        TableMetadata table,
+                        int rowCount,
+                        boolean cached);
+
+        public String createUpsertSql(TableMetadata table,
+                        List<ColumnMetadata> insertColumns,
+                        List<ColumnMetadata> conflictColumns,
+                        List<ColumnMetadata> updateColumns);
+
         public PreparedStatement createLockStatement(Connection connection, TableMetadata table);
 
         public Object fromSqlValue(ColumnMetadata column, Object value);
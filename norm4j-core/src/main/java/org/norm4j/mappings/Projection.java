@@ -0,0 +1,323 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.mappings;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.norm4j.dialects.SQLDialect;
+import org.norm4j.metadata.ColumnMetadata;
+import org.norm4j.metadata.FieldGetterMetadata;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.metadata.TableMetadata;
+
+public class Projection<D> {
+    private final Class<?> sourceClass;
+    private final Class<D> targetClass;
+    private final List<ColumnMetadata> columns;
+    private final Class<?>[] targetTypes;
+    private final MethodHandle[] setters;
+    private final int[] parameterIndexes;
+    private final Object[] defaults;
+    private final MethodHandle constructor;
+    private final boolean scalar;
+
+    private Projection(MetadataManager metadataManager,
+            Class<?> sourceClass,
+            Class<D> targetClass,
+            List<? extends FieldMapping<?, ?>> fieldMappings) {
+        List<Field> targetFields;
+        Set<String> explicitFieldNames;
+        TableMetadata table;
+
+        this.sourceClass = sourceClass;
+
+        this.targetClass = targetClass;
+
+        table = metadataManager.getTableMetadata(sourceClass);
+
+        if (table == null) {
+            throw new IllegalArgumentException("No metadata found for class "
+                    + sourceClass.getName());
+        }
+
+        columns = new ArrayList<>();
+
+        targetFields = new ArrayList<>();
+
+        scalar = fieldMappings.size() == 1
+                && fieldMappings.get(0).getTargetGetter() == null;
+
+        if (scalar) {
+            columns.add(getSourceColumn(metadataManager, table, fieldMappings.get(0)));
+
+            targetTypes = new Class<?>[] { targetClass };
+
+            setters = null;
+
+            parameterIndexes = null;
+
+            defaults = null;
+
+            constructor = null;
+
+            return;
+        }
+
+        explicitFieldNames = new HashSet<>();
+
+        for (FieldMapping<?, ?> fieldMapping : fieldMappings) {
+            ColumnMetadata column;
+
+            column = getSourceColumn(metadataManager, table, fieldMapping);
+
+            if (RecordMapper.skip(column.getField(), true)) {
+                continue;
+            }
+
+            explicitFieldNames.add(column.getField().getName());
+
+            columns.add(column);
+
+            targetFields.add(getTargetField(fieldMapping));
+        }
+
+        for (ColumnMetadata column : table.getColumns()) {
+            Field targetField;
+
+            if (explicitFieldNames.contains(column.getField().getName())
+                    || RecordMapper.skip(column.getField(), true)) {
+                continue;
+            }
+
+            try {
+                targetField = targetClass.getDeclaredField(column.getField().getName());
+            } catch (NoSuchFieldException e) {
+                continue;
+            }
+
+            if (Modifier.isStatic(targetField.getModifiers()) ||
+                    targetField.isSynthetic()) {
+                continue;
+            }
+
+            columns.add(column);
+
+            targetFields.add(targetField);
+        }
+
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("No column of class "
+                    + sourceClass.getName()
+                    + " maps to class "
+                    + targetClass.getName());
+        }
+
+        targetTypes = new Class<?>[columns.size()];
+
+        for (int i = 0; i < targetTypes.length; i++) {
+            targetTypes[i] = targetFields.get(i).getType();
+        }
+
+        try {
+            if (targetClass.isRecord()) {
+                RecordComponent[] components;
+                Constructor<D> canonical;
+                Class<?>[] types;
+
+                components = targetClass.getRecordComponents();
+
+                types = new Class<?>[components.length];
+
+                defaults = new Object[components.length];
+
+                for (int i = 0; i < components.length; i++) {
+                    types[i] = components[i].getType();
+
+                    if (types[i].isPrimitive()) {
+                        defaults[i] = Array.get(Array.newInstance(types[i], 1), 0);
+                    }
+                }
+
+                parameterIndexes = new int[columns.size()];
+
+                for (int i = 0; i < parameterIndexes.length; i++) {
+                    for (int j = 0; j < components.length; j++) {
+                        if (components[j].getName().equals(targetFields.get(i).getName())) {
+                            parameterIndexes[i] = j;
+                        }
+                    }
+                }
+
+                canonical = targetClass.getDeclaredConstructor(types);
+
+                canonical.setAccessible(true);
+
+                constructor = MethodHandles.lookup()
+                        .unreflectConstructor(canonical)
+                        .asSpreader(Object[].class, components.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+
+                setters = null;
+            } else {
+                Constructor<D> noArg;
+
+                noArg = targetClass.getDeclaredConstructor();
+
+                noArg.setAccessible(true);
+
+                constructor = MethodHandles.lookup()
+                        .unreflectConstructor(noArg)
+                        .asType(MethodType.methodType(Object.class));
+
+                setters = new MethodHandle[columns.size()];
+
+                for (int i = 0; i < setters.length; i++) {
+                    targetFields.get(i).setAccessible(true);
+
+                    setters[i] = MethodHandles.lookup()
+                            .unreflectSetter(targetFields.get(i))
+                            .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                }
+
+                parameterIndexes = null;
+
+                defaults = null;
+            }
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static <R, D> Projection<D> of(MetadataManager metadataManager,
+            Class<R> sourceClass,
+            RecordMapper<R, D> mapper) {
+        if (!mapper.getRelationMappings().isEmpty()) {
+            throw new IllegalArgumentException("Projections do not support joins, use mapList(...) instead.");
+        }
+
+        return new Projection<>(metadataManager,
+                sourceClass,
+                mapper.getTargetClass(),
+                mapper.getFieldMappings());
+    }
+
+    public static <D> Projection<D> of(MetadataManager metadataManager,
+            Class<?> sourceClass,
+            Class<D> targetClass) {
+        return new Projection<>(metadataManager,
+                sourceClass,
+                targetClass,
+                Collections.emptyList());
+    }
+
+    public Class<?> getSourceClass() {
+        return sourceClass;
+    }
+
+    public Class<D> getTargetClass() {
+        return targetClass;
+    }
+
+    public List<ColumnMetadata> getColumns() {
+        return Collections.unmodifiableList(columns);
+    }
+
+    @SuppressWarnings("unchecked")
+    public D read(ResultSet rs, int index, SQLDialect dialect) throws SQLException {
+        try {
+            if (scalar) {
+                return (D) RecordMapper.convertObject(columns.get(0).readValue(rs, index, dialect),
+                        targetClass);
+            } else if (setters == null) {
+                Object[] arguments;
+
+                arguments = defaults.clone();
+
+                for (int i = 0; i < parameterIndexes.length; i++) {
+                    arguments[parameterIndexes[i]] = RecordMapper.convertObject(
+                            columns.get(i).readValue(rs, index + i, dialect),
+                            targetTypes[i]);
+                }
+
+                return (D) (Object) constructor.invokeExact(arguments);
+            } else {
+                Object target;
+
+                target = (Object) constructor.invokeExact();
+
+                for (int i = 0; i < setters.length; i++) {
+                    setters[i].invokeExact(target, RecordMapper.convertObject(
+                            columns.get(i).readValue(rs, index + i, dialect),
+                            targetTypes[i]));
+                }
+
+                return (D) target;
+            }
+        } catch (SQLException | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static ColumnMetadata getSourceColumn(MetadataManager metadataManager,
+            TableMetadata table,
+            FieldMapping<?, ?> fieldMapping) {
+        ColumnMetadata column;
+
+        column = metadataManager.getColumnMetadata(fieldMapping.getSourceGetter());
+
+        if (column.getTable() != table) {
+            throw new IllegalArgumentException("Field "
+                    + column.getField().getName()
+                    + " does not belong to class "
+                    + table.getTableClass().getName());
+        }
+
+        return column;
+    }
+
+    private Field getTargetField(FieldMapping<?, ?> fieldMapping) {
+        FieldGetterMetadata fieldGetterMetadata;
+
+        fieldGetterMetadata = FieldGetterMetadata.extractMetadata(fieldMapping.getTargetGetter());
+
+        try {
+            return targetClass.getDeclaredField(fieldGetterMetadata.getFieldName());
+        } catch (NoSuchFieldException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
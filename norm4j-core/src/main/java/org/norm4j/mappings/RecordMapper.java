@@ -54,6 +54,18 @@ public class RecordMapper<R, D> {
         this.relationMappings = relationMappings;
     }
 
+    public Class<D> getTargetClass() {
+        return targetClass;
+    }
+
+    public List<FieldMapping<R, D>> getFieldMappings() {
+        return fieldMappings;
+    }
+
+    public List<RelationMapping<?, ?, ?>> getRelationMappings() {
+        return relationMappings;
+    }
+
     public List<D> mapList(List<R> sourceObjects) {
         return mapList(sourceObjects, true);
     }
@@ -291,7 +303,7 @@ public class RecordMapper<R, D> {
         }
     }
 
-    private boolean skip(Field field, boolean excludeInternal) {
+    static boolean skip(Field field, boolean excludeInternal) {
         if (Modifier.isStatic(field.getModifiers()) ||
                 field.isSynthetic()) {
             return true;
@@ -323,7 +335,7 @@ public class RecordMapper<R, D> {
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    private Object convertObject(Object sourceObject, Class<?> targetClass) {
+    static Object convertObject(Object sourceObject, Class<?> targetClass) {
         if (sourceObject != null) {
             if ((sourceObject instanceof java.sql.Date ||
                     sourceObject instanceof java.util.Date) &&
@@ -21,22 +21,75 @@
 package org.norm4j.metadata;
 
 import org.norm4j.Column;
+import org.norm4j.GeneratedValue;
+import org.norm4j.GenerationType;
 import org.norm4j.Id;
+import org.norm4j.SequenceGenerator;
+import org.norm4j.dialects.SQLDialect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Map;
 
 public class ColumnMetadata {
     private final TableMetadata table;
     private final Map<Class<?>, Object> annotations;
     private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final MethodHandle primitiveGetter;
+    private final MethodHandle primitiveSetter;
 
     public ColumnMetadata(TableMetadata table, Map<Class<?>, Object> annotations, Field field) {
+        MethodHandles.Lookup lookup;
+        Class<?> type;
+
         this.table = table;
 
         this.annotations = annotations;
 
         this.field = field;
+
+        type = field.getType();
+
+        field.setAccessible(true);
+
+        lookup = MethodHandles.lookup();
+
+        try {
+            getter = lookup.unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+
+            if (field.getDeclaringClass().isRecord()) {
+                setter = null;
+            } else {
+                setter = lookup.unreflectSetter(field)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            }
+
+            if (type.isPrimitive()) {
+                primitiveGetter = lookup.unreflectGetter(field)
+                        .asType(MethodType.methodType(type, Object.class));
+
+                if (setter == null) {
+                    primitiveSetter = null;
+                } else {
+                    primitiveSetter = lookup.unreflectSetter(field)
+                            .asType(MethodType.methodType(void.class, Object.class, type));
+                }
+            } else {
+                primitiveGetter = null;
+
+                primitiveSetter = null;
+            }
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     public TableMetadata getTable() {
@@ -64,7 +117,185 @@ public class ColumnMetadata {
         }
     }
 
+    public Object getValue(Object record) {
+        try {
+            return (Object) getter.invokeExact(record);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    public boolean isReadOnly() {
+        return setter == null;
+    }
+
+    public void setValue(Object record, Object value) {
+        checkWritable();
+
+        try {
+            setter.invokeExact(record, value);
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    public void readValue(Object record,
+            ResultSet rs,
+            int index,
+            SQLDialect dialect) throws SQLException {
+        Class<?> type;
+
+        checkWritable();
+
+        type = field.getType();
+
+        try {
+            if (type == int.class) {
+                primitiveSetter.invokeExact(record, rs.getInt(index));
+            } else if (type == long.class) {
+                primitiveSetter.invokeExact(record, rs.getLong(index));
+            } else if (type == double.class) {
+                primitiveSetter.invokeExact(record, rs.getDouble(index));
+            } else if (type == float.class) {
+                primitiveSetter.invokeExact(record, rs.getFloat(index));
+            } else if (type == boolean.class) {
+                primitiveSetter.invokeExact(record, rs.getBoolean(index));
+            } else if (type == short.class) {
+                primitiveSetter.invokeExact(record, rs.getShort(index));
+            } else if (type == byte.class) {
+                primitiveSetter.invokeExact(record, rs.getByte(index));
+            } else {
+                setter.invokeExact(record, readValue(rs, index, dialect));
+            }
+        } catch (SQLException | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    public Object readValue(ResultSet rs,
+            int index,
+            SQLDialect dialect) throws SQLException {
+        Class<?> type;
+
+        type = field.getType();
+
+        if (type == int.class) {
+            return rs.getInt(index);
+        } else if (type == long.class) {
+            return rs.getLong(index);
+        } else if (type == double.class) {
+            return rs.getDouble(index);
+        } else if (type == float.class) {
+            return rs.getFloat(index);
+        } else if (type == boolean.class) {
+            return rs.getBoolean(index);
+        } else if (type == short.class) {
+            return rs.getShort(index);
+        } else if (type == byte.class) {
+            return rs.getByte(index);
+        } else if (type == String.class) {
+            return rs.getString(index);
+        } else if (type == Integer.class) {
+            int value;
+
+            value = rs.getInt(index);
+
+            return rs.wasNull() ? null : value;
+        } else if (type == Long.class) {
+            long value;
+
+            value = rs.getLong(index);
+
+            return rs.wasNull() ? null : value;
+        } else if (type == Double.class) {
+            double value;
+
+            value = rs.getDouble(index);
+
+            return rs.wasNull() ? null : value;
+        } else if (type == Boolean.class) {
+            boolean value;
+
+            value = rs.getBoolean(index);
+
+            return rs.wasNull() ? null : value;
+        } else {
+            return dialect.fromSqlValue(this, rs.getObject(index));
+        }
+    }
+
+    public void bindValue(Object record,
+            PreparedStatement ps,
+            int index,
+            SQLDialect dialect) throws SQLException {
+        Class<?> type;
+
+        type = field.getType();
+
+        try {
+            if (primitiveGetter == null) {
+                ps.setObject(index, dialect.toSqlValue(this, (Object) getter.invokeExact(record)));
+            } else if (type == int.class) {
+                ps.setInt(index, (int) primitiveGetter.invokeExact(record));
+            } else if (type == long.class) {
+                ps.setLong(index, (long) primitiveGetter.invokeExact(record));
+            } else if (type == double.class) {
+                ps.setDouble(index, (double) primitiveGetter.invokeExact(record));
+            } else if (type == float.class) {
+                ps.setFloat(index, (float) primitiveGetter.invokeExact(record));
+            } else if (type == boolean.class) {
+                ps.setBoolean(index, (boolean) primitiveGetter.invokeExact(record));
+            } else if (type == short.class) {
+                ps.setShort(index, (short) primitiveGetter.invokeExact(record));
+            } else if (type == byte.class) {
+                ps.setByte(index, (byte) primitiveGetter.invokeExact(record));
+            } else {
+                ps.setObject(index, dialect.toSqlValue(this, (Object) getter.invokeExact(record)));
+            }
+        } catch (SQLException | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw propagate(e);
+        }
+    }
+
     public boolean isPrimaryKey() {
         return annotations.containsKey(Id.class);
     }
+
+    public boolean isPooledSequence() {
+        SequenceGenerator sequenceGenerator;
+        GeneratedValue generatedValue;
+
+        generatedValue = (GeneratedValue) annotations.get(GeneratedValue.class);
+
+        sequenceGenerator = (SequenceGenerator) annotations.get(SequenceGenerator.class);
+
+        return generatedValue != null &&
+                generatedValue.strategy() == GenerationType.SEQUENCE &&
+                sequenceGenerator != null &&
+                sequenceGenerator.allocationSize() > 1;
+    }
+
+    private void checkWritable() {
+        if (setter == null) {
+            throw new IllegalStateException("Field "
+                    + field.getName()
+                    + " of class "
+                    + field.getDeclaringClass().getName()
+                    + " is read-only.");
+        }
+    }
+
+    private static RuntimeException propagate(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        } else if (e instanceof Error) {
+            throw (Error) e;
+        } else {
+            return new RuntimeException(e);
+        }
+    }
 }
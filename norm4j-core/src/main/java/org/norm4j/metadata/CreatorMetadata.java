@@ -0,0 +1,336 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.metadata;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.norm4j.Creator;
+import org.norm4j.dialects.SQLDialect;
+
+public class CreatorMetadata {
+    private final TableMetadata table;
+    private final MethodHandle constructor;
+    private final ColumnMetadata[] parameters;
+    private final ColumnMetadata[] columns;
+    private final int[] parameterIndexes;
+
+    public CreatorMetadata(TableMetadata table) {
+        Constructor<?> creator;
+        Class<?> tableClass;
+
+        this.table = table;
+
+        tableClass = table.getTableClass();
+
+        creator = findCreator(tableClass);
+
+        if (creator == null) {
+            constructor = null;
+
+            parameters = new ColumnMetadata[0];
+        } else {
+            MethodType type;
+
+            parameters = getParameters(tableClass, creator);
+
+            creator.setAccessible(true);
+
+            try {
+                if (parameters.length == 0) {
+                    type = MethodType.methodType(Object.class);
+
+                    constructor = MethodHandles.lookup()
+                            .unreflectConstructor(creator)
+                            .asType(type);
+                } else {
+                    type = MethodType.methodType(Object.class, Object[].class);
+
+                    constructor = MethodHandles.lookup()
+                            .unreflectConstructor(creator)
+                            .asSpreader(Object[].class, parameters.length)
+                            .asType(type);
+                }
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        columns = table.getColumns().toArray(new ColumnMetadata[0]);
+
+        parameterIndexes = getParameterIndexes(columns);
+    }
+
+    public TableMetadata getTable() {
+        return table;
+    }
+
+    public ColumnMetadata[] getParameters() {
+        return parameters;
+    }
+
+    public int[] getParameterIndexes(ColumnMetadata[] columns) {
+        int[] indexes;
+
+        indexes = new int[columns.length];
+
+        for (int i = 0; i < columns.length; i++) {
+            indexes[i] = -1;
+
+            for (int j = 0; j < parameters.length; j++) {
+                if (parameters[j] == columns[i]) {
+                    indexes[i] = j;
+
+                    break;
+                }
+            }
+        }
+
+        return indexes;
+    }
+
+    public Object newInstance(Object[] values) {
+        Object record;
+
+        if (constructor == null) {
+            throw new IllegalStateException("No no-arg, record or @Creator constructor found in class "
+                    + table.getTableClass().getName());
+        }
+
+        try {
+            if (parameters.length == 0) {
+                record = (Object) constructor.invokeExact();
+            } else {
+                Object[] arguments;
+
+                arguments = new Object[parameters.length];
+
+                for (int i = 0; i < columns.length; i++) {
+                    if (parameterIndexes[i] != -1) {
+                        arguments[parameterIndexes[i]] = values[i];
+                    }
+                }
+
+                record = (Object) constructor.invokeExact(arguments);
+            }
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+
+        for (int i = 0; i < columns.length; i++) {
+            if (parameterIndexes[i] == -1) {
+                columns[i].setValue(record, values[i]);
+            }
+        }
+
+        return record;
+    }
+
+    public Object newInstance(ResultSet rs,
+            int index,
+            SQLDialect dialect) throws SQLException {
+        return newInstance(columns, parameterIndexes, rs, index, dialect);
+    }
+
+    public Object newInstance(ColumnMetadata[] columns,
+            int[] parameterIndexes,
+            ResultSet rs,
+            int index,
+            SQLDialect dialect) throws SQLException {
+        Object record;
+
+        if (constructor == null) {
+            throw new IllegalStateException("No no-arg, record or @Creator constructor found in class "
+                    + table.getTableClass().getName());
+        }
+
+        try {
+            if (parameters.length == 0) {
+                record = (Object) constructor.invokeExact();
+            } else {
+                Object[] arguments;
+
+                arguments = new Object[parameters.length];
+
+                for (int i = 0; i < columns.length; i++) {
+                    if (parameterIndexes[i] != -1) {
+                        arguments[parameterIndexes[i]] = columns[i].readValue(rs, index + i, dialect);
+                    }
+                }
+
+                record = (Object) constructor.invokeExact(arguments);
+            }
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+
+        for (int i = 0; i < columns.length; i++) {
+            if (parameterIndexes[i] == -1) {
+                columns[i].readValue(record, rs, index + i, dialect);
+            }
+        }
+
+        return record;
+    }
+
+    private ColumnMetadata[] getParameters(Class<?> tableClass, Constructor<?> creator) {
+        ColumnMetadata[] parameters;
+        Parameter[] creatorParameters;
+        List<ColumnMetadata> columns;
+        boolean namePresent;
+
+        columns = table.getColumns();
+
+        creatorParameters = creator.getParameters();
+
+        parameters = new ColumnMetadata[creatorParameters.length];
+
+        namePresent = true;
+
+        for (Parameter parameter : creatorParameters) {
+            namePresent &= parameter.isNamePresent();
+        }
+
+        if (isCanonical(tableClass, creator)) {
+            RecordComponent[] components;
+
+            components = tableClass.getRecordComponents();
+
+            for (int i = 0; i < components.length; i++) {
+                parameters[i] = getColumn(components[i].getName());
+            }
+        } else if (namePresent) {
+            for (int i = 0; i < creatorParameters.length; i++) {
+                parameters[i] = getColumn(creatorParameters[i].getName());
+            }
+        } else if (creatorParameters.length == columns.size()) {
+            for (int i = 0; i < creatorParameters.length; i++) {
+                parameters[i] = columns.get(i);
+            }
+        } else {
+            throw new IllegalArgumentException("Constructor parameters of class "
+                    + tableClass.getName()
+                    + " cannot be matched to columns, compile with -parameters"
+                    + " or declare one parameter per field in field order.");
+        }
+
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i] == null
+                    || parameters[i].getField().getType() != creatorParameters[i].getType()) {
+                throw new IllegalArgumentException("Constructor parameter "
+                        + creatorParameters[i].getName()
+                        + " of class "
+                        + tableClass.getName()
+                        + " does not match a field.");
+            }
+        }
+
+        return parameters;
+    }
+
+    private static boolean isCanonical(Class<?> tableClass, Constructor<?> creator) {
+        RecordComponent[] components;
+        Class<?>[] types;
+
+        if (!tableClass.isRecord()) {
+            return false;
+        }
+
+        components = tableClass.getRecordComponents();
+
+        types = creator.getParameterTypes();
+
+        if (components.length != types.length) {
+            return false;
+        }
+
+        for (int i = 0; i < components.length; i++) {
+            if (components[i].getType() != types[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private ColumnMetadata getColumn(String fieldName) {
+        for (ColumnMetadata column : table.getColumns()) {
+            if (column.getField().getName().equals(fieldName)) {
+                return column;
+            }
+        }
+
+        return null;
+    }
+
+    private static Constructor<?> findCreator(Class<?> tableClass) {
+        Constructor<?> creator;
+
+        creator = null;
+
+        for (Constructor<?> constructor : tableClass.getDeclaredConstructors()) {
+            if (constructor.isAnnotationPresent(Creator.class)) {
+                if (creator != null) {
+                    throw new IllegalArgumentException("Multiple @Creator constructors found in class "
+                            + tableClass.getName());
+                }
+
+                creator = constructor;
+            }
+        }
+
+        if (creator != null) {
+            return creator;
+        }
+
+        try {
+            if (tableClass.isRecord()) {
+                RecordComponent[] components;
+                Class<?>[] types;
+
+                components = tableClass.getRecordComponents();
+
+                types = new Class<?>[components.length];
+
+                for (int i = 0; i < components.length; i++) {
+                    types[i] = components[i].getType();
+                }
+
+                return tableClass.getDeclaredConstructor(types);
+            } else {
+                return tableClass.getDeclaredConstructor();
+            }
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -55,9 +55,14 @@ public class FieldGetterMetadata {
             String className = internalClassName.replace('/', '.');
 
             String methodName = (String) getImplMethodNameMethod.invoke(serializedLambda);
+            Class<?> tableClass;
             String fieldName;
 
-            if (methodName.startsWith("get") && methodName.length() > 3) {
+            tableClass = Class.forName(className);
+
+            if (tableClass.isRecord()) {
+                fieldName = methodName;
+            } else if (methodName.startsWith("get") && methodName.length() > 3) {
                 fieldName = decapitalize(methodName.substring(3));
             } else if (methodName.startsWith("is") && methodName.length() > 2) {
                 fieldName = decapitalize(methodName.substring(2));
@@ -65,7 +70,7 @@ public class FieldGetterMetadata {
                 fieldName = methodName;
             }
 
-            return new FieldGetterMetadata(Class.forName(className), fieldName);
+            return new FieldGetterMetadata(tableClass, fieldName);
 
         } catch (ReflectiveOperationException e) {
             throw new RuntimeException("Failed to extract field metadata from getter: " + getter, e);
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.metadata;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class IdRange {
+    private final int allocationSize;
+    private volatile Block block;
+
+    public IdRange(int allocationSize) {
+        if (allocationSize < 1) {
+            throw new IllegalArgumentException("Invalid allocation size " + allocationSize);
+        }
+
+        this.allocationSize = allocationSize;
+    }
+
+    public int getAllocationSize() {
+        return allocationSize;
+    }
+
+    public long next(LongSupplier allocator) {
+        for (;;) {
+            Block current;
+
+            current = block;
+
+            if (current != null) {
+                long value;
+
+                value = current.next.getAndIncrement();
+
+                if (value <= current.hi) {
+                    return value;
+                }
+            }
+
+            synchronized (this) {
+                if (block == current) {
+                    long lo;
+
+                    lo = allocator.getAsLong();
+
+                    block = new Block(lo, lo + allocationSize - 1);
+                }
+            }
+        }
+    }
+
+    private static class Block {
+        private final AtomicLong next;
+        private final long hi;
+
+        public Block(long lo, long hi) {
+            next = new AtomicLong(lo);
+
+            this.hi = hi;
+        }
+    }
+}
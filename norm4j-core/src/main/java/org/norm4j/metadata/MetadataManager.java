@@ -166,9 +166,20 @@ public class MetadataManager {
                 }
             }
 
-            tableMetadata.getColumns().add(new ColumnMetadata(tableMetadata, annotations, field));
+            ColumnMetadata column = new ColumnMetadata(tableMetadata, annotations, field);
+
+            if (column.isReadOnly() && annotations.containsKey(GeneratedValue.class)) {
+                throw new IllegalArgumentException("Field " + field.getName()
+                        + " of class " + tableClass.getName()
+                        + " is annotated with @GeneratedValue but is read-only;"
+                        + " generated values cannot be assigned to record components.");
+            }
+
+            tableMetadata.getColumns().add(column);
         }
 
+        tableMetadata.setCreator(new CreatorMetadata(tableMetadata));
+
         metadataMap.put(tableClass, tableMetadata);
     }
 
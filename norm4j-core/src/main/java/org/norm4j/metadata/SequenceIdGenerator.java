@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.metadata;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.norm4j.SequenceGenerator;
+import org.norm4j.dialects.SQLDialect;
+
+public class SequenceIdGenerator {
+    private final IdRange range;
+
+    public SequenceIdGenerator(SequenceGenerator sequenceGenerator) {
+        if (sequenceGenerator == null) {
+            range = new IdRange(1);
+        } else {
+            range = new IdRange(sequenceGenerator.allocationSize());
+        }
+    }
+
+    public int getAllocationSize() {
+        return range.getAllocationSize();
+    }
+
+    public long generateId(Connection connection,
+            SQLDialect dialect,
+            ColumnMetadata column) {
+        return range.next(() -> allocate(connection, dialect, column));
+    }
+
+    private long allocate(Connection connection,
+            SQLDialect dialect,
+            ColumnMetadata column) {
+        try (PreparedStatement ps = connection.prepareStatement(
+                dialect.createNextSequenceValueSql(column))) {
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    throw new IllegalStateException("Unable to allocate sequence values for "
+                            + dialect.getSequenceName(column));
+                }
+
+                return rs.getLong(1);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -4,11 +4,17 @@ public class SequenceMetadata {
     private final String schema;
     private final String name;
     private final int initialValue;
+    private final int allocationSize;
 
     public SequenceMetadata(String schema, String name, int initialValue) {
+        this(schema, name, initialValue, 1);
+    }
+
+    public SequenceMetadata(String schema, String name, int initialValue, int allocationSize) {
         this.schema = schema;
         this.name = name;
         this.initialValue = initialValue;
+        this.allocationSize = allocationSize;
     }
 
     public String getSchema() {
@@ -22,4 +28,8 @@ public class SequenceMetadata {
     public int getInitialValue() {
         return initialValue;
     }
+
+    public int getAllocationSize() {
+        return allocationSize;
+    }
 }
@@ -24,26 +24,35 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
 
 import org.norm4j.TableGenerator;
 import org.norm4j.dialects.SQLDialect;
 
 public class TableIdGenerator {
+    private final Map<String, IdRange> ranges;
     private String schema;
     private String table;
     private String pkColumnName;
     private String valueColumnName;
     private int initialValue;
+    private int allocationSize;
 
     public TableIdGenerator(TableGenerator tableGenerator) {
         initialValue = 0;
 
+        allocationSize = 1;
+
         if (tableGenerator != null) {
             schema = tableGenerator.schema();
             table = tableGenerator.table();
             pkColumnName = tableGenerator.pkColumnName();
             valueColumnName = tableGenerator.valueColumnName();
             initialValue = tableGenerator.initialValue();
+            allocationSize = tableGenerator.allocationSize();
         }
 
         if (schema == null) {
@@ -64,6 +73,12 @@ public class TableIdGenerator {
                 valueColumnName.isEmpty()) {
             valueColumnName = "next_val";
         }
+
+        if (allocationSize < 1) {
+            throw new IllegalArgumentException("Invalid allocation size " + allocationSize);
+        }
+
+        ranges = new ConcurrentHashMap<>();
     }
 
     public String getSchema() {
@@ -82,53 +97,110 @@ public class TableIdGenerator {
         return valueColumnName;
     }
 
-    public Object generateId(Connection connection,
+    public int getAllocationSize() {
+        return allocationSize;
+    }
+
+    public long generateId(Connection connection,
             SQLDialect dialect,
             String sequenceName) {
-        boolean exists = false;
-        int currentValue;
-        int nextValue;
-        StringBuilder sql;
+        return getRange(sequenceName).next(() -> allocate(connection,
+                dialect,
+                sequenceName));
+    }
 
-        sql = new StringBuilder();
+    public long generateId(DataSource dataSource,
+            SQLDialect dialect,
+            String sequenceName) {
+        return getRange(sequenceName).next(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                return allocate(connection, dialect, sequenceName);
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
 
-        sql.append("SELECT ");
-        sql.append(valueColumnName);
-        sql.append(" FROM ");
-        sql.append(dialect.getTableName(schema, table));
-        sql.append(" WHERE ");
-        sql.append(pkColumnName);
-        sql.append("=?");
+    private IdRange getRange(String sequenceName) {
+        return ranges.computeIfAbsent(sequenceName, k -> new IdRange(allocationSize));
+    }
+
+    private long allocate(Connection connection,
+            SQLDialect dialect,
+            String sequenceName) {
+        boolean autoCommit;
 
         try {
-            try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
-                ps.setString(1, sequenceName);
+            autoCommit = connection.getAutoCommit();
+
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
 
-                try (ResultSet rs = ps.executeQuery()) {
-                    if (rs.next()) {
-                        currentValue = rs.getInt(1);
+            try {
+                long hi;
 
-                        exists = true;
-                    } else {
-                        currentValue = initialValue;
+                try {
+                    hi = reserve(connection, dialect, sequenceName);
+                } catch (SQLException e) {
+                    if (!autoCommit) {
+                        throw e;
                     }
+
+                    connection.rollback();
+
+                    hi = reserve(connection, dialect, sequenceName);
+                }
+
+                if (autoCommit) {
+                    connection.commit();
+                }
+
+                return hi - allocationSize + 1;
+            } catch (SQLException | RuntimeException e) {
+                if (autoCommit) {
+                    connection.rollback();
+                }
+
+                throw e;
+            } finally {
+                if (autoCommit) {
+                    connection.setAutoCommit(true);
                 }
             }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-            nextValue = currentValue + 1;
+    private long reserve(Connection connection,
+            SQLDialect dialect,
+            String sequenceName) throws SQLException {
+        StringBuilder sql;
 
-            sql = new StringBuilder();
+        sql = new StringBuilder();
+
+        sql.append("UPDATE ");
+        sql.append(dialect.getTableName(schema, table));
+        sql.append(" SET ");
+        sql.append(valueColumnName);
+        sql.append(" = ");
+        sql.append(valueColumnName);
+        sql.append(" + ? WHERE ");
+        sql.append(pkColumnName);
+        sql.append(" = ?");
+
+        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+            ps.setLong(1, allocationSize);
+            ps.setString(2, sequenceName);
+
+            if (ps.executeUpdate() == 0) {
+                long hi;
+
+                hi = (long) initialValue + allocationSize;
+
+                sql = new StringBuilder();
 
-            if (exists) {
-                sql.append("UPDATE ");
-                sql.append(dialect.getTableName(schema, table));
-                sql.append(" SET ");
-                sql.append(valueColumnName);
-                sql.append("=?");
-                sql.append(" WHERE ");
-                sql.append(pkColumnName);
-                sql.append("=?");
-            } else {
                 sql.append("INSERT INTO ");
                 sql.append(dialect.getTableName(schema, table));
                 sql.append(" (");
@@ -136,18 +208,38 @@ public class TableIdGenerator {
                 sql.append(", ");
                 sql.append(pkColumnName);
                 sql.append(") VALUES (?, ?)");
-            }
 
-            try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
-                ps.setInt(1, nextValue);
-                ps.setString(2, sequenceName);
+                try (PreparedStatement insertPs = connection.prepareStatement(sql.toString())) {
+                    insertPs.setLong(1, hi);
+                    insertPs.setString(2, sequenceName);
 
-                ps.executeUpdate();
+                    insertPs.executeUpdate();
+                }
+
+                return hi;
             }
+        }
 
-            return nextValue;
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
+        sql = new StringBuilder();
+
+        sql.append("SELECT ");
+        sql.append(valueColumnName);
+        sql.append(" FROM ");
+        sql.append(dialect.getTableName(schema, table));
+        sql.append(" WHERE ");
+        sql.append(pkColumnName);
+        sql.append(" = ?");
+
+        try (PreparedStatement ps = connection.prepareStatement(sql.toString())) {
+            ps.setString(1, sequenceName);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    throw new IllegalStateException("Sequence not found " + sequenceName);
+                }
+
+                return rs.getLong(1);
+            }
         }
     }
 }
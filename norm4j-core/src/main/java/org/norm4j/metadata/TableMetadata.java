@@ -22,8 +22,11 @@ package org.norm4j.metadata;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.norm4j.Join;
+import org.norm4j.dialects.SQLDialect;
 
 public class TableMetadata {
     private final Class<?> tableClass;
@@ -32,6 +35,8 @@ public class TableMetadata {
     private final Class<?> idClass;
     private final Join[] joins;
     private final List<ColumnMetadata> columns;
+    private final Map<SQLDialect, TableStatements> statements;
+    private CreatorMetadata creator;
 
     public TableMetadata(Class<?> tableClass,
             String tableName,
@@ -49,6 +54,8 @@ public class TableMetadata {
         this.joins = joins;
 
         this.columns = new ArrayList<>();
+
+        this.statements = new ConcurrentHashMap<>();
     }
 
     public Class<?> getTableClass() {
@@ -88,4 +95,16 @@ public class TableMetadata {
 
         return primaryKeys;
     }
+
+    public CreatorMetadata getCreator() {
+        return creator;
+    }
+
+    void setCreator(CreatorMetadata creator) {
+        this.creator = creator;
+    }
+
+    public TableStatements getStatements(SQLDialect dialect) {
+        return statements.computeIfAbsent(dialect, d -> new TableStatements(this, d));
+    }
 }
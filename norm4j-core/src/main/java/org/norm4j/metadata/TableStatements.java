@@ -0,0 +1,308 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.metadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.norm4j.GeneratedValue;
+import org.norm4j.GenerationType;
+import org.norm4j.dialects.SQLDialect;
+
+public class TableStatements {
+    private final TableMetadata table;
+    private final SQLDialect dialect;
+    private final List<ColumnMetadata> primaryKeys;
+    private final List<ColumnMetadata> mergeColumns;
+    private final List<ColumnMetadata> persistColumns;
+    private final List<ColumnMetadata> generatedKeyColumns;
+    private final List<ColumnMetadata> outputColumns;
+    private final Map<String, String> sqlCache;
+    private final String selectSql;
+    private final String findSql;
+    private final String mergeSql;
+    private final String removeSql;
+
+    public TableStatements(TableMetadata table, SQLDialect dialect) {
+        List<ColumnMetadata> generatedKeyColumns;
+        List<ColumnMetadata> persistColumns;
+        List<ColumnMetadata> outputColumns;
+        List<ColumnMetadata> mergeColumns;
+        StringBuilder sql;
+
+        this.table = table;
+
+        this.dialect = dialect;
+
+        primaryKeys = Collections.unmodifiableList(table.getPrimaryKeys());
+
+        persistColumns = new ArrayList<>();
+
+        generatedKeyColumns = new ArrayList<>();
+
+        outputColumns = new ArrayList<>();
+
+        mergeColumns = new ArrayList<>();
+
+        for (ColumnMetadata column : table.getColumns()) {
+            GeneratedValue generatedValue;
+
+            generatedValue = (GeneratedValue) column.getAnnotations()
+                    .get(GeneratedValue.class);
+
+            if (generatedValue == null ||
+                    column.isPooledSequence()) {
+                persistColumns.add(column);
+            } else if (generatedValue.strategy() == GenerationType.SEQUENCE &&
+                    !dialect.isGeneratedKeysForSequenceSupported()) {
+                outputColumns.add(column);
+            } else if (generatedValue.strategy() == GenerationType.AUTO ||
+                    generatedValue.strategy() == GenerationType.IDENTITY ||
+                    generatedValue.strategy() == GenerationType.SEQUENCE) {
+                generatedKeyColumns.add(column);
+            } else {
+                persistColumns.add(column);
+            }
+
+            if (!column.isPrimaryKey()) {
+                mergeColumns.add(column);
+            }
+        }
+
+        mergeColumns.addAll(primaryKeys);
+
+        this.persistColumns = Collections.unmodifiableList(persistColumns);
+
+        this.generatedKeyColumns = Collections.unmodifiableList(generatedKeyColumns);
+
+        this.outputColumns = Collections.unmodifiableList(outputColumns);
+
+        this.mergeColumns = Collections.unmodifiableList(mergeColumns);
+
+        sqlCache = new ConcurrentHashMap<>();
+
+        sql = new StringBuilder();
+
+        sql.append("SELECT ");
+
+        for (int i = 0; i < table.getColumns().size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(table.getColumns().get(i).getColumnName());
+        }
+
+        sql.append(" FROM ");
+        sql.append(dialect.getTableName(table));
+
+        selectSql = sql.toString();
+
+        if (primaryKeys.isEmpty()) {
+            findSql = null;
+
+            mergeSql = null;
+
+            removeSql = null;
+        } else {
+            findSql = selectSql + createCondition(primaryKeys);
+
+            removeSql = "DELETE FROM "
+                    + dialect.getTableName(table)
+                    + createCondition(primaryKeys);
+
+            sql = new StringBuilder();
+
+            sql.append("UPDATE ");
+            sql.append(dialect.getTableName(table));
+            sql.append(" SET ");
+
+            for (int i = 0; i < mergeColumns.size() - primaryKeys.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+
+                sql.append(mergeColumns.get(i).getColumnName());
+                sql.append(" = ?");
+            }
+
+            sql.append(createCondition(primaryKeys));
+
+            mergeSql = sql.toString();
+        }
+    }
+
+    public TableMetadata getTable() {
+        return table;
+    }
+
+    public SQLDialect getDialect() {
+        return dialect;
+    }
+
+    public List<ColumnMetadata> getPrimaryKeys() {
+        return primaryKeys;
+    }
+
+    public List<ColumnMetadata> getMergeColumns() {
+        return mergeColumns;
+    }
+
+    public List<ColumnMetadata> getPersistColumns() {
+        return persistColumns;
+    }
+
+    public List<ColumnMetadata> getGeneratedKeyColumns() {
+        return generatedKeyColumns;
+    }
+
+    public List<ColumnMetadata> getOutputColumns() {
+        return outputColumns;
+    }
+
+    public String getSelectSql() {
+        return selectSql;
+    }
+
+    public String getFindSql() {
+        checkPrimaryKeys();
+
+        return findSql;
+    }
+
+    public String getMergeSql() {
+        checkPrimaryKeys();
+
+        return mergeSql;
+    }
+
+    public String getRemoveSql() {
+        checkPrimaryKeys();
+
+        return removeSql;
+    }
+
+    public String getMergeSql(List<ColumnMetadata> columns) {
+        StringBuilder key;
+
+        checkPrimaryKeys();
+
+        key = new StringBuilder("merge");
+
+        for (ColumnMetadata column : columns) {
+            key.append(":");
+            key.append(column.getColumnName());
+        }
+
+        return getSql(key.toString(), () -> {
+            StringBuilder sql;
+
+            sql = new StringBuilder();
+
+            sql.append("UPDATE ");
+            sql.append(dialect.getTableName(table));
+            sql.append(" SET ");
+
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+
+                sql.append(columns.get(i).getColumnName());
+                sql.append(" = ?");
+            }
+
+            sql.append(createCondition(primaryKeys));
+
+            return sql.toString();
+        });
+    }
+
+    public String getIncrementSql(ColumnMetadata column) {
+        checkPrimaryKeys();
+
+        return getSql("increment:" + column.getColumnName(), () -> "UPDATE "
+                + dialect.getTableName(table)
+                + " SET "
+                + column.getColumnName()
+                + " = "
+                + column.getColumnName()
+                + " + ?"
+                + createCondition(primaryKeys));
+    }
+
+    public String getJoinSql(List<ColumnMetadata> columns) {
+        StringBuilder key;
+
+        key = new StringBuilder("join");
+
+        for (ColumnMetadata column : columns) {
+            key.append(":");
+            key.append(column.getColumnName());
+        }
+
+        return getSql(key.toString(), () -> selectSql + createCondition(columns));
+    }
+
+    public String getSql(String key, Supplier<String> sqlSupplier) {
+        String sql;
+
+        sql = sqlCache.get(key);
+
+        if (sql == null) {
+            sql = sqlSupplier.get();
+
+            sqlCache.putIfAbsent(key, sql);
+        }
+
+        return sql;
+    }
+
+    private void checkPrimaryKeys() {
+        if (primaryKeys.isEmpty()) {
+            throw new IllegalStateException("No primary key found for class "
+                    + table.getTableClass().getName());
+        }
+    }
+
+    private String createCondition(List<ColumnMetadata> columns) {
+        StringBuilder sql;
+
+        sql = new StringBuilder();
+
+        for (int i = 0; i < columns.size(); i++) {
+            if (i == 0) {
+                sql.append(" WHERE ");
+            } else {
+                sql.append(" AND ");
+            }
+
+            sql.append(columns.get(i).getColumnName());
+            sql.append(" = ?");
+        }
+
+        return sql.toString();
+    }
+}
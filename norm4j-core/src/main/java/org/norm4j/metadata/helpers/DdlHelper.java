@@ -96,7 +96,8 @@ public class DdlHelper {
             ddl.add(dialect.createSequence(
                     sequenceMetadata.getSchema(),
                     sequenceMetadata.getName(),
-                    sequenceMetadata.getInitialValue()));
+                    sequenceMetadata.getInitialValue(),
+                    sequenceMetadata.getAllocationSize()));
         }
 
         return ddl;
@@ -125,6 +126,7 @@ public class DdlHelper {
         String schema = "";
         String sequenceName = "";
         int initialValue = 1;
+        int allocationSize = 1;
 
         if (column.getAnnotations().containsKey(SequenceGenerator.class)) {
             SequenceGenerator sequenceGenerator = (SequenceGenerator) column.getAnnotations()
@@ -133,13 +135,14 @@ public class DdlHelper {
             schema = sequenceGenerator.schema();
             sequenceName = sequenceGenerator.sequenceName();
             initialValue = sequenceGenerator.initialValue();
+            allocationSize = sequenceGenerator.allocationSize();
         }
 
         if (sequenceName.isEmpty()) {
             sequenceName = dialect.createSequenceName(column);
         }
 
-        return new SequenceMetadata(schema, sequenceName, initialValue);
+        return new SequenceMetadata(schema, sequenceName, initialValue, allocationSize);
     }
 
     public List<String> createForeignKeys(SQLDialect dialect) {
@@ -39,6 +39,7 @@ import org.norm4j.schema.migrations.AddJoinOperation;
 import org.norm4j.schema.migrations.AddSequenceOperation;
 import org.norm4j.schema.migrations.AddTableGeneratorOperation;
 import org.norm4j.schema.migrations.AddTableOperation;
+import org.norm4j.schema.migrations.AlterSequenceOperation;
 import org.norm4j.schema.migrations.MigrationOperation;
 
 public class SchemaComparator {
@@ -53,7 +54,10 @@ public class SchemaComparator {
 
         for (MigrationOperation operation : orderedOperations) {
             if (operation instanceof AddSequenceOperation aso) {
-                ddl.add(dialect.createSequence(aso.getSchema(), aso.getName(), aso.getInitialValue()));
+                ddl.add(dialect.createSequence(aso.getSchema(), aso.getName(), aso.getInitialValue(),
+                        aso.getAllocationSize()));
+            } else if (operation instanceof AlterSequenceOperation also) {
+                ddl.add(dialect.alterSequence(also.getSchema(), also.getName(), also.getAllocationSize()));
             } else if (operation instanceof AddTableGeneratorOperation atgo) {
                 ddl.add(dialect.createSequenceTable(atgo.getGenerator().getSchema(),
                         atgo.getGenerator().getTable(), atgo.getGenerator().getPkColumnName(),
@@ -82,7 +86,8 @@ public class SchemaComparator {
         List<MigrationOperation> tableGenerators = new ArrayList<>();
 
         for (MigrationOperation operation : operations) {
-            if (operation instanceof AddSequenceOperation)
+            if (operation instanceof AddSequenceOperation ||
+                    operation instanceof AlterSequenceOperation)
                 sequences.add(operation);
             else if (operation instanceof AddTableGeneratorOperation)
                 tableGenerators.add(operation);
@@ -155,8 +160,14 @@ public class SchemaComparator {
         Map<String, AddSequenceOperation> toSequences = getSequences(to);
 
         for (var entry : toSequences.entrySet()) {
-            if (!fromSequences.containsKey(entry.getKey())) {
+            AddSequenceOperation fromSequence = fromSequences.get(entry.getKey());
+
+            if (fromSequence == null) {
                 operations.add(entry.getValue());
+            } else if (fromSequence.getAllocationSize() != entry.getValue().getAllocationSize()) {
+                operations.add(new AlterSequenceOperation(entry.getValue().getSchema(),
+                        entry.getValue().getName(),
+                        entry.getValue().getAllocationSize()));
             }
         }
 
@@ -286,7 +297,8 @@ public class SchemaComparator {
                         sequenceMap.putIfAbsent(key,
                                 new AddSequenceOperation(sequenceGeneratorAnnotation.getSchema(),
                                         sequenceGeneratorAnnotation.getSequenceName(),
-                                        sequenceGeneratorAnnotation.getInitialValue()));
+                                        sequenceGeneratorAnnotation.getInitialValue(),
+                                        Math.max(1, sequenceGeneratorAnnotation.getAllocationSize())));
                     }
                 }
             }
@@ -26,14 +26,17 @@ public class SequenceGeneratorAnnotation implements Annotation {
     private String sequenceName;
     private String schema;
     private int initialValue;
+    private int allocationSize;
 
     public SequenceGeneratorAnnotation() {
+        allocationSize = 1;
     }
 
     public SequenceGeneratorAnnotation(SequenceGenerator sequenceGenerator) {
         this.sequenceName = sequenceGenerator.sequenceName();
         this.schema = sequenceGenerator.schema();
         this.initialValue = sequenceGenerator.initialValue();
+        this.allocationSize = sequenceGenerator.allocationSize();
     }
 
     public String getSequenceName() {
@@ -59,4 +62,12 @@ public class SequenceGeneratorAnnotation implements Annotation {
     public void setInitialValue(int initialValue) {
         this.initialValue = initialValue;
     }
+
+    public int getAllocationSize() {
+        return allocationSize;
+    }
+
+    public void setAllocationSize(int allocationSize) {
+        this.allocationSize = allocationSize;
+    }
 }
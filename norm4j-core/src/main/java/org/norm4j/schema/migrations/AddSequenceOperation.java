@@ -24,11 +24,17 @@ public class AddSequenceOperation implements MigrationOperation {
     private final String schema;
     private final String name;
     private final int initialValue;
+    private final int allocationSize;
 
     public AddSequenceOperation(String schema, String name, int initialValue) {
+        this(schema, name, initialValue, 1);
+    }
+
+    public AddSequenceOperation(String schema, String name, int initialValue, int allocationSize) {
         this.schema = schema;
         this.name = name;
         this.initialValue = initialValue;
+        this.allocationSize = allocationSize;
     }
 
     public Type getType() {
@@ -46,4 +52,8 @@ public class AddSequenceOperation implements MigrationOperation {
     public int getInitialValue() {
         return initialValue;
     }
+
+    public int getAllocationSize() {
+        return allocationSize;
+    }
 }
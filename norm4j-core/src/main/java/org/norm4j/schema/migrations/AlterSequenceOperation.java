@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.schema.migrations;
+
+public class AlterSequenceOperation implements MigrationOperation {
+    private final String schema;
+    private final String name;
+    private final int allocationSize;
+
+    public AlterSequenceOperation(String schema, String name, int allocationSize) {
+        this.schema = schema;
+        this.name = name;
+        this.allocationSize = allocationSize;
+    }
+
+    public Type getType() {
+        return Type.ALTER_SEQUENCE;
+    }
+
+    public String getSchema() {
+        return schema;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAllocationSize() {
+        return allocationSize;
+    }
+}
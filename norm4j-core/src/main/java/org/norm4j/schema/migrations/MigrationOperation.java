@@ -26,6 +26,7 @@ public interface MigrationOperation {
         ADD_COLUMN,
         ADD_JOIN,
         ADD_SEQUENCE,
+        ALTER_SEQUENCE,
         ADD_TABLE_GENERATOR
     }
 
@@ -0,0 +1,326 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.dialects;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.norm4j.GeneratedValue;
+import org.norm4j.GenerationType;
+import org.norm4j.TableManager;
+import org.norm4j.metadata.ColumnMetadata;
+import org.norm4j.metadata.TableMetadata;
+
+public class MariaDBBulkLoader {
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+    private final TableManager tableManager;
+
+    public MariaDBBulkLoader(TableManager tableManager) {
+        this.tableManager = tableManager;
+    }
+
+    public <T> long load(Class<T> tableClass, Stream<? extends T> records) {
+        try (Stream<? extends T> stream = records) {
+            return load(tableClass, stream.iterator());
+        }
+    }
+
+    public <T> long load(Class<T> tableClass, Iterator<? extends T> records) {
+        try (Connection connection = tableManager.getDataSource().getConnection()) {
+            return load(connection, tableClass, records);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public <T> long load(Connection connection, Class<T> tableClass, Iterator<? extends T> records) {
+        List<ColumnMetadata> columns;
+        boolean tableGenerator;
+        TableMetadata table;
+        SQLDialect dialect;
+
+        table = tableManager.getMetadataManager().getTableMetadata(tableClass);
+
+        if (table == null) {
+            throw new IllegalArgumentException("No metadata found for class "
+                    + tableClass.getName());
+        }
+
+        dialect = tableManager.getMetadataManager().initDialect(connection);
+
+        columns = new ArrayList<>();
+
+        tableGenerator = false;
+
+        for (ColumnMetadata column : table.getColumns()) {
+            GeneratedValue generatedValue;
+
+            generatedValue = (GeneratedValue) column.getAnnotations()
+                    .get(GeneratedValue.class);
+
+            if (generatedValue == null) {
+                columns.add(column);
+            } else if (generatedValue.strategy() != GenerationType.AUTO &&
+                    generatedValue.strategy() != GenerationType.IDENTITY &&
+                    generatedValue.strategy() != GenerationType.SEQUENCE) {
+                columns.add(column);
+
+                if (generatedValue.strategy() == GenerationType.TABLE) {
+                    tableGenerator = true;
+                }
+            }
+        }
+
+        try (Connection generatorConnection = tableGenerator
+                ? tableManager.getDataSource().getConnection()
+                : null;
+                Statement statement = connection.createStatement()) {
+            statement.unwrap(org.mariadb.jdbc.Statement.class)
+                    .setLocalInfileInputStream(new RecordInputStream(generatorConnection == null
+                            ? connection
+                            : generatorConnection,
+                            columns,
+                            dialect,
+                            records));
+
+            return statement.executeLargeUpdate(createLoadSql(table, columns, dialect));
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private String createLoadSql(TableMetadata table, List<ColumnMetadata> columns, SQLDialect dialect) {
+        StringBuilder assignments;
+        StringBuilder sql;
+
+        sql = new StringBuilder();
+
+        sql.append("LOAD DATA LOCAL INFILE 'norm4j.tsv' INTO TABLE ");
+        sql.append(dialect.getTableName(table));
+        sql.append(" CHARACTER SET utf8mb4");
+        sql.append(" FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\'");
+        sql.append(" LINES TERMINATED BY '\\n' (");
+
+        assignments = new StringBuilder();
+
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnMetadata column;
+
+            column = columns.get(i);
+
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            if (column.getField().getType() == byte[].class) {
+                sql.append("@");
+                sql.append(column.getColumnName());
+
+                if (!assignments.isEmpty()) {
+                    assignments.append(", ");
+                }
+
+                assignments.append(column.getColumnName());
+                assignments.append(" = UNHEX(@");
+                assignments.append(column.getColumnName());
+                assignments.append(")");
+            } else {
+                sql.append(column.getColumnName());
+            }
+        }
+
+        sql.append(")");
+
+        if (!assignments.isEmpty()) {
+            sql.append(" SET ");
+            sql.append(assignments);
+        }
+
+        return sql.toString();
+    }
+
+    private static void appendValue(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append("\\N");
+        } else if (value instanceof Boolean) {
+            sb.append((Boolean) value ? '1' : '0');
+        } else if (value instanceof BigDecimal) {
+            sb.append(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Number) {
+            sb.append(value);
+        } else if (value instanceof byte[]) {
+            sb.append(HexFormat.of().formatHex((byte[]) value));
+        } else if (value instanceof java.sql.Timestamp) {
+            sb.append(DATE_TIME_FORMATTER.format(((java.sql.Timestamp) value).toLocalDateTime()));
+        } else if (value instanceof java.sql.Date ||
+                value instanceof java.sql.Time) {
+            sb.append(value);
+        } else if (value instanceof java.util.Date) {
+            sb.append(DATE_TIME_FORMATTER.format(new java.sql.Timestamp(((java.util.Date) value)
+                    .getTime()).toLocalDateTime()));
+        } else {
+            appendEscaped(sb, value.toString());
+        }
+    }
+
+    private static void appendEscaped(StringBuilder sb, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c;
+
+            c = value.charAt(i);
+
+            switch (c) {
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\0':
+                    sb.append("\\0");
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+    }
+
+    private class RecordInputStream extends InputStream {
+        private final Connection generatorConnection;
+        private final List<ColumnMetadata> columns;
+        private final SQLDialect dialect;
+        private final Iterator<?> records;
+        private final StringBuilder line;
+        private byte[] buffer;
+        private int position;
+
+        public RecordInputStream(Connection generatorConnection,
+                List<ColumnMetadata> columns,
+                SQLDialect dialect,
+                Iterator<?> records) {
+            this.generatorConnection = generatorConnection;
+
+            this.columns = columns;
+
+            this.dialect = dialect;
+
+            this.records = records;
+
+            line = new StringBuilder();
+
+            buffer = new byte[0];
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+
+            return buffer[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int total;
+
+            if (len == 0) {
+                return 0;
+            }
+
+            total = 0;
+
+            while (total < len && fill()) {
+                int count;
+
+                count = Math.min(len - total, buffer.length - position);
+
+                System.arraycopy(buffer, position, b, off + total, count);
+
+                position += count;
+
+                total += count;
+            }
+
+            return total == 0 ? -1 : total;
+        }
+
+        private boolean fill() {
+            Object record;
+
+            if (position < buffer.length) {
+                return true;
+            }
+
+            if (!records.hasNext()) {
+                return false;
+            }
+
+            record = records.next();
+
+            tableManager.generateValues(generatorConnection, record);
+
+            line.setLength(0);
+
+            for (int i = 0; i < columns.size(); i++) {
+                ColumnMetadata column;
+
+                column = columns.get(i);
+
+                if (i > 0) {
+                    line.append('\t');
+                }
+
+                appendValue(line, dialect.toSqlValue(column, getValue(record, column)));
+            }
+
+            line.append('\n');
+
+            buffer = line.toString().getBytes(StandardCharsets.UTF_8);
+
+            position = 0;
+
+            return true;
+        }
+
+        private Object getValue(Object record, ColumnMetadata column) {
+            return column.getValue(record);
+        }
+    }
+}
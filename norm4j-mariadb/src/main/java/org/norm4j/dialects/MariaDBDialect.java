@@ -71,6 +71,11 @@ public class MariaDBDialect extends AbstractDialect {
         return false;
     }
 
+    @Override
+    public boolean isBatchGeneratedKeysSupported() {
+        return true;
+    }
+
     @Override
     public boolean isMultiStatementsSupported() {
         return false;
@@ -99,7 +104,17 @@ public class MariaDBDialect extends AbstractDialect {
     }
 
     @Override
-    public String createSequence(String schema, String sequenceName, int initialValue) {
+    public String createSequence(String schema, String sequenceName, int initialValue, int allocationSize) {
+        throw new UnsupportedOperationException("MariaDB does not support sequences.");
+    }
+
+    @Override
+    public String alterSequence(String schema, String sequenceName, int allocationSize) {
+        throw new UnsupportedOperationException("MariaDB does not support sequences.");
+    }
+
+    @Override
+    public String createNextSequenceValueSql(ColumnMetadata column) {
         throw new UnsupportedOperationException("MariaDB does not support sequences.");
     }
 
@@ -346,6 +361,60 @@ public class MariaDBDialect extends AbstractDialect {
         }
     }
 
+    @Override
+    public String createUpsertSql(TableMetadata table,
+            List<ColumnMetadata> insertColumns,
+            List<ColumnMetadata> conflictColumns,
+            List<ColumnMetadata> updateColumns) {
+        StringBuilder values;
+        StringBuilder sql;
+
+        sql = new StringBuilder();
+
+        sql.append("INSERT INTO ");
+        sql.append(getTableName(table));
+        sql.append(" (");
+
+        values = new StringBuilder();
+
+        for (int i = 0; i < insertColumns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+
+                values.append(", ");
+            }
+
+            sql.append(insertColumns.get(i).getColumnName());
+
+            values.append("?");
+        }
+
+        sql.append(") VALUES (");
+        sql.append(values);
+        sql.append(")");
+
+        sql.append(" ON DUPLICATE KEY UPDATE ");
+
+        if (updateColumns.isEmpty()) {
+            sql.append(conflictColumns.get(0).getColumnName());
+            sql.append(" = ");
+            sql.append(conflictColumns.get(0).getColumnName());
+        } else {
+            for (int i = 0; i < updateColumns.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+
+                sql.append(updateColumns.get(i).getColumnName());
+                sql.append(" = VALUES(");
+                sql.append(updateColumns.get(i).getColumnName());
+                sql.append(")");
+            }
+        }
+
+        return sql.toString();
+    }
+
     public String limitSelect(int offset, int limit) {
         return "LIMIT "
                 + limit
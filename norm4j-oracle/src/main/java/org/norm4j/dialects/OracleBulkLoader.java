@@ -0,0 +1,267 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.dialects;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.norm4j.GeneratedValue;
+import org.norm4j.GenerationType;
+import org.norm4j.TableManager;
+import org.norm4j.metadata.ColumnMetadata;
+import org.norm4j.metadata.TableMetadata;
+
+public class OracleBulkLoader {
+    private final TableManager tableManager;
+    private boolean appendValues;
+    private int batchSize;
+
+    public OracleBulkLoader(TableManager tableManager) {
+        this.tableManager = tableManager;
+
+        batchSize = 1000;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public OracleBulkLoader setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch size " + batchSize);
+        }
+
+        this.batchSize = batchSize;
+
+        return this;
+    }
+
+    public boolean isAppendValues() {
+        return appendValues;
+    }
+
+    public OracleBulkLoader setAppendValues(boolean appendValues) {
+        this.appendValues = appendValues;
+
+        return this;
+    }
+
+    public <T> long load(Class<T> tableClass, Stream<? extends T> records) {
+        try (Stream<? extends T> stream = records) {
+            return load(tableClass, stream.iterator());
+        }
+    }
+
+    public <T> long load(Class<T> tableClass, Iterator<? extends T> records) {
+        try (Connection connection = tableManager.getDataSource().getConnection()) {
+            return load(connection, tableClass, records, !connection.getAutoCommit());
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public <T> long load(Connection connection, Class<T> tableClass, Iterator<? extends T> records) {
+        try {
+            if (appendValues && !connection.getAutoCommit()) {
+                throw new IllegalStateException("APPEND_VALUES requires an auto-commit connection,"
+                        + " direct-path inserts must be committed before the table is loaded again.");
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+
+        return load(connection, tableClass, records, false);
+    }
+
+    private <T> long load(Connection connection,
+            Class<T> tableClass,
+            Iterator<? extends T> records,
+            boolean commit) {
+        List<ColumnMetadata> sequenceColumns;
+        List<ColumnMetadata> columns;
+        List<Object> chunk;
+        TableMetadata table;
+        SQLDialect dialect;
+        long rowCount;
+
+        table = tableManager.getMetadataManager().getTableMetadata(tableClass);
+
+        if (table == null) {
+            throw new IllegalArgumentException("No metadata found for class "
+                    + tableClass.getName());
+        }
+
+        dialect = tableManager.getMetadataManager().initDialect(connection);
+
+        columns = new ArrayList<>();
+
+        sequenceColumns = new ArrayList<>();
+
+        for (ColumnMetadata column : table.getColumns()) {
+            GeneratedValue generatedValue;
+
+            generatedValue = (GeneratedValue) column.getAnnotations()
+                    .get(GeneratedValue.class);
+
+            if (generatedValue == null ||
+                    column.isPooledSequence()) {
+                columns.add(column);
+            } else if (generatedValue.strategy() == GenerationType.SEQUENCE) {
+                columns.add(column);
+
+                sequenceColumns.add(column);
+            } else if (generatedValue.strategy() != GenerationType.AUTO &&
+                    generatedValue.strategy() != GenerationType.IDENTITY) {
+                columns.add(column);
+            }
+        }
+
+        chunk = new ArrayList<>(batchSize);
+
+        rowCount = 0;
+
+        try (PreparedStatement ps = connection.prepareStatement(createInsertSql(table, columns, dialect))) {
+            while (records.hasNext()) {
+                chunk.add(records.next());
+
+                if (chunk.size() == batchSize || !records.hasNext()) {
+                    for (ColumnMetadata column : sequenceColumns) {
+                        assignSequenceValues(connection, dialect, column, chunk);
+                    }
+
+                    for (Object record : chunk) {
+                        tableManager.generateValues(connection, record);
+
+                        for (int i = 0; i < columns.size(); i++) {
+                            ps.setObject(i + 1, dialect.toSqlValue(columns.get(i),
+                                    getValue(record, columns.get(i))));
+                        }
+
+                        ps.addBatch();
+                    }
+
+                    ps.executeBatch();
+
+                    if (commit) {
+                        connection.commit();
+                    }
+
+                    rowCount += chunk.size();
+
+                    chunk.clear();
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+
+        return rowCount;
+    }
+
+    private String createInsertSql(TableMetadata table, List<ColumnMetadata> columns, SQLDialect dialect) {
+        StringBuilder values;
+        StringBuilder sql;
+
+        sql = new StringBuilder();
+
+        sql.append("INSERT ");
+
+        if (appendValues) {
+            sql.append("/*+ APPEND_VALUES */ ");
+        }
+
+        sql.append("INTO ");
+        sql.append(dialect.getTableName(table));
+        sql.append(" (");
+
+        values = new StringBuilder();
+
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+
+                values.append(", ");
+            }
+
+            sql.append(columns.get(i).getColumnName());
+
+            values.append("?");
+        }
+
+        sql.append(") VALUES (");
+        sql.append(values);
+        sql.append(")");
+
+        return sql.toString();
+    }
+
+    private void assignSequenceValues(Connection connection,
+            SQLDialect dialect,
+            ColumnMetadata column,
+            List<Object> records) throws SQLException {
+        int index;
+
+        try (PreparedStatement ps = connection.prepareStatement("SELECT "
+                + dialect.getSequenceName(column)
+                + ".NEXTVAL FROM DUAL CONNECT BY LEVEL <= ?")) {
+            ps.setInt(1, records.size());
+
+            try (ResultSet rs = ps.executeQuery()) {
+                index = 0;
+
+                while (rs.next() && index < records.size()) {
+                    setValue(records.get(index), column, rs.getLong(1));
+
+                    index++;
+                }
+            }
+        }
+
+        if (index < records.size()) {
+            throw new IllegalStateException("Unable to allocate sequence values for "
+                    + dialect.getSequenceName(column));
+        }
+    }
+
+    private Object getValue(Object record, ColumnMetadata column) {
+        return column.getValue(record);
+    }
+
+    private void setValue(Object record, ColumnMetadata column, long value) {
+        Class<?> fieldType;
+
+        fieldType = column.getField().getType();
+
+        if (fieldType == short.class || fieldType == Short.class) {
+            column.setValue(record, (short) value);
+        } else if (fieldType == int.class || fieldType == Integer.class) {
+            column.setValue(record, (int) value);
+        } else {
+            column.setValue(record, value);
+        }
+    }
+}
@@ -60,10 +60,36 @@ public class OracleDialect extends AbstractDialect {
         return true;
     }
 
+    @Override
+    public boolean isTupleComparisonSupported() {
+        return false;
+    }
+
+    @Override
+    public boolean isMultiRowInsertSupported(TableMetadata table) {
+        for (ColumnMetadata column : table.getColumns()) {
+            GeneratedValue generatedValue;
+
+            generatedValue = (GeneratedValue) column.getAnnotations()
+                    .get(GeneratedValue.class);
+
+            if (generatedValue != null &&
+                    !column.isPooledSequence() &&
+                    (generatedValue.strategy() == GenerationType.AUTO ||
+                            generatedValue.strategy() == GenerationType.IDENTITY ||
+                            generatedValue.strategy() == GenerationType.SEQUENCE)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public String createSequence(String schema,
             String sequenceName,
-            int initialValue) {
+            int initialValue,
+            int allocationSize) {
         StringBuilder ddl;
 
         ddl = new StringBuilder();
@@ -76,11 +102,39 @@ public class OracleDialect extends AbstractDialect {
         ddl.append(sequenceName);
         ddl.append(" START WITH ");
         ddl.append(initialValue);
-        ddl.append(" INCREMENT BY 1;");
+        ddl.append(" INCREMENT BY ");
+        ddl.append(allocationSize);
+        ddl.append(";");
 
         return ddl.toString();
     }
 
+    @Override
+    public String alterSequence(String schema,
+            String sequenceName,
+            int allocationSize) {
+        StringBuilder ddl;
+
+        ddl = new StringBuilder();
+
+        ddl.append("ALTER SEQUENCE ");
+        if (!schema.isEmpty()) {
+            ddl.append(schema);
+            ddl.append(".");
+        }
+        ddl.append(sequenceName);
+        ddl.append(" INCREMENT BY ");
+        ddl.append(allocationSize);
+        ddl.append(";");
+
+        return ddl.toString();
+    }
+
+    @Override
+    public String createNextSequenceValueSql(ColumnMetadata column) {
+        return "SELECT " + getSequenceName(column) + ".NEXTVAL FROM DUAL";
+    }
+
     @Override
     public String createTable(TableMetadata table) {
         List<ColumnMetadata> primaryKeys;
@@ -346,6 +400,84 @@ public class OracleDialect extends AbstractDialect {
         }
     }
 
+    @Override
+    public String createUpsertSql(TableMetadata table,
+            List<ColumnMetadata> insertColumns,
+            List<ColumnMetadata> conflictColumns,
+            List<ColumnMetadata> updateColumns) {
+        StringBuilder sql;
+
+        sql = new StringBuilder();
+
+        sql.append("MERGE INTO ");
+        sql.append(getTableName(table));
+        sql.append(" target USING (SELECT ");
+
+        for (int i = 0; i < insertColumns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append("? AS ");
+            sql.append(insertColumns.get(i).getColumnName());
+        }
+
+        sql.append(" FROM DUAL) source ON (");
+
+        for (int i = 0; i < conflictColumns.size(); i++) {
+            if (i > 0) {
+                sql.append(" AND ");
+            }
+
+            sql.append("target.");
+            sql.append(conflictColumns.get(i).getColumnName());
+            sql.append(" = source.");
+            sql.append(conflictColumns.get(i).getColumnName());
+        }
+
+        sql.append(")");
+
+        if (!updateColumns.isEmpty()) {
+            sql.append(" WHEN MATCHED THEN UPDATE SET ");
+
+            for (int i = 0; i < updateColumns.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+
+                sql.append("target.");
+                sql.append(updateColumns.get(i).getColumnName());
+                sql.append(" = source.");
+                sql.append(updateColumns.get(i).getColumnName());
+            }
+        }
+
+        sql.append(" WHEN NOT MATCHED THEN INSERT (");
+
+        for (int i = 0; i < insertColumns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(insertColumns.get(i).getColumnName());
+        }
+
+        sql.append(") VALUES (");
+
+        for (int i = 0; i < insertColumns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append("source.");
+            sql.append(insertColumns.get(i).getColumnName());
+        }
+
+        sql.append(")");
+
+        return sql.toString();
+    }
+
     @Override
     public String limitSelect(int offset, int limit) {
         return "OFFSET "
@@ -468,6 +600,27 @@ public class OracleDialect extends AbstractDialect {
     public PreparedStatement createPersistStatement(Connection connection,
             TableMetadata table) {
         List<String> generatedKeys;
+        String sql;
+
+        sql = table.getStatements(this).getSql("persist",
+                () -> createPersistSql(table));
+
+        generatedKeys = new ArrayList<>();
+
+        for (ColumnMetadata column : table.getStatements(this)
+                .getGeneratedKeyColumns()) {
+            generatedKeys.add(column.getColumnName());
+        }
+
+        try {
+            return connection.prepareStatement(sql,
+                    generatedKeys.toArray(new String[generatedKeys.size()]));
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private String createPersistSql(TableMetadata table) {
         StringBuilder sql;
         StringBuilder values;
         int index;
@@ -482,15 +635,14 @@ public class OracleDialect extends AbstractDialect {
 
         index = 1;
 
-        generatedKeys = new ArrayList<>();
-
         for (ColumnMetadata column : table.getColumns()) {
             GeneratedValue generatedValue;
 
             generatedValue = (GeneratedValue) column.getAnnotations()
                     .get(GeneratedValue.class);
 
-            if (generatedValue == null) {
+            if (generatedValue == null ||
+                    column.isPooledSequence()) {
                 if (index > 1) {
                     sql.append(", ");
 
@@ -515,11 +667,10 @@ public class OracleDialect extends AbstractDialect {
                     values.append(getSequenceName(column));
                     values.append(".NEXTVAL");
 
-                    generatedKeys.add(column.getColumnName());
-
                     index++;
                 } else if (generatedValue.strategy() == GenerationType.TABLE ||
-                        generatedValue.strategy() == GenerationType.UUID) {
+                        generatedValue.strategy() == GenerationType.UUID ||
+                        generatedValue.strategy() == GenerationType.CUSTOM) {
                     if (index > 1) {
                         sql.append(", ");
 
@@ -539,11 +690,85 @@ public class OracleDialect extends AbstractDialect {
         sql.append(values);
         sql.append(")");
 
+        return sql.toString();
+    }
+
+    @Override
+    public PreparedStatement createBulkPersistStatement(Connection connection,
+            TableMetadata table,
+            int rowCount,
+            boolean cached) {
+        String sql;
+
+        if (cached) {
+            sql = table.getStatements(this).getSql("bulk:" + rowCount,
+                    () -> createBulkPersistSql(table, rowCount));
+        } else {
+            sql = createBulkPersistSql(table, rowCount);
+        }
+
         try {
-            return connection.prepareStatement(sql.toString(),
-                    generatedKeys.toArray(new String[generatedKeys.size()]));
+            return connection.prepareStatement(sql);
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
     }
+
+    private String createBulkPersistSql(TableMetadata table, int rowCount) {
+        StringBuilder sql;
+        StringBuilder into;
+        StringBuilder values;
+        int index;
+
+        into = new StringBuilder();
+
+        into.append(" INTO ");
+        into.append(getTableName(table));
+        into.append(" (");
+
+        values = new StringBuilder();
+
+        index = 1;
+
+        for (ColumnMetadata column : table.getColumns()) {
+            GeneratedValue generatedValue;
+
+            generatedValue = (GeneratedValue) column.getAnnotations()
+                    .get(GeneratedValue.class);
+
+            if (generatedValue == null ||
+                    column.isPooledSequence() ||
+                    generatedValue.strategy() == GenerationType.TABLE ||
+                    generatedValue.strategy() == GenerationType.UUID ||
+                    generatedValue.strategy() == GenerationType.CUSTOM) {
+                if (index > 1) {
+                    into.append(", ");
+
+                    values.append(", ");
+                }
+
+                into.append(column.getColumnName());
+
+                values.append("?");
+
+                index++;
+            }
+        }
+
+        into.append(") VALUES (");
+        into.append(values);
+        into.append(")");
+
+        sql = new StringBuilder();
+
+        sql.append("INSERT ALL");
+
+        for (int i = 0; i < rowCount; i++) {
+            sql.append(into);
+        }
+
+        sql.append(" SELECT 1 FROM DUAL");
+
+        return sql.toString();
+    }
 }
@@ -0,0 +1,463 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.dialects;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.norm4j.Array;
+import org.norm4j.ArrayType;
+import org.norm4j.GeneratedValue;
+import org.norm4j.GenerationType;
+import org.norm4j.TableManager;
+import org.norm4j.metadata.ColumnMetadata;
+import org.norm4j.metadata.TableMetadata;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.PGCopyOutputStream;
+
+public class PostgreSQLBulkLoader {
+    private static final byte[] SIGNATURE = new byte[] {
+            'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0
+    };
+    private static final long POSTGRES_EPOCH_DAY = 10957;
+    private static final long POSTGRES_EPOCH_SECOND = 946684800;
+    private final TableManager tableManager;
+    private int bufferSize;
+
+    public PostgreSQLBulkLoader(TableManager tableManager) {
+        this.tableManager = tableManager;
+
+        bufferSize = 65536;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public PostgreSQLBulkLoader setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+
+        return this;
+    }
+
+    public <T> long load(Class<T> tableClass, Stream<? extends T> records) {
+        try (Stream<? extends T> stream = records) {
+            return load(tableClass, stream.iterator());
+        }
+    }
+
+    public <T> long load(Class<T> tableClass, Iterator<? extends T> records) {
+        try (Connection connection = tableManager.getDataSource().getConnection()) {
+            return load(connection, tableClass, records);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public <T> long load(Connection connection, Class<T> tableClass, Iterator<? extends T> records) {
+        List<ColumnMetadata> columns;
+        PGCopyOutputStream copyStream;
+        DataOutputStream out;
+        TableMetadata table;
+        SQLDialect dialect;
+        CopyIn copyIn;
+
+        table = tableManager.getMetadataManager().getTableMetadata(tableClass);
+
+        if (table == null) {
+            throw new IllegalArgumentException("No metadata found for class "
+                    + tableClass.getName());
+        }
+
+        dialect = tableManager.getMetadataManager().initDialect(connection);
+
+        columns = getColumns(table);
+
+        try (Connection generatorConnection = isGeneratorConnectionRequired(table)
+                ? tableManager.getDataSource().getConnection()
+                : null) {
+            copyIn = connection.unwrap(PGConnection.class)
+                    .getCopyAPI()
+                    .copyIn(createCopySql(table, columns, dialect));
+
+            copyStream = new PGCopyOutputStream(copyIn, bufferSize);
+
+            out = new DataOutputStream(copyStream);
+
+            try {
+                out.write(SIGNATURE);
+                out.writeInt(0);
+                out.writeInt(0);
+
+                while (records.hasNext()) {
+                    Object record;
+
+                    record = records.next();
+
+                    tableManager.generateValues(generatorConnection == null
+                            ? connection
+                            : generatorConnection, record);
+
+                    out.writeShort(columns.size());
+
+                    for (ColumnMetadata column : columns) {
+                        writeColumn(out, column, dialect.toSqlValue(column, getValue(record, column)));
+                    }
+                }
+
+                out.writeShort(-1);
+
+                out.flush();
+
+                return copyStream.endCopy();
+            } catch (IOException | SQLException | RuntimeException e) {
+                try {
+                    if (copyIn.isActive()) {
+                        copyIn.cancelCopy();
+                    }
+                } catch (SQLException ce) {
+                    e.addSuppressed(ce);
+                }
+
+                if (e instanceof RuntimeException) {
+                    throw (RuntimeException) e;
+                } else {
+                    throw new RuntimeException(e);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private boolean isGeneratorConnectionRequired(TableMetadata table) {
+        for (ColumnMetadata column : table.getColumns()) {
+            GeneratedValue generatedValue;
+
+            generatedValue = (GeneratedValue) column.getAnnotations()
+                    .get(GeneratedValue.class);
+
+            if (generatedValue != null &&
+                    (generatedValue.strategy() == GenerationType.TABLE ||
+                            column.isPooledSequence())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private List<ColumnMetadata> getColumns(TableMetadata table) {
+        List<ColumnMetadata> columns;
+
+        columns = new ArrayList<>();
+
+        for (ColumnMetadata column : table.getColumns()) {
+            GeneratedValue generatedValue;
+
+            generatedValue = (GeneratedValue) column.getAnnotations()
+                    .get(GeneratedValue.class);
+
+            if (generatedValue == null ||
+                    column.isPooledSequence() ||
+                    (generatedValue.strategy() != GenerationType.AUTO &&
+                            generatedValue.strategy() != GenerationType.IDENTITY &&
+                            generatedValue.strategy() != GenerationType.SEQUENCE)) {
+                columns.add(column);
+            }
+        }
+
+        return columns;
+    }
+
+    private String createCopySql(TableMetadata table, List<ColumnMetadata> columns, SQLDialect dialect) {
+        StringBuilder sql;
+
+        sql = new StringBuilder();
+
+        sql.append("COPY ");
+        sql.append(dialect.getTableName(table));
+        sql.append(" (");
+
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(columns.get(i).getColumnName());
+        }
+
+        sql.append(") FROM STDIN (FORMAT binary)");
+
+        return sql.toString();
+    }
+
+    private Object getValue(Object record, ColumnMetadata column) {
+        return column.getValue(record);
+    }
+
+    private void writeColumn(DataOutputStream out, ColumnMetadata column, Object value) throws IOException {
+        Array arrayAnnotation;
+
+        if (value == null) {
+            out.writeInt(-1);
+
+            return;
+        }
+
+        arrayAnnotation = (Array) column.getAnnotations().get(Array.class);
+
+        if (arrayAnnotation != null &&
+                arrayAnnotation.type() == ArrayType.Vector) {
+            writeVector(out, (float[]) value);
+        } else if (value.getClass().isArray() &&
+                value.getClass() != byte[].class) {
+            writeArray(out, value);
+        } else {
+            writeValue(out, value);
+        }
+    }
+
+    private void writeVector(DataOutputStream out, float[] vector) throws IOException {
+        out.writeInt(4 + vector.length * 4);
+        out.writeShort(vector.length);
+        out.writeShort(0);
+
+        for (float value : vector) {
+            out.writeFloat(value);
+        }
+    }
+
+    private void writeArray(DataOutputStream out, Object value) throws IOException {
+        ByteArrayOutputStream buffer;
+        DataOutputStream arrayOut;
+        boolean hasNull;
+        int length;
+
+        length = java.lang.reflect.Array.getLength(value);
+
+        hasNull = false;
+
+        for (int i = 0; i < length; i++) {
+            if (java.lang.reflect.Array.get(value, i) == null) {
+                hasNull = true;
+
+                break;
+            }
+        }
+
+        buffer = new ByteArrayOutputStream();
+
+        arrayOut = new DataOutputStream(buffer);
+
+        arrayOut.writeInt(length == 0 ? 0 : 1);
+        arrayOut.writeInt(hasNull ? 1 : 0);
+        arrayOut.writeInt(getElementOid(value.getClass().getComponentType()));
+
+        if (length > 0) {
+            arrayOut.writeInt(length);
+            arrayOut.writeInt(1);
+
+            for (int i = 0; i < length; i++) {
+                Object element;
+
+                element = java.lang.reflect.Array.get(value, i);
+
+                if (element == null) {
+                    arrayOut.writeInt(-1);
+                } else {
+                    writeValue(arrayOut, element);
+                }
+            }
+        }
+
+        arrayOut.flush();
+
+        out.writeInt(buffer.size());
+
+        buffer.writeTo(out);
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof Boolean) {
+            out.writeInt(1);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte || value instanceof Short) {
+            out.writeInt(2);
+            out.writeShort(((Number) value).shortValue());
+        } else if (value instanceof Integer) {
+            out.writeInt(4);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeInt(8);
+            out.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            out.writeInt(4);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeInt(8);
+            out.writeDouble((Double) value);
+        } else if (value instanceof BigDecimal) {
+            writeNumeric(out, (BigDecimal) value);
+        } else if (value instanceof String) {
+            byte[] bytes;
+
+            bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else if (value instanceof UUID) {
+            out.writeInt(16);
+            out.writeLong(((UUID) value).getMostSignificantBits());
+            out.writeLong(((UUID) value).getLeastSignificantBits());
+        } else if (value instanceof byte[]) {
+            out.writeInt(((byte[]) value).length);
+            out.write((byte[]) value);
+        } else if (value instanceof java.sql.Timestamp) {
+            LocalDateTime dateTime;
+
+            dateTime = ((java.sql.Timestamp) value).toLocalDateTime();
+
+            out.writeInt(8);
+            out.writeLong((dateTime.toEpochSecond(ZoneOffset.UTC) - POSTGRES_EPOCH_SECOND) * 1000000L
+                    + dateTime.getNano() / 1000);
+        } else if (value instanceof java.sql.Time) {
+            out.writeInt(8);
+            out.writeLong(((java.sql.Time) value).toLocalTime().toNanoOfDay() / 1000);
+        } else if (value instanceof java.sql.Date) {
+            out.writeInt(4);
+            out.writeInt((int) (((java.sql.Date) value).toLocalDate().toEpochDay() - POSTGRES_EPOCH_DAY));
+        } else if (value instanceof java.util.Date) {
+            writeValue(out, new java.sql.Timestamp(((java.util.Date) value).getTime()));
+        } else {
+            throw new RuntimeException("Unsupported SQL type.");
+        }
+    }
+
+    private void writeNumeric(DataOutputStream out, BigDecimal value) throws IOException {
+        List<Short> digits;
+        String integerPart;
+        String fractionPart;
+        String unscaled;
+        int weight;
+        int scale;
+
+        if (value.scale() < 0) {
+            value = value.setScale(0);
+        }
+
+        scale = value.scale();
+
+        unscaled = value.unscaledValue().abs().toString();
+
+        if (unscaled.length() > scale) {
+            integerPart = unscaled.substring(0, unscaled.length() - scale);
+            fractionPart = unscaled.substring(unscaled.length() - scale);
+        } else {
+            integerPart = "";
+            fractionPart = "0".repeat(scale - unscaled.length()) + unscaled;
+        }
+
+        integerPart = "0".repeat((4 - integerPart.length() % 4) % 4) + integerPart;
+        fractionPart = fractionPart + "0".repeat((4 - fractionPart.length() % 4) % 4);
+
+        digits = new ArrayList<>();
+
+        for (int i = 0; i < integerPart.length(); i += 4) {
+            digits.add(Short.parseShort(integerPart.substring(i, i + 4)));
+        }
+
+        for (int i = 0; i < fractionPart.length(); i += 4) {
+            digits.add(Short.parseShort(fractionPart.substring(i, i + 4)));
+        }
+
+        weight = integerPart.length() / 4 - 1;
+
+        while (!digits.isEmpty() && digits.get(0) == 0) {
+            digits.remove(0);
+
+            weight--;
+        }
+
+        while (!digits.isEmpty() && digits.get(digits.size() - 1) == 0) {
+            digits.remove(digits.size() - 1);
+        }
+
+        if (digits.isEmpty()) {
+            weight = 0;
+        }
+
+        out.writeInt(8 + digits.size() * 2);
+        out.writeShort(digits.size());
+        out.writeShort(weight);
+        out.writeShort(value.signum() < 0 ? 0x4000 : 0);
+        out.writeShort(scale);
+
+        for (short digit : digits) {
+            out.writeShort(digit);
+        }
+    }
+
+    private int getElementOid(Class<?> componentType) {
+        if (componentType == boolean.class || componentType == Boolean.class) {
+            return 16;
+        } else if (componentType == short.class || componentType == Short.class ||
+                componentType == Byte.class) {
+            return 21;
+        } else if (componentType == int.class || componentType == Integer.class) {
+            return 23;
+        } else if (componentType == long.class || componentType == Long.class) {
+            return 20;
+        } else if (componentType == float.class || componentType == Float.class) {
+            return 700;
+        } else if (componentType == double.class || componentType == Double.class) {
+            return 701;
+        } else if (componentType == BigDecimal.class) {
+            return 1700;
+        } else if (componentType == String.class) {
+            return 1043;
+        } else if (componentType == UUID.class) {
+            return 2950;
+        } else if (componentType == java.sql.Date.class) {
+            return 1082;
+        } else if (componentType == java.sql.Time.class) {
+            return 1083;
+        } else if (componentType == java.sql.Timestamp.class ||
+                componentType == java.util.Date.class) {
+            return 1114;
+        }
+
+        throw new RuntimeException("Unsupported array type.");
+    }
+}
@@ -72,10 +72,21 @@ public class PostgreSQLDialect extends AbstractDialect {
         return true;
     }
 
+    @Override
+    public boolean isBatchGeneratedKeysSupported() {
+        return true;
+    }
+
+    @Override
+    public boolean isCursorTransactionRequired() {
+        return true;
+    }
+
     @Override
     public String createSequence(String schema,
             String sequenceName,
-            int initialValue) {
+            int initialValue,
+            int allocationSize) {
         StringBuilder ddl;
 
         ddl = new StringBuilder();
@@ -88,11 +99,43 @@ public class PostgreSQLDialect extends AbstractDialect {
         ddl.append(sequenceName);
         ddl.append(" START ");
         ddl.append(initialValue);
+
+        if (allocationSize > 1) {
+            ddl.append(" INCREMENT BY ");
+            ddl.append(allocationSize);
+        }
+
+        ddl.append(";");
+
+        return ddl.toString();
+    }
+
+    @Override
+    public String alterSequence(String schema,
+            String sequenceName,
+            int allocationSize) {
+        StringBuilder ddl;
+
+        ddl = new StringBuilder();
+
+        ddl.append("ALTER SEQUENCE ");
+        if (!schema.isEmpty()) {
+            ddl.append(schema);
+            ddl.append(".");
+        }
+        ddl.append(sequenceName);
+        ddl.append(" INCREMENT BY ");
+        ddl.append(allocationSize);
         ddl.append(";");
 
         return ddl.toString();
     }
 
+    @Override
+    public String createNextSequenceValueSql(ColumnMetadata column) {
+        return "SELECT nextval('" + getSequenceName(column) + "')";
+    }
+
     @Override
     public String createTable(TableMetadata table) {
         List<ColumnMetadata> primaryKeys;
@@ -508,6 +551,69 @@ public class PostgreSQLDialect extends AbstractDialect {
         return value;
     }
 
+    @Override
+    public String createUpsertSql(TableMetadata table,
+            List<ColumnMetadata> insertColumns,
+            List<ColumnMetadata> conflictColumns,
+            List<ColumnMetadata> updateColumns) {
+        StringBuilder values;
+        StringBuilder sql;
+
+        sql = new StringBuilder();
+
+        sql.append("INSERT INTO ");
+        sql.append(getTableName(table));
+        sql.append(" (");
+
+        values = new StringBuilder();
+
+        for (int i = 0; i < insertColumns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+
+                values.append(", ");
+            }
+
+            sql.append(insertColumns.get(i).getColumnName());
+
+            values.append("?");
+        }
+
+        sql.append(") VALUES (");
+        sql.append(values);
+        sql.append(")");
+
+        sql.append(" ON CONFLICT (");
+
+        for (int i = 0; i < conflictColumns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(conflictColumns.get(i).getColumnName());
+        }
+
+        sql.append(")");
+
+        if (updateColumns.isEmpty()) {
+            sql.append(" DO NOTHING");
+        } else {
+            sql.append(" DO UPDATE SET ");
+
+            for (int i = 0; i < updateColumns.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+
+                sql.append(updateColumns.get(i).getColumnName());
+                sql.append(" = EXCLUDED.");
+                sql.append(updateColumns.get(i).getColumnName());
+            }
+        }
+
+        return sql.toString();
+    }
+
     @Override
     public String limitSelect(int offset, int limit) {
         return "LIMIT "
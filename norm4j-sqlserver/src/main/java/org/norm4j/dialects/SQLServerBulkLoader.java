@@ -0,0 +1,361 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.dialects;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.norm4j.GeneratedValue;
+import org.norm4j.GenerationType;
+import org.norm4j.TableManager;
+import org.norm4j.metadata.ColumnMetadata;
+import org.norm4j.metadata.TableMetadata;
+
+import com.microsoft.sqlserver.jdbc.ISQLServerBulkData;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopy;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopyOptions;
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
+
+public class SQLServerBulkLoader {
+    private final TableManager tableManager;
+    private boolean checkConstraints;
+    private boolean tableLock;
+    private int batchSize;
+    private int timeout;
+
+    public SQLServerBulkLoader(TableManager tableManager) {
+        this.tableManager = tableManager;
+
+        batchSize = 10000;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public SQLServerBulkLoader setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+
+        return this;
+    }
+
+    public boolean isTableLock() {
+        return tableLock;
+    }
+
+    public SQLServerBulkLoader setTableLock(boolean tableLock) {
+        this.tableLock = tableLock;
+
+        return this;
+    }
+
+    public boolean isCheckConstraints() {
+        return checkConstraints;
+    }
+
+    public SQLServerBulkLoader setCheckConstraints(boolean checkConstraints) {
+        this.checkConstraints = checkConstraints;
+
+        return this;
+    }
+
+    public int getTimeout() {
+        return timeout;
+    }
+
+    public SQLServerBulkLoader setTimeout(int timeout) {
+        this.timeout = timeout;
+
+        return this;
+    }
+
+    public <T> long load(Class<T> tableClass, Stream<? extends T> records) {
+        try (Stream<? extends T> stream = records) {
+            return load(tableClass, stream.iterator());
+        }
+    }
+
+    public <T> long load(Class<T> tableClass, Iterator<? extends T> records) {
+        try (Connection connection = tableManager.getDataSource().getConnection()) {
+            return load(connection, tableClass, records);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public <T> long load(Connection connection, Class<T> tableClass, Iterator<? extends T> records) {
+        SQLServerBulkCopyOptions options;
+        List<ColumnMetadata> columns;
+        RecordBulkData bulkData;
+        TableMetadata table;
+        SQLDialect dialect;
+
+        table = tableManager.getMetadataManager().getTableMetadata(tableClass);
+
+        if (table == null) {
+            throw new IllegalArgumentException("No metadata found for class "
+                    + tableClass.getName());
+        }
+
+        dialect = tableManager.getMetadataManager().initDialect(connection);
+
+        columns = getColumns(table);
+
+        try (Connection generatorConnection = isGeneratorConnectionRequired(table)
+                ? tableManager.getDataSource().getConnection()
+                : null) {
+            bulkData = new RecordBulkData(connection,
+                    generatorConnection == null ? connection : generatorConnection,
+                    table,
+                    columns,
+                    dialect,
+                    records);
+
+            try (SQLServerBulkCopy bulkCopy = new SQLServerBulkCopy(connection
+                    .unwrap(SQLServerConnection.class))) {
+                options = new SQLServerBulkCopyOptions();
+
+                options.setBatchSize(batchSize);
+                options.setTableLock(tableLock);
+                options.setCheckConstraints(checkConstraints);
+                options.setBulkCopyTimeout(timeout);
+
+                bulkCopy.setBulkCopyOptions(options);
+
+                bulkCopy.setDestinationTableName(dialect.getTableName(table));
+
+                for (int i = 0; i < columns.size(); i++) {
+                    bulkCopy.addColumnMapping(i + 1, columns.get(i).getColumnName());
+                }
+
+                bulkCopy.writeToServer(bulkData);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+
+        return bulkData.getRowCount();
+    }
+
+    private List<ColumnMetadata> getColumns(TableMetadata table) {
+        List<ColumnMetadata> columns;
+
+        columns = new ArrayList<>();
+
+        for (ColumnMetadata column : table.getColumns()) {
+            GeneratedValue generatedValue;
+
+            generatedValue = (GeneratedValue) column.getAnnotations()
+                    .get(GeneratedValue.class);
+
+            if (generatedValue == null ||
+                    column.isPooledSequence() ||
+                    (generatedValue.strategy() != GenerationType.AUTO &&
+                            generatedValue.strategy() != GenerationType.IDENTITY &&
+                            generatedValue.strategy() != GenerationType.SEQUENCE)) {
+                columns.add(column);
+            }
+        }
+
+        return columns;
+    }
+
+    private boolean isGeneratorConnectionRequired(TableMetadata table) {
+        for (ColumnMetadata column : table.getColumns()) {
+            GeneratedValue generatedValue;
+
+            generatedValue = (GeneratedValue) column.getAnnotations()
+                    .get(GeneratedValue.class);
+
+            if (generatedValue != null &&
+                    (generatedValue.strategy() == GenerationType.TABLE ||
+                            column.isPooledSequence())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private class RecordBulkData implements ISQLServerBulkData {
+        private static final long serialVersionUID = 1L;
+        private final transient Connection generatorConnection;
+        private final transient List<ColumnMetadata> columns;
+        private final transient SQLDialect dialect;
+        private final transient Iterator<?> records;
+        private final int[] columnTypes;
+        private final int[] precisions;
+        private final int[] scales;
+        private Object[] rowData;
+        private long rowCount;
+
+        public RecordBulkData(Connection connection,
+                Connection generatorConnection,
+                TableMetadata table,
+                List<ColumnMetadata> columns,
+                SQLDialect dialect,
+                Iterator<?> records) throws SQLException {
+            StringBuilder sql;
+
+            this.generatorConnection = generatorConnection;
+
+            this.columns = columns;
+
+            this.dialect = dialect;
+
+            this.records = records;
+
+            columnTypes = new int[columns.size()];
+
+            precisions = new int[columns.size()];
+
+            scales = new int[columns.size()];
+
+            sql = new StringBuilder();
+
+            sql.append("SELECT ");
+
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+
+                sql.append(columns.get(i).getColumnName());
+            }
+
+            sql.append(" FROM ");
+            sql.append(dialect.getTableName(table));
+            sql.append(" WHERE 1 = 0");
+
+            try (Statement statement = connection.createStatement();
+                    ResultSet rs = statement.executeQuery(sql.toString())) {
+                ResultSetMetaData metaData;
+
+                metaData = rs.getMetaData();
+
+                for (int i = 0; i < columns.size(); i++) {
+                    columnTypes[i] = metaData.getColumnType(i + 1);
+
+                    precisions[i] = metaData.getPrecision(i + 1);
+
+                    scales[i] = metaData.getScale(i + 1);
+                }
+            }
+        }
+
+        public long getRowCount() {
+            return rowCount;
+        }
+
+        @Override
+        public Set<Integer> getColumnOrdinals() {
+            Set<Integer> ordinals;
+
+            ordinals = new LinkedHashSet<>();
+
+            for (int i = 1; i <= columns.size(); i++) {
+                ordinals.add(i);
+            }
+
+            return ordinals;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return columns.get(column - 1).getColumnName();
+        }
+
+        @Override
+        public int getColumnType(int column) {
+            return columnTypes[column - 1];
+        }
+
+        @Override
+        public int getPrecision(int column) {
+            return precisions[column - 1];
+        }
+
+        @Override
+        public int getScale(int column) {
+            return scales[column - 1];
+        }
+
+        @Override
+        public Object[] getRowData() throws SQLException {
+            return rowData;
+        }
+
+        @Override
+        public boolean next() throws SQLException {
+            Object record;
+
+            if (!records.hasNext()) {
+                rowData = null;
+
+                return false;
+            }
+
+            record = records.next();
+
+            tableManager.generateValues(generatorConnection, record);
+
+            rowData = new Object[columns.size()];
+
+            for (int i = 0; i < columns.size(); i++) {
+                ColumnMetadata column;
+                Object value;
+
+                column = columns.get(i);
+
+                value = dialect.toSqlValue(column, getValue(record, column));
+
+                if (value instanceof UUID) {
+                    value = value.toString();
+                } else if (value instanceof java.util.Date &&
+                        !(value instanceof java.sql.Timestamp) &&
+                        !(value instanceof java.sql.Date) &&
+                        !(value instanceof java.sql.Time)) {
+                    value = new java.sql.Timestamp(((java.util.Date) value).getTime());
+                }
+
+                rowData[i] = value;
+            }
+
+            rowCount++;
+
+            return true;
+        }
+
+        private Object getValue(Object record, ColumnMetadata column) {
+            return column.getValue(record);
+        }
+    }
+}
@@ -68,10 +68,41 @@ public class SQLServerDialect extends AbstractDialect {
         return false;
     }
 
+    @Override
+    public boolean isMultiRowInsertSupported(TableMetadata table) {
+        for (ColumnMetadata column : table.getColumns()) {
+            GeneratedValue generatedValue;
+
+            generatedValue = (GeneratedValue) column.getAnnotations()
+                    .get(GeneratedValue.class);
+
+            if (generatedValue != null &&
+                    !column.isPooledSequence() &&
+                    (generatedValue.strategy() == GenerationType.AUTO ||
+                            generatedValue.strategy() == GenerationType.IDENTITY ||
+                            generatedValue.strategy() == GenerationType.SEQUENCE)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int getMaxParameterCount() {
+        return 2098;
+    }
+
+    @Override
+    public int getMaxInsertRowCount() {
+        return 1000;
+    }
+
     @Override
     public String createSequence(String schema,
             String sequenceName,
-            int initialValue) {
+            int initialValue,
+            int allocationSize) {
         StringBuilder ddl;
 
         ddl = new StringBuilder();
@@ -85,11 +116,40 @@ public class SQLServerDialect extends AbstractDialect {
         ddl.append(sequenceName);
         ddl.append(" START WITH ");
         ddl.append(initialValue);
-        ddl.append(" INCREMENT BY 1;");
+        ddl.append(" INCREMENT BY ");
+        ddl.append(allocationSize);
+        ddl.append(";");
 
         return ddl.toString();
     }
 
+    @Override
+    public String alterSequence(String schema,
+            String sequenceName,
+            int allocationSize) {
+        StringBuilder ddl;
+
+        ddl = new StringBuilder();
+
+        ddl.append("ALTER SEQUENCE ");
+        if (!schema.isEmpty()) {
+            ddl.append(schema);
+            ddl.append(".");
+        }
+
+        ddl.append(sequenceName);
+        ddl.append(" INCREMENT BY ");
+        ddl.append(allocationSize);
+        ddl.append(";");
+
+        return ddl.toString();
+    }
+
+    @Override
+    public String createNextSequenceValueSql(ColumnMetadata column) {
+        return "SELECT NEXT VALUE FOR " + getSequenceName(column);
+    }
+
     @Override
     public String createTable(TableMetadata table) {
         List<ColumnMetadata> primaryKeys;
@@ -361,6 +421,84 @@ public class SQLServerDialect extends AbstractDialect {
         }
     }
 
+    @Override
+    public String createUpsertSql(TableMetadata table,
+            List<ColumnMetadata> insertColumns,
+            List<ColumnMetadata> conflictColumns,
+            List<ColumnMetadata> updateColumns) {
+        StringBuilder sql;
+
+        sql = new StringBuilder();
+
+        sql.append("MERGE INTO ");
+        sql.append(getTableName(table));
+        sql.append(" WITH (HOLDLOCK) AS target USING (SELECT ");
+
+        for (int i = 0; i < insertColumns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append("? AS ");
+            sql.append(insertColumns.get(i).getColumnName());
+        }
+
+        sql.append(") source ON (");
+
+        for (int i = 0; i < conflictColumns.size(); i++) {
+            if (i > 0) {
+                sql.append(" AND ");
+            }
+
+            sql.append("target.");
+            sql.append(conflictColumns.get(i).getColumnName());
+            sql.append(" = source.");
+            sql.append(conflictColumns.get(i).getColumnName());
+        }
+
+        sql.append(")");
+
+        if (!updateColumns.isEmpty()) {
+            sql.append(" WHEN MATCHED THEN UPDATE SET ");
+
+            for (int i = 0; i < updateColumns.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+
+                sql.append("target.");
+                sql.append(updateColumns.get(i).getColumnName());
+                sql.append(" = source.");
+                sql.append(updateColumns.get(i).getColumnName());
+            }
+        }
+
+        sql.append(" WHEN NOT MATCHED THEN INSERT (");
+
+        for (int i = 0; i < insertColumns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(insertColumns.get(i).getColumnName());
+        }
+
+        sql.append(") VALUES (");
+
+        for (int i = 0; i < insertColumns.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append("source.");
+            sql.append(insertColumns.get(i).getColumnName());
+        }
+
+        sql.append(");");
+
+        return sql.toString();
+    }
+
     @Override
     public String limitSelect(int offset, int limit) {
         return "OFFSET "
@@ -482,6 +620,20 @@ public class SQLServerDialect extends AbstractDialect {
     @Override
     public PreparedStatement createPersistStatement(Connection connection,
             TableMetadata table) {
+        String sql;
+
+        sql = table.getStatements(this).getSql("persist",
+                () -> createPersistSql(table));
+
+        try {
+            return connection.prepareStatement(sql,
+                    Statement.RETURN_GENERATED_KEYS);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private String createPersistSql(TableMetadata table) {
         StringBuilder sql;
         StringBuilder output;
         StringBuilder values;
@@ -505,7 +657,8 @@ public class SQLServerDialect extends AbstractDialect {
             generatedValue = (GeneratedValue) column.getAnnotations()
                     .get(GeneratedValue.class);
 
-            if (generatedValue == null) {
+            if (generatedValue == null ||
+                    column.isPooledSequence()) {
                 if (index > 1) {
                     sql.append(", ");
 
@@ -526,7 +679,8 @@ public class SQLServerDialect extends AbstractDialect {
                     output.append("INSERTED.");
                     output.append(column.getColumnName());
                 } else if (generatedValue.strategy() == GenerationType.TABLE ||
-                        generatedValue.strategy() == GenerationType.UUID) {
+                        generatedValue.strategy() == GenerationType.UUID ||
+                        generatedValue.strategy() == GenerationType.CUSTOM) {
                     if (index > 1) {
                         sql.append(", ");
 
@@ -553,12 +707,7 @@ public class SQLServerDialect extends AbstractDialect {
         sql.append(values);
         sql.append(")");
 
-        try {
-            return connection.prepareStatement(sql.toString(),
-                    Statement.RETURN_GENERATED_KEYS);
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        return sql.toString();
     }
 
     @Override
@@ -570,4 +719,80 @@ public class SQLServerDialect extends AbstractDialect {
             throw new RuntimeException(e);
         }
     }
+
+    @Override
+    public PreparedStatement createBulkPersistStatement(Connection connection,
+            TableMetadata table,
+            int rowCount,
+            boolean cached) {
+        String sql;
+
+        if (cached) {
+            sql = table.getStatements(this).getSql("bulk:" + rowCount,
+                    () -> createBulkPersistSql(table, rowCount));
+        } else {
+            sql = createBulkPersistSql(table, rowCount);
+        }
+
+        try {
+            return connection.prepareStatement(sql);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private String createBulkPersistSql(TableMetadata table, int rowCount) {
+        StringBuilder sql;
+        StringBuilder values;
+        int index;
+
+        sql = new StringBuilder();
+
+        sql.append("INSERT INTO ");
+        sql.append(getTableName(table));
+        sql.append(" (");
+
+        values = new StringBuilder();
+
+        index = 1;
+
+        for (ColumnMetadata column : table.getColumns()) {
+            GeneratedValue generatedValue;
+
+            generatedValue = (GeneratedValue) column.getAnnotations()
+                    .get(GeneratedValue.class);
+
+            if (generatedValue == null ||
+                    column.isPooledSequence() ||
+                    generatedValue.strategy() == GenerationType.TABLE ||
+                    generatedValue.strategy() == GenerationType.UUID ||
+                    generatedValue.strategy() == GenerationType.CUSTOM) {
+                if (index > 1) {
+                    sql.append(", ");
+
+                    values.append(", ");
+                }
+
+                sql.append(column.getColumnName());
+
+                values.append("?");
+
+                index++;
+            }
+        }
+
+        sql.append(") VALUES ");
+
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append("(");
+            sql.append(values);
+            sql.append(")");
+        }
+
+        return sql.toString();
+    }
 }
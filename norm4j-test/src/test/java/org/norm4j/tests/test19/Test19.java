@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test19;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.BulkMode;
+import org.norm4j.TableManager;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test19 extends BaseTest {
+    private TableManager tableManager;
+
+    public Test19() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        MetadataManager metadataManager;
+
+        dropTable("book");
+        dropTable("author");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(Author.class);
+        metadataManager.registerTable(Book.class);
+
+        metadataManager.createTables(getDataSource());
+
+        tableManager = new TableManager(getDataSource(), metadataManager)
+                .setBatchSize(3);
+    }
+
+    @Test
+    public void test19() {
+        List<Author> authors;
+        List<Book> books;
+
+        authors = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            Author author;
+
+            author = new Author();
+
+            author.setName("Author " + i);
+
+            authors.add(author);
+        }
+
+        tableManager.persistAll(authors);
+
+        for (Author author : authors) {
+            assertNotEquals(0, author.getId());
+        }
+
+        books = new ArrayList<>();
+
+        for (Author author : authors) {
+            Book book;
+
+            book = new Book();
+
+            book.setName("Book of " + author.getName());
+            book.setAuthorId(author.getId());
+
+            books.add(book);
+        }
+
+        tableManager.persistAll(books);
+
+        for (Book book : books) {
+            assertNotEquals(null, book.getId());
+        }
+
+        for (Author author : authors) {
+            author.setName(author.getName() + ".1");
+        }
+
+        tableManager.mergeAll(authors);
+
+        assertEquals("Author 4.1", tableManager.find(Author.class, authors.get(4).getId()).getName());
+
+        tableManager.removeAll(books);
+
+        assertEquals(null, tableManager.find(Book.class, books.get(0).getId()));
+
+        tableManager.removeAll(authors);
+
+        assertEquals(null, tableManager.find(Author.class, authors.get(0).getId()));
+    }
+
+    @Test
+    public void test19MultiRow() {
+        List<Author> authors;
+
+        tableManager.setBulkMode(BulkMode.MULTI_ROW);
+
+        authors = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            Author author;
+
+            author = new Author();
+
+            author.setName("Author " + i);
+
+            authors.add(author);
+        }
+
+        tableManager.persistAll(authors);
+
+        assertEquals(10, tableManager.createSelectQueryBuilder()
+                .select()
+                .from(Author.class)
+                .getResultList(Author.class)
+                .size());
+
+        for (Author author : authors) {
+            assertNotEquals(0, author.getId());
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        dropTable("book");
+        dropTable("author");
+    }
+}
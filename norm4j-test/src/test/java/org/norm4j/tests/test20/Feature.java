@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test20;
+
+import java.util.UUID;
+
+import org.norm4j.Array;
+import org.norm4j.ArrayType;
+import org.norm4j.Column;
+import org.norm4j.GeneratedValue;
+import org.norm4j.GenerationType;
+import org.norm4j.Id;
+import org.norm4j.Table;
+
+@Table(name = "feature")
+public class Feature {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Array(type = ArrayType.Array)
+    private int[] counts;
+
+    @Array(type = ArrayType.Array)
+    private UUID[] references;
+
+    @Array(type = ArrayType.Vector, length = 3)
+    private float[] embedding;
+
+    public Feature() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int[] getCounts() {
+        return counts;
+    }
+
+    public void setCounts(int[] counts) {
+        this.counts = counts;
+    }
+
+    public UUID[] getReferences() {
+        return references;
+    }
+
+    public void setReferences(UUID[] references) {
+        this.references = references;
+    }
+
+    public float[] getEmbedding() {
+        return embedding;
+    }
+
+    public void setEmbedding(float[] embedding) {
+        this.embedding = embedding;
+    }
+}
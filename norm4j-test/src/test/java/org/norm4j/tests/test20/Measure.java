@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test20;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.UUID;
+
+import org.norm4j.Column;
+import org.norm4j.EnumType;
+import org.norm4j.Enumerated;
+import org.norm4j.GeneratedValue;
+import org.norm4j.GenerationType;
+import org.norm4j.Id;
+import org.norm4j.Table;
+import org.norm4j.Temporal;
+import org.norm4j.TemporalType;
+
+@Table(name = "measure")
+public class Measure {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private String name;
+
+    private int quantity;
+
+    private double score;
+
+    @Column(nullable = true)
+    private BigDecimal amount;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date created;
+
+    @Enumerated(EnumType.STRING)
+    private MeasureStatus status;
+
+    public Measure() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public Date getCreated() {
+        return created;
+    }
+
+    public void setCreated(Date created) {
+        this.created = created;
+    }
+
+    public MeasureStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(MeasureStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test20;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.TableManager;
+import org.norm4j.dialects.MariaDBBulkLoader;
+import org.norm4j.dialects.MariaDBDialect;
+import org.norm4j.dialects.OracleBulkLoader;
+import org.norm4j.dialects.OracleDialect;
+import org.norm4j.dialects.PostgreSQLBulkLoader;
+import org.norm4j.dialects.PostgreSQLDialect;
+import org.norm4j.dialects.SQLServerBulkLoader;
+import org.norm4j.dialects.SQLServerDialect;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test20 extends BaseTest {
+    private TableManager tableManager;
+
+    public Test20() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        MetadataManager metadataManager;
+
+        dropTable("measure");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(Measure.class);
+
+        metadataManager.createTables(getDataSource());
+
+        tableManager = new TableManager(getDataSource(), metadataManager);
+    }
+
+    @Test
+    public void test20PostgreSQL() {
+        List<Measure> measures;
+        long count;
+
+        if (!(getDialect() instanceof PostgreSQLDialect)) {
+            return;
+        }
+
+        count = new PostgreSQLBulkLoader(tableManager)
+                .load(Measure.class, createMeasures(1000));
+
+        assertEquals(1000, count);
+
+        measures = tableManager.createSelectQueryBuilder()
+                .select()
+                .from(Measure.class)
+                .where(Measure::getName, "=", "Measure 10")
+                .getResultList(Measure.class);
+
+        assertEquals(1, measures.size());
+        assertEquals(10, measures.get(0).getQuantity());
+        assertEquals(0, new BigDecimal("10.25").compareTo(measures.get(0).getAmount()));
+        assertEquals(MeasureStatus.Final, measures.get(0).getStatus());
+    }
+
+    @Test
+    public void test20PostgreSQLArrays() {
+        TableManager arrayTableManager;
+        MetadataManager metadataManager;
+        List<Feature> features;
+        Feature feature;
+        UUID reference;
+        long count;
+
+        if (!(getDialect() instanceof PostgreSQLDialect)) {
+            return;
+        }
+
+        dropTable("feature");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(Feature.class);
+
+        metadataManager.createTables(getDataSource());
+
+        arrayTableManager = new TableManager(getDataSource(), metadataManager);
+
+        reference = UUID.randomUUID();
+
+        count = new PostgreSQLBulkLoader(arrayTableManager)
+                .load(Feature.class, IntStream.range(0, 100)
+                        .mapToObj(i -> {
+                            Feature newFeature;
+
+                            newFeature = new Feature();
+
+                            newFeature.setName("Feature " + i);
+                            newFeature.setCounts(new int[] { i, i + 1, -i });
+                            newFeature.setReferences(new UUID[] { reference, null });
+                            newFeature.setEmbedding(new float[] { i, 0.5f, -1.25f });
+
+                            return newFeature;
+                        }));
+
+        assertEquals(100, count);
+
+        features = arrayTableManager.createSelectQueryBuilder()
+                .select()
+                .from(Feature.class)
+                .where(Feature::getName, "=", "Feature 7")
+                .getResultList(Feature.class);
+
+        assertEquals(1, features.size());
+
+        feature = features.get(0);
+
+        assertArrayEquals(new int[] { 7, 8, -7 }, feature.getCounts());
+        assertArrayEquals(new UUID[] { reference, null }, feature.getReferences());
+        assertArrayEquals(new float[] { 7, 0.5f, -1.25f }, feature.getEmbedding());
+
+        dropTable("feature");
+    }
+
+    @Test
+    public void test20SQLServer() {
+        List<Measure> measures;
+        long count;
+
+        if (!(getDialect() instanceof SQLServerDialect)) {
+            return;
+        }
+
+        count = new SQLServerBulkLoader(tableManager)
+                .setBatchSize(250)
+                .setTableLock(true)
+                .setCheckConstraints(true)
+                .load(Measure.class, createMeasures(1000));
+
+        assertEquals(1000, count);
+
+        measures = tableManager.createSelectQueryBuilder()
+                .select()
+                .from(Measure.class)
+                .where(Measure::getName, "=", "Measure 10")
+                .getResultList(Measure.class);
+
+        assertEquals(1, measures.size());
+        assertEquals(10, measures.get(0).getQuantity());
+        assertEquals(MeasureStatus.Final, measures.get(0).getStatus());
+    }
+
+    @Test
+    public void test20MariaDB() {
+        List<Measure> measures;
+        long count;
+
+        if (!(getDialect() instanceof MariaDBDialect)) {
+            return;
+        }
+
+        count = new MariaDBBulkLoader(tableManager)
+                .load(Measure.class, createMeasures(1000));
+
+        assertEquals(1000, count);
+
+        measures = tableManager.createSelectQueryBuilder()
+                .select()
+                .from(Measure.class)
+                .where(Measure::getName, "=", "Measure 10")
+                .getResultList(Measure.class);
+
+        assertEquals(1, measures.size());
+        assertEquals(10, measures.get(0).getQuantity());
+        assertEquals(MeasureStatus.Final, measures.get(0).getStatus());
+    }
+
+    @Test
+    public void test20Oracle() {
+        long count;
+
+        if (!(getDialect() instanceof OracleDialect)) {
+            return;
+        }
+
+        count = new OracleBulkLoader(tableManager)
+                .setBatchSize(100)
+                .setAppendValues(true)
+                .load(Measure.class, createMeasures(1000));
+
+        assertEquals(1000, count);
+
+        assertEquals(1000, tableManager.createSelectQueryBuilder()
+                .select()
+                .from(Measure.class)
+                .getResultList(Measure.class)
+                .size());
+    }
+
+    @Test
+    public void test20OracleSequence() {
+        TableManager sequenceTableManager;
+        MetadataManager metadataManager;
+        List<Sample> samples;
+        long count;
+
+        if (!(getDialect() instanceof OracleDialect)) {
+            return;
+        }
+
+        dropTable("sample");
+        dropSequence(null, "sample_id_seq");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(Sample.class);
+
+        metadataManager.createTables(getDataSource());
+
+        sequenceTableManager = new TableManager(getDataSource(), metadataManager);
+
+        samples = IntStream.range(0, 250)
+                .mapToObj(i -> new Sample("Sample " + i))
+                .toList();
+
+        count = new OracleBulkLoader(sequenceTableManager)
+                .setBatchSize(100)
+                .setAppendValues(true)
+                .load(Sample.class, samples.stream());
+
+        assertEquals(250, count);
+        assertEquals(250, samples.stream()
+                .mapToLong(Sample::getId)
+                .filter(id -> id > 0)
+                .distinct()
+                .count());
+        assertEquals("Sample 42", sequenceTableManager.find(Sample.class, samples.get(42).getId()).getName());
+        assertEquals("Sample 249", sequenceTableManager.find(Sample.class, samples.get(249).getId()).getName());
+
+        dropTable("sample");
+        dropSequence(null, "sample_id_seq");
+    }
+
+    @Test
+    public void test20OracleTransaction() throws SQLException {
+        if (!(getDialect() instanceof OracleDialect)) {
+            return;
+        }
+
+        try (Connection connection = getDataSource().getConnection()) {
+            connection.setAutoCommit(false);
+
+            assertThrows(IllegalStateException.class, () -> new OracleBulkLoader(tableManager)
+                    .setAppendValues(true)
+                    .load(connection, Measure.class, createMeasures(10).iterator()));
+
+            assertEquals(10, new OracleBulkLoader(tableManager)
+                    .load(connection, Measure.class, createMeasures(10).iterator()));
+
+            assertEquals(20, new OracleBulkLoader(tableManager)
+                    .load(connection, Measure.class, createMeasures(20).iterator()));
+
+            connection.commit();
+        }
+
+        assertEquals(30, tableManager.createSelectQueryBuilder()
+                .select()
+                .from(Measure.class)
+                .getResultList(Measure.class)
+                .size());
+    }
+
+    private Stream<Measure> createMeasures(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> {
+                    Measure measure;
+
+                    measure = new Measure();
+
+                    measure.setName("Measure " + i);
+                    measure.setQuantity(i);
+                    measure.setScore(i / 2.0);
+                    measure.setAmount(new BigDecimal(i).add(new BigDecimal("0.25")));
+                    measure.setCreated(new Date());
+                    measure.setStatus(i % 2 == 0 ? MeasureStatus.Final : MeasureStatus.Draft);
+
+                    return measure;
+                });
+    }
+
+    @AfterEach
+    void cleanup() {
+        dropTable("measure");
+    }
+}
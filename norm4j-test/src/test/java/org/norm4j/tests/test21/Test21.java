@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test21;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.TableManager;
+import org.norm4j.UpsertOptions;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test21 extends BaseTest {
+    private TableManager tableManager;
+
+    public Test21() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        MetadataManager metadataManager;
+
+        dropTable("setting");
+        dropTable("device");
+        dropTable("tag");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(Setting.class);
+        metadataManager.registerTable(Device.class);
+        metadataManager.registerTable(Tag.class);
+
+        metadataManager.createTables(getDataSource());
+
+        tableManager = new TableManager(getDataSource(), metadataManager);
+
+        tableManager.execute("CREATE UNIQUE INDEX tag_code ON tag (code)");
+    }
+
+    @Test
+    public void test21() {
+        Setting setting;
+
+        tableManager.upsert(new Setting("theme", "dark", 1));
+        tableManager.upsert(new Setting("theme", "light", 2));
+
+        setting = tableManager.find(Setting.class, "theme");
+
+        assertEquals("light", setting.getContent());
+        assertEquals(2, setting.getRevision());
+
+        tableManager.upsert(new Setting("theme", "blue", 3), new UpsertOptions()
+                .update(Setting::getRevision));
+
+        setting = tableManager.find(Setting.class, "theme");
+
+        assertEquals("light", setting.getContent());
+        assertEquals(3, setting.getRevision());
+
+        tableManager.upsert(new Setting("theme", "green", 4), new UpsertOptions()
+                .doNothing());
+
+        setting = tableManager.find(Setting.class, "theme");
+
+        assertEquals("light", setting.getContent());
+        assertEquals(3, setting.getRevision());
+
+        tableManager.upsertAll(Arrays.asList(new Setting("theme", "red", 5),
+                new Setting("locale", "en", 1),
+                new Setting("timezone", "UTC", 1)));
+
+        assertEquals("red", tableManager.find(Setting.class, "theme").getContent());
+        assertEquals("en", tableManager.find(Setting.class, "locale").getContent());
+        assertEquals("UTC", tableManager.find(Setting.class, "timezone").getContent());
+    }
+
+    @Test
+    public void test21GeneratedKey() {
+        assertThrows(IllegalArgumentException.class,
+                () -> tableManager.upsert(new Device("A-1")));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> tableManager.upsertAll(Arrays.asList(new Device("A-2"),
+                        new Device("A-3"))));
+
+        assertEquals(0, tableManager.createSelectQueryBuilder()
+                .select()
+                .from(Device.class)
+                .getResultList(Device.class)
+                .size());
+    }
+
+    @Test
+    public void test21NaturalKey() {
+        Tag first;
+        Tag second;
+        Tag third;
+
+        first = tableManager.upsert(new Tag("red", "Red"), new UpsertOptions()
+                .onConflict(Tag::getCode));
+
+        second = tableManager.upsert(new Tag("red", "Crimson"), new UpsertOptions()
+                .onConflict(Tag::getCode));
+
+        assertEquals(first.getId(), second.getId());
+        assertEquals("Crimson", tableManager.find(Tag.class, second.getId()).getLabel());
+
+        third = new Tag("blue", "Blue");
+
+        tableManager.upsertAll(Arrays.asList(new Tag("red", "Scarlet"), third), new UpsertOptions()
+                .onConflict(Tag::getCode));
+
+        assertEquals("Scarlet", tableManager.find(Tag.class, first.getId()).getLabel());
+        assertEquals("blue", tableManager.find(Tag.class, third.getId()).getCode());
+        assertEquals(2, tableManager.createSelectQueryBuilder()
+                .select()
+                .from(Tag.class)
+                .getResultList(Tag.class)
+                .size());
+    }
+
+    @AfterEach
+    void cleanup() {
+        dropTable("setting");
+        dropTable("device");
+        dropTable("tag");
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test22;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.Query;
+import org.norm4j.Session;
+import org.norm4j.StatementCache;
+import org.norm4j.TableManager;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test22 extends BaseTest {
+    private TableManager tableManager;
+
+    public Test22() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        MetadataManager metadataManager;
+
+        dropTable("note");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(Note.class);
+
+        metadataManager.createTables(getDataSource());
+
+        tableManager = new TableManager(getDataSource(), metadataManager)
+                .setStatementCacheSize(2);
+    }
+
+    @Test
+    public void test22() throws SQLException {
+        StatementCache statementCache;
+
+        statementCache = tableManager.getStatementCache();
+
+        for (int i = 1; i <= 5; i++) {
+            tableManager.persist(new Note(i, "Note " + i));
+        }
+
+        assertEquals(0, statementCache.getHitCount());
+        assertEquals(0, statementCache.getMissCount());
+
+        try (Session session = tableManager.openSession()) {
+            for (int i = 1; i <= 5; i++) {
+                session.merge(new Note(i, "Session " + i));
+            }
+
+            session.commit();
+        }
+
+        assertEquals(4, statementCache.getHitCount());
+        assertEquals(1, statementCache.getMissCount());
+
+        statementCache.resetCounts();
+
+        try (Connection connection = statementCache.wrap(getDataSource().getConnection())) {
+            for (int i = 1; i <= 5; i++) {
+                Query query;
+
+                query = tableManager.createQuery("UPDATE note SET content = ? WHERE id = ?");
+
+                query.setParameter(1, "Updated " + i);
+                query.setParameter(2, i);
+
+                assertEquals(1, query.executeUpdate(connection));
+            }
+
+            for (int i = 1; i <= 5; i++) {
+                List<Note> notes;
+                Query query;
+
+                query = tableManager.createQuery("SELECT * FROM note WHERE id = ?");
+
+                query.setParameter(1, i);
+
+                notes = query.getResultList(connection, Note.class);
+
+                assertEquals(1, notes.size());
+                assertEquals("Updated " + i, notes.get(0).getContent());
+            }
+
+            assertEquals(1, tableManager.createQuery("DELETE FROM note WHERE id = ?")
+                    .setParameter(1, 5)
+                    .executeUpdate(connection));
+
+            assertEquals(1, tableManager.createQuery("UPDATE note SET content = ? WHERE id = ?")
+                    .setParameter(1, "Note 1")
+                    .setParameter(2, 1)
+                    .executeUpdate(connection));
+        }
+
+        assertEquals(8, statementCache.getHitCount());
+        assertEquals(4, statementCache.getMissCount());
+        assertEquals(2, statementCache.getEvictionCount());
+        assertEquals(4, tableManager.createQuery("SELECT * FROM note")
+                .getResultList(Note.class).size());
+    }
+
+    @AfterEach
+    void cleanup() {
+        dropTable("note");
+    }
+}
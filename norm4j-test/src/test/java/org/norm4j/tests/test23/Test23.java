@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test23;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.TableManager;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test23 extends BaseTest {
+    private MetadataManager metadataManager;
+    private TableManager tableManager;
+
+    public Test23() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        dropTable("ticket");
+        dropTable("ticket_sequence");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(Ticket.class);
+
+        metadataManager.createTables(getDataSource());
+
+        tableManager = new TableManager(getDataSource(), metadataManager);
+    }
+
+    @Test
+    public void test23() throws Exception {
+        List<Future<?>> futures;
+        ExecutorService executor;
+        Set<Long> ids;
+        List<Ticket> tickets;
+
+        tickets = new ArrayList<>();
+
+        for (int i = 0; i < 25; i++) {
+            tickets.add(new Ticket("Ticket " + i));
+        }
+
+        tableManager.persistAll(tickets);
+
+        for (int i = 0; i < 25; i++) {
+            assertEquals(i + 1, tickets.get(i).getId());
+        }
+
+        tableManager.persist(new Ticket("Ticket 25"));
+
+        assertEquals(30L, ((Number) tableManager.createQuery("SELECT next_val FROM ticket_sequence")
+                .getSingleResult(Object.class)).longValue());
+
+        tableManager = new TableManager(getDataSource(), metadataManager);
+
+        ids = ConcurrentHashMap.newKeySet();
+
+        executor = Executors.newFixedThreadPool(4);
+
+        futures = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 20; j++) {
+                    Ticket ticket;
+
+                    ticket = new Ticket("Concurrent " + j);
+
+                    tableManager.persist(ticket);
+
+                    ids.add(ticket.getId());
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        executor.shutdown();
+
+        assertEquals(80, ids.size());
+        assertEquals(106, tableManager.createQuery("SELECT * FROM ticket")
+                .getResultList(Ticket.class).size());
+    }
+
+    @AfterEach
+    void cleanup() {
+        dropTable("ticket");
+        dropTable("ticket_sequence");
+    }
+}
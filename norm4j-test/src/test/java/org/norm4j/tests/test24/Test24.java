@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test24;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.TableManager;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test24 extends BaseTest {
+    private MetadataManager metadataManager;
+
+    public Test24() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        if (!isSequenceSupported()) {
+            return;
+        }
+
+        dropTable("invoice");
+        dropSequence(null, "invoice_id_seq");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(Invoice.class);
+
+        metadataManager.createTables(getDataSource());
+    }
+
+    @Test
+    public void test24() {
+        TableManager tableManager;
+        List<Invoice> invoices;
+        Invoice invoice;
+
+        if (!isSequenceSupported()) {
+            return;
+        }
+
+        tableManager = new TableManager(getDataSource(), metadataManager);
+
+        invoices = new ArrayList<>();
+
+        for (int i = 0; i < 12; i++) {
+            invoices.add(new Invoice("INV-" + i));
+        }
+
+        tableManager.persistAll(invoices);
+
+        for (int i = 0; i < 12; i++) {
+            assertEquals(i + 1, invoices.get(i).getId());
+        }
+
+        invoice = new Invoice("INV-12");
+
+        tableManager.persist(invoice);
+
+        assertEquals(13, invoice.getId());
+
+        tableManager = new TableManager(getDataSource(), metadataManager);
+
+        invoice = new Invoice("INV-13");
+
+        tableManager.persist(invoice);
+
+        assertEquals(16, invoice.getId());
+
+        assertEquals("INV-13", tableManager.find(Invoice.class, 16L).getNumber());
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (!isSequenceSupported()) {
+            return;
+        }
+
+        dropTable("invoice");
+        dropSequence(null, "invoice_id_seq");
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test25;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.SnowflakeIdGenerator;
+import org.norm4j.TableManager;
+import org.norm4j.UuidV7Generator;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test25 extends BaseTest {
+    private TableManager tableManager;
+
+    public Test25() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        MetadataManager metadataManager;
+
+        dropTable("event");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(Event.class);
+
+        metadataManager.createTables(getDataSource());
+
+        tableManager = new TableManager(getDataSource(), metadataManager)
+                .registerIdGenerator(new SnowflakeIdGenerator(42));
+    }
+
+    @Test
+    public void test25() {
+        UuidV7Generator uuidGenerator;
+        List<Event> events;
+        List<UUID> uuids;
+
+        events = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            events.add(new Event("Event " + i));
+        }
+
+        tableManager.persistAll(events);
+
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(42, (events.get(i).getId() >>> 12) & 1023);
+
+            if (i > 0) {
+                assertTrue(events.get(i).getId() > events.get(i - 1).getId());
+            }
+        }
+
+        assertEquals("Event 99", tableManager.find(Event.class,
+                events.get(99).getId()).getName());
+
+        uuidGenerator = new UuidV7Generator();
+
+        uuids = uuidGenerator.generate(5000);
+
+        uuids.add(uuidGenerator.generate());
+
+        for (int i = 0; i < uuids.size(); i++) {
+            assertEquals(7, uuids.get(i).version());
+            assertEquals(2, uuids.get(i).variant());
+
+            if (i > 0) {
+                assertTrue(uuids.get(i).getMostSignificantBits() > uuids.get(i - 1)
+                        .getMostSignificantBits());
+            }
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        dropTable("event");
+    }
+}
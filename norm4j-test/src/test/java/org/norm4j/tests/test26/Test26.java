@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test26;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.TableManager;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test26 extends BaseTest {
+    private TableManager tableManager;
+
+    public Test26() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        MetadataManager metadataManager;
+
+        dropTable("account");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(Account.class);
+
+        metadataManager.createTables(getDataSource());
+
+        tableManager = new TableManager(getDataSource(), metadataManager);
+    }
+
+    @Test
+    public void test26() {
+        Account alice;
+        Account bob;
+        Account carol;
+
+        alice = new Account("Alice", 100);
+        bob = new Account("Bob", 50);
+
+        tableManager.inTransaction(session -> {
+            session.persist(alice);
+            session.persist(bob);
+
+            alice.setBalance(alice.getBalance() - 30);
+            bob.setBalance(bob.getBalance() + 30);
+
+            session.merge(alice);
+            session.merge(bob);
+        });
+
+        assertEquals(70, tableManager.find(Account.class, alice.getId()).getBalance());
+        assertEquals(80, tableManager.find(Account.class, bob.getId()).getBalance());
+
+        carol = new Account("Carol", 10);
+
+        assertThrows(IllegalStateException.class, () -> tableManager.inTransaction(session -> {
+            session.persist(carol);
+
+            session.remove(Account.class, alice.getId());
+
+            throw new IllegalStateException("Abort");
+        }));
+
+        assertNull(tableManager.find(Account.class, carol.getId()));
+        assertEquals(70, tableManager.find(Account.class, alice.getId()).getBalance());
+
+        assertEquals(80, (long) tableManager.callInTransaction(session -> session
+                .find(Account.class, bob.getId()).getBalance()));
+    }
+
+    @AfterEach
+    void cleanup() {
+        dropTable("account");
+    }
+}
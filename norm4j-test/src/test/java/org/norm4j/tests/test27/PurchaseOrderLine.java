@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test27;
+
+import org.norm4j.Column;
+import org.norm4j.GeneratedValue;
+import org.norm4j.GenerationType;
+import org.norm4j.Id;
+import org.norm4j.Join;
+import org.norm4j.Reference;
+import org.norm4j.SnowflakeIdGenerator;
+import org.norm4j.Table;
+
+@Table(name = "purchaseorderline")
+@Join(columns = "order_id", reference = @Reference(table = PurchaseOrder.class, columns = "id"))
+public class PurchaseOrderLine {
+    @Id
+    @GeneratedValue(strategy = GenerationType.CUSTOM, generator = SnowflakeIdGenerator.class)
+    private long id;
+
+    @Column(name = "order_id", nullable = false)
+    private long orderId;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    public PurchaseOrderLine() {
+    }
+
+    public PurchaseOrderLine(long orderId, int quantity) {
+        this.orderId = orderId;
+        this.quantity = quantity;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(long orderId) {
+        this.orderId = orderId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test27;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.FlushMode;
+import org.norm4j.SnowflakeIdGenerator;
+import org.norm4j.TableManager;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test27 extends BaseTest {
+    private TableManager tableManager;
+
+    public Test27() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        MetadataManager metadataManager;
+
+        dropTable("purchaseorderline");
+        dropTable("purchaseorder");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(PurchaseOrder.class);
+        metadataManager.registerTable(PurchaseOrderLine.class);
+
+        metadataManager.createTables(getDataSource());
+
+        tableManager = new TableManager(getDataSource(), metadataManager)
+                .registerIdGenerator(new SnowflakeIdGenerator(1))
+                .setFlushMode(FlushMode.COMMIT);
+    }
+
+    @Test
+    public void test27() {
+        List<PurchaseOrderLine> lines;
+        PurchaseOrder order;
+
+        order = new PurchaseOrder("Alice");
+
+        lines = new ArrayList<>();
+
+        tableManager.inTransaction(session -> {
+            session.persist(order);
+
+            for (int i = 0; i < 20; i++) {
+                PurchaseOrderLine line;
+
+                line = new PurchaseOrderLine(order.getId(), i + 1);
+
+                lines.add(line);
+            }
+
+            session.persistAll(lines.subList(10, 20));
+            session.persistAll(lines.subList(0, 10));
+
+            for (PurchaseOrderLine line : lines) {
+                line.setQuantity(line.getQuantity() * 2);
+
+                session.merge(line);
+            }
+
+            session.remove(lines.get(0));
+
+            order.setStatus("SUBMITTED");
+
+            session.merge(order);
+        });
+
+        assertEquals("SUBMITTED", tableManager.find(PurchaseOrder.class, order.getId()).getStatus());
+        assertNull(tableManager.find(PurchaseOrderLine.class, lines.get(0).getId()));
+        assertEquals(40, tableManager.find(PurchaseOrderLine.class, lines.get(19).getId()).getQuantity());
+        assertEquals(19, tableManager.joinMany(order, PurchaseOrderLine.class).size());
+
+        tableManager.inTransaction(session -> {
+            order.setStatus("CANCELLED");
+
+            session.merge(order);
+
+            for (int i = 1; i < lines.size(); i++) {
+                session.remove(PurchaseOrderLine.class, lines.get(i).getId());
+            }
+
+            assertEquals(0, session.joinMany(order, PurchaseOrderLine.class).size());
+
+            session.remove(order);
+        });
+
+        assertNull(tableManager.find(PurchaseOrder.class, order.getId()));
+    }
+
+    @AfterEach
+    void cleanup() {
+        dropTable("purchaseorderline");
+        dropTable("purchaseorder");
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test28;
+
+import org.norm4j.Column;
+import org.norm4j.GeneratedValue;
+import org.norm4j.GenerationType;
+import org.norm4j.Id;
+import org.norm4j.Join;
+import org.norm4j.Reference;
+import org.norm4j.SnowflakeIdGenerator;
+import org.norm4j.Table;
+
+@Table(name = "reading")
+@Join(columns = "sensor_id", reference = @Reference(table = Sensor.class, columns = "id"))
+public class Reading {
+    @Id
+    @GeneratedValue(strategy = GenerationType.CUSTOM, generator = SnowflakeIdGenerator.class)
+    private long id;
+
+    @Column(name = "sensor_id", nullable = false)
+    private int sensorId;
+
+    @Column(name = "reading_value", nullable = false)
+    private double value;
+
+    public Reading() {
+    }
+
+    public Reading(int sensorId, double value) {
+        this.sensorId = sensorId;
+        this.value = value;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public int getSensorId() {
+        return sensorId;
+    }
+
+    public void setSensorId(int sensorId) {
+        this.sensorId = sensorId;
+    }
+
+    public double getValue() {
+        return value;
+    }
+
+    public void setValue(double value) {
+        this.value = value;
+    }
+}
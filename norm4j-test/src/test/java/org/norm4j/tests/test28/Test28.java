@@ -0,0 +1,191 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test28;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.SnowflakeIdGenerator;
+import org.norm4j.TableManager;
+import org.norm4j.WriteBehindQueue;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test28 extends BaseTest {
+    private TableManager tableManager;
+
+    public Test28() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        MetadataManager metadataManager;
+
+        dropTable("reading");
+        dropTable("sensor");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(Sensor.class);
+        metadataManager.registerTable(Reading.class);
+
+        metadataManager.createTables(getDataSource());
+
+        tableManager = new TableManager(getDataSource(), metadataManager)
+                .registerIdGenerator(new SnowflakeIdGenerator(3));
+    }
+
+    @Test
+    public void test28() {
+        List<Sensor> sensors;
+
+        sensors = new ArrayList<>();
+
+        for (int i = 1; i <= 10; i++) {
+            sensors.add(new Sensor(i, 0));
+        }
+
+        tableManager.persistAll(sensors);
+
+        try (WriteBehindQueue queue = tableManager.createWriteBehindQueue(100, 50, 100)) {
+            for (int i = 0; i < 1000; i++) {
+                int sensorId;
+
+                sensorId = (i % 10) + 1;
+
+                queue.persist(new Reading(sensorId, i));
+
+                queue.merge(new Sensor(sensorId, i));
+            }
+
+            queue.flush();
+
+            assertEquals(0, queue.getQueueDepth());
+            assertEquals(2000, queue.getSubmittedCount());
+            assertEquals(2000, queue.getFlushedCount() + queue.getCoalescedCount());
+            assertEquals(0, queue.getFailedCount());
+
+            queue.merge(new Sensor(1, -1));
+        }
+
+        assertEquals(-1, tableManager.find(Sensor.class, 1).getLastValue());
+        assertEquals(999, tableManager.find(Sensor.class, 10).getLastValue());
+        assertEquals(1000, tableManager.createQuery("select count(*) from reading")
+                .getSingleResult(Number.class).intValue());
+    }
+
+    @Test
+    public void test28Failure() {
+        List<Object> failedRecords;
+        Reading reading;
+        long readingId;
+
+        failedRecords = new ArrayList<>();
+
+        tableManager.persist(new Sensor(1, 0));
+        tableManager.persist(new Sensor(2, 0));
+
+        reading = new Reading(2, 1.5);
+
+        try (WriteBehindQueue queue = tableManager.createWriteBehindQueue(100, 50, 60000)
+                .setMaxRetries(2)
+                .setFailureHandler((records, e) -> failedRecords.addAll(records))) {
+            queue.persist(new Sensor(1, 1));
+
+            queue.persist(reading);
+
+            readingId = reading.getId();
+
+            assertNotEquals(0, readingId);
+
+            queue.flush();
+
+            assertEquals(1, queue.getQueueDepth());
+            assertEquals(1, queue.getFailedFlushCount());
+            assertEquals(1, queue.getFailedCount());
+            assertEquals(1, queue.getFlushedCount());
+            assertNotNull(queue.getLastFailure());
+            assertTrue(failedRecords.isEmpty());
+            assertEquals(readingId, reading.getId());
+
+            queue.merge(new Sensor(2, 2));
+
+            queue.flush();
+
+            assertEquals(0, queue.getQueueDepth());
+            assertEquals(2, queue.getFailedFlushCount());
+            assertEquals(1, failedRecords.size());
+            assertEquals(1, ((Sensor) failedRecords.get(0)).getId());
+        }
+
+        assertEquals(0, tableManager.find(Sensor.class, 1).getLastValue());
+        assertEquals(2, tableManager.find(Sensor.class, 2).getLastValue());
+        assertEquals(1.5, tableManager.find(Reading.class, readingId).getValue());
+    }
+
+    @Test
+    public void test28Close() {
+        List<Object> failedRecords;
+        WriteBehindQueue queue;
+
+        failedRecords = new ArrayList<>();
+
+        tableManager.persist(new Sensor(1, 0));
+
+        queue = tableManager.createWriteBehindQueue(100, 50, 10)
+                .setMaxRetries(3);
+
+        queue.persist(new Sensor(1, 1));
+
+        assertThrows(IllegalStateException.class, queue::close);
+
+        assertEquals(1, queue.getQueueDepth());
+
+        queue = tableManager.createWriteBehindQueue(100, 50, 10)
+                .setMaxRetries(3)
+                .setFailureHandler((records, e) -> failedRecords.addAll(records));
+
+        queue.persist(new Sensor(1, 1));
+
+        queue.merge(new Sensor(1, 3));
+
+        queue.close();
+
+        assertEquals(0, queue.getQueueDepth());
+        assertEquals(1, failedRecords.size());
+        assertEquals(3, tableManager.find(Sensor.class, 1).getLastValue());
+    }
+
+    @AfterEach
+    void cleanup() {
+        dropTable("reading");
+        dropTable("sensor");
+    }
+}
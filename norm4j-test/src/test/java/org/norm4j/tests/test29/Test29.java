@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test29;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.HotCounter;
+import org.norm4j.TableManager;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test29 extends BaseTest {
+    private TableManager tableManager;
+
+    public Test29() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        MetadataManager metadataManager;
+
+        dropTable("pagecounter");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(PageCounter.class);
+
+        metadataManager.createTables(getDataSource());
+
+        tableManager = new TableManager(getDataSource(), metadataManager);
+    }
+
+    @Test
+    public void test29() throws InterruptedException {
+        List<PageCounter> counters;
+        List<Thread> threads;
+
+        counters = new ArrayList<>();
+
+        for (int i = 1; i <= 5; i++) {
+            counters.add(new PageCounter(i));
+        }
+
+        tableManager.persistAll(counters);
+
+        threads = new ArrayList<>();
+
+        try (HotCounter hits = tableManager.createHotCounter(PageCounter::getHits, 50)) {
+            for (int t = 0; t < 8; t++) {
+                Thread thread;
+
+                thread = new Thread(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        hits.increment((i % 5) + 1);
+                    }
+                });
+
+                thread.start();
+
+                threads.add(thread);
+            }
+
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            hits.add(1, 10);
+        }
+
+        assertEquals(1610, tableManager.find(PageCounter.class, 1).getHits());
+
+        for (int i = 2; i <= 5; i++) {
+            assertEquals(1600, tableManager.find(PageCounter.class, i).getHits());
+        }
+    }
+
+    @Test
+    public void test29IdleKeys() {
+        tableManager.persist(new PageCounter(1));
+
+        try (HotCounter hits = tableManager.createHotCounter(PageCounter::getHits, 60000)) {
+            hits.increment(1);
+
+            hits.flush();
+
+            assertEquals(1, hits.getKeyCount());
+
+            hits.flush();
+
+            assertEquals(0, hits.getKeyCount());
+
+            hits.increment(1);
+
+            hits.flush();
+        }
+
+        assertEquals(2, tableManager.find(PageCounter.class, 1).getHits());
+    }
+
+    @AfterEach
+    void cleanup() {
+        dropTable("pagecounter");
+    }
+}
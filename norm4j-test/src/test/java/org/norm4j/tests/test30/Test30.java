@@ -0,0 +1,203 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test30;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.FlushMode;
+import org.norm4j.Session;
+import org.norm4j.TableManager;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test30 extends BaseTest {
+    private TableManager tableManager;
+
+    public Test30() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        MetadataManager metadataManager;
+
+        dropTable("article");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(Article.class);
+
+        metadataManager.createTables(getDataSource());
+
+        tableManager = new TableManager(getDataSource(), metadataManager)
+                .setChangeTracking(true);
+    }
+
+    @Test
+    public void test30() {
+        List<Article> articles;
+        Article article;
+        Article loaded;
+
+        article = new Article("Title", "Summary");
+
+        tableManager.persist(article);
+
+        loaded = tableManager.find(Article.class, article.getId());
+
+        tableManager.createUpdateQueryBuilder()
+                .update(Article.class)
+                .set(Article::getViews, 42)
+                .where(Article::getId, "=", article.getId())
+                .executeUpdate();
+
+        tableManager.merge(loaded);
+
+        assertEquals(42, tableManager.find(Article.class, article.getId()).getViews());
+
+        loaded.setTitle("New title");
+
+        tableManager.merge(loaded);
+
+        loaded = tableManager.find(Article.class, article.getId());
+
+        assertEquals("New title", loaded.getTitle());
+        assertEquals("Summary", loaded.getSummary());
+        assertEquals(42, loaded.getViews());
+
+        articles = tableManager.createSelectQueryBuilder()
+                .select()
+                .from(Article.class)
+                .getResultList(Article.class);
+
+        tableManager.createUpdateQueryBuilder()
+                .update(Article.class)
+                .set(Article::getViews, 43)
+                .where(Article::getId, "=", article.getId())
+                .executeUpdate();
+
+        articles.get(0).setSummary("New summary");
+
+        tableManager.mergeAll(articles);
+
+        loaded = tableManager.find(Article.class, article.getId());
+
+        assertEquals("New summary", loaded.getSummary());
+        assertEquals(43, loaded.getViews());
+    }
+
+    @Test
+    public void test30Rollback() {
+        Article article;
+        Article loaded;
+
+        article = new Article("Title", "Summary");
+
+        tableManager.persist(article);
+
+        try (Session session = tableManager.openSession()) {
+            article.setTitle("New title");
+
+            session.setFlushMode(FlushMode.IMMEDIATE);
+
+            session.merge(article);
+
+            session.rollback();
+        }
+
+        assertEquals("Title", tableManager.find(Article.class, article.getId()).getTitle());
+
+        tableManager.merge(article);
+
+        loaded = tableManager.find(Article.class, article.getId());
+
+        assertEquals("New title", loaded.getTitle());
+        assertEquals("Summary", loaded.getSummary());
+
+        tableManager.inTransaction(session -> {
+            session.setFlushMode(FlushMode.IMMEDIATE);
+
+            article.setSummary("New summary");
+
+            session.merge(article);
+        });
+
+        tableManager.createUpdateQueryBuilder()
+                .update(Article.class)
+                .set(Article::getViews, 7)
+                .where(Article::getId, "=", article.getId())
+                .executeUpdate();
+
+        article.setTitle("Last title");
+
+        tableManager.merge(article);
+
+        loaded = tableManager.find(Article.class, article.getId());
+
+        assertEquals("Last title", loaded.getTitle());
+        assertEquals("New summary", loaded.getSummary());
+        assertEquals(7, loaded.getViews());
+    }
+
+    @Test
+    public void test30Stream() {
+        List<Article> articles;
+        Article article;
+        Article loaded;
+
+        article = new Article("Title", "Summary");
+
+        tableManager.persist(article);
+
+        try (Stream<Article> stream = tableManager.createSelectQueryBuilder()
+                .select()
+                .from(Article.class)
+                .stream(Article.class)) {
+            articles = stream.collect(Collectors.toList());
+        }
+
+        tableManager.createUpdateQueryBuilder()
+                .update(Article.class)
+                .set(Article::getViews, 11)
+                .where(Article::getId, "=", article.getId())
+                .executeUpdate();
+
+        articles.get(0).setTitle("New title");
+
+        tableManager.merge(articles.get(0));
+
+        loaded = tableManager.find(Article.class, article.getId());
+
+        assertEquals("New title", loaded.getTitle());
+        assertEquals(11, loaded.getViews());
+    }
+
+    @AfterEach
+    void cleanup() {
+        dropTable("article");
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test31;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.TableManager;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test31 extends BaseTest {
+    private TableManager tableManager;
+
+    public Test31() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        MetadataManager metadataManager;
+
+        dropTable("logentry");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(LogEntry.class);
+
+        metadataManager.createTables(getDataSource());
+
+        tableManager = new TableManager(getDataSource(), metadataManager);
+    }
+
+    @Test
+    public void test31() {
+        List<LogEntry> entries;
+        AtomicInteger count;
+        long sum;
+
+        entries = new ArrayList<>();
+
+        for (int i = 1; i <= 5000; i++) {
+            entries.add(new LogEntry(i, "Message " + i));
+        }
+
+        tableManager.persistAll(entries);
+
+        try (Stream<LogEntry> stream = tableManager.createSelectQueryBuilder()
+                .select()
+                .from(LogEntry.class)
+                .orderBy(LogEntry::getId)
+                .fetchSize(100)
+                .stream(LogEntry.class)) {
+            sum = stream.mapToLong(LogEntry::getId).sum();
+        }
+
+        assertEquals(5000L * 5001L / 2, sum);
+
+        count = new AtomicInteger();
+
+        tableManager.createSelectQueryBuilder()
+                .select()
+                .from(LogEntry.class)
+                .where(LogEntry::getId, ">", 4000)
+                .forEach(LogEntry.class, entry -> count.incrementAndGet());
+
+        assertEquals(1000, count.get());
+
+        try (Stream<Object[]> stream = tableManager.createQuery("select id, message from logentry where id <= 10")
+                .setFetchSize(3)
+                .stream()) {
+            assertEquals(10, stream.filter(row -> ((String) row[1]).startsWith("Message")).count());
+        }
+
+        try (Stream<LogEntry> stream = tableManager.createSelectQueryBuilder()
+                .select()
+                .from(LogEntry.class)
+                .stream(LogEntry.class)) {
+            assertEquals(5, stream.limit(5).count());
+        }
+
+        assertEquals(5000, tableManager.createSelectQueryBuilder()
+                .select()
+                .from(LogEntry.class)
+                .getResultList(LogEntry.class)
+                .size());
+    }
+
+    @AfterEach
+    void cleanup() {
+        dropTable("logentry");
+    }
+}
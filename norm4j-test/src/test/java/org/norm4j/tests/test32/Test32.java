@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.SelectQueryBuilder;
+import org.norm4j.TableManager;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test32 extends BaseTest {
+    private TableManager tableManager;
+
+    public Test32() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        MetadataManager metadataManager;
+
+        dropTable("event");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(Event.class);
+
+        metadataManager.createTables(getDataSource());
+
+        tableManager = new TableManager(getDataSource(), metadataManager);
+    }
+
+    @Test
+    public void test32() {
+        SelectQueryBuilder builder;
+        List<Event> events;
+        List<Event> page;
+        List<Integer> ids;
+        String cursorToken;
+
+        events = new ArrayList<>();
+
+        for (int i = 1; i <= 100; i++) {
+            events.add(new Event(i, i % 7));
+        }
+
+        tableManager.persistAll(events);
+
+        ids = new ArrayList<>();
+
+        cursorToken = null;
+
+        do {
+            builder = tableManager.createSelectQueryBuilder()
+                    .select()
+                    .from(Event.class)
+                    .orderBy(Event::getPriority)
+                    .orderBy(Event::getId)
+                    .seekAfter(cursorToken)
+                    .limit(15);
+
+            page = builder.getResultList(Event.class);
+
+            for (Event event : page) {
+                ids.add(event.getId());
+            }
+
+            if (!page.isEmpty()) {
+                cursorToken = builder.getCursorToken(page.get(page.size() - 1));
+            }
+        } while (page.size() == 15);
+
+        assertEquals(100, ids.size());
+        assertEquals(100, ids.stream().distinct().count());
+
+        page = tableManager.createSelectQueryBuilder()
+                .select()
+                .from(Event.class)
+                .orderByDesc(Event::getPriority)
+                .orderBy(Event::getId)
+                .after(3, 50)
+                .getResultList(Event.class);
+
+        for (Event event : page) {
+            assertTrue(event.getPriority() < 3
+                    || (event.getPriority() == 3 && event.getId() > 50));
+        }
+
+        assertEquals(events.stream()
+                .filter(e -> e.getPriority() < 3 || (e.getPriority() == 3 && e.getId() > 50))
+                .count(), page.size());
+    }
+
+    @Test
+    public void test32CursorToken() {
+        List<Event> events;
+        String cursorToken;
+
+        events = new ArrayList<>();
+
+        for (int i = 1; i <= 100; i++) {
+            events.add(new Event(i, i % 7));
+        }
+
+        tableManager.persistAll(events);
+
+        cursorToken = tableManager.createSelectQueryBuilder()
+                .orderBy(Event::getPriority)
+                .orderBy(Event::getId)
+                .getCursorToken(new Event(42, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> tableManager.createSelectQueryBuilder()
+                .select()
+                .from(Event.class)
+                .orderBy(Event::getId)
+                .seekAfter(cursorToken));
+
+        assertThrows(IllegalArgumentException.class, () -> tableManager.createSelectQueryBuilder()
+                .select()
+                .from(Event.class)
+                .orderBy(Event::getPriority)
+                .orderBy(Event::getId)
+                .seekAfter("rO0ABXNyABNqYXZhLnV0aWwuQXJyYXlMaXN0"));
+
+        assertThrows(RuntimeException.class, () -> tableManager.createSelectQueryBuilder()
+                .select()
+                .from(Event.class)
+                .orderBy(Event::getPriority)
+                .seekAfter(new Event(42, 0)));
+
+        assertEquals(List.of(49, 56), tableManager.createSelectQueryBuilder()
+                .select()
+                .from(Event.class)
+                .orderBy(Event::getPriority)
+                .orderBy(Event::getId)
+                .seekAfter(cursorToken)
+                .limit(2)
+                .getResultList(Event.class)
+                .stream()
+                .map(Event::getId)
+                .toList());
+    }
+
+    @AfterEach
+    void cleanup() {
+        dropTable("event");
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test33;
+
+import org.norm4j.Column;
+import org.norm4j.Creator;
+import org.norm4j.Id;
+import org.norm4j.Join;
+import org.norm4j.Reference;
+import org.norm4j.Table;
+
+@Table(name = "city")
+@Join(columns = "country_code", reference = @Reference(table = Country.class, columns = "code"))
+public class City {
+    @Id
+    private final int id;
+
+    @Column(nullable = false)
+    private final String name;
+
+    @Column(name = "country_code", nullable = false)
+    private final String countryCode;
+
+    @Creator
+    public City(int id, String name, String countryCode) {
+        this.id = id;
+        this.name = name;
+        this.countryCode = countryCode;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test33;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.TableManager;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test33 extends BaseTest {
+    private TableManager tableManager;
+
+    public Test33() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        MetadataManager metadataManager;
+
+        dropTable("city");
+        dropTable("country");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(Country.class);
+        metadataManager.registerTable(City.class);
+
+        metadataManager.createTables(getDataSource());
+
+        tableManager = new TableManager(getDataSource(), metadataManager);
+    }
+
+    @Test
+    public void test33() {
+        List<Object[]> rows;
+        List<Country> countries;
+        Country country;
+        City city;
+
+        tableManager.persist(new Country("CA", "Canada", 40000000L));
+        tableManager.persist(new Country("FR", "France", 68000000L));
+
+        tableManager.persist(new City(1, "Montreal", "CA"));
+        tableManager.persist(new City(2, "Paris", "FR"));
+
+        country = tableManager.find(Country.class, "CA");
+
+        assertNotNull(country);
+        assertEquals(new Country("CA", "Canada", 40000000L), country);
+
+        city = tableManager.find(City.class, 2);
+
+        assertNotNull(city);
+        assertEquals("Paris", city.getName());
+        assertEquals("FR", city.getCountryCode());
+
+        countries = tableManager.createSelectQueryBuilder()
+                .select()
+                .from(Country.class)
+                .orderBy(Country::code)
+                .getResultList(Country.class);
+
+        assertEquals(2, countries.size());
+        assertEquals("France", countries.get(1).name());
+        assertEquals(68000000L, countries.get(1).population());
+
+        tableManager.merge(new Country("FR", "France", 68400000L));
+
+        assertEquals(68400000L, tableManager.find(Country.class, "FR").population());
+
+        rows = tableManager.createSelectQueryBuilder()
+                .select(City.class)
+                .select(Country.class)
+                .from(City.class)
+                .innerJoin(Country.class)
+                .orderBy(City::getId)
+                .getResultList(City.class, Country.class);
+
+        assertEquals(2, rows.size());
+        assertEquals("Montreal", ((City) rows.get(0)[0]).getName());
+        assertEquals("Canada", ((Country) rows.get(0)[1]).name());
+    }
+
+    @Test
+    public void test33GeneratedValue() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new MetadataManager().registerTable(Region.class));
+    }
+
+    @AfterEach
+    void cleanup() {
+        dropTable("city");
+        dropTable("country");
+    }
+}
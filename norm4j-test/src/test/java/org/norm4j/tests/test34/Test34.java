@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test34;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.ResultColumns;
+import org.norm4j.TableManager;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test34 extends BaseTest {
+    private TableManager tableManager;
+
+    public Test34() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        MetadataManager metadataManager;
+
+        dropTable("sale");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(Sale.class);
+
+        metadataManager.createTables(getDataSource());
+
+        tableManager = new TableManager(getDataSource(), metadataManager);
+    }
+
+    @Test
+    public void test34() {
+        ResultColumns columns;
+        List<Sale> sales;
+        String[] regions;
+        double total;
+        long quantity;
+
+        regions = new String[] { "North", "South", "East", "West" };
+
+        sales = new ArrayList<>();
+
+        for (int i = 1; i <= 3000; i++) {
+            sales.add(new Sale(i, regions[i % 4], i % 10, i * 0.5, i % 3 == 0 ? null : (long) i));
+        }
+
+        tableManager.persistAll(sales);
+
+        columns = tableManager.createSelectQueryBuilder()
+                .select(Sale::getId)
+                .select(Sale::getRegion)
+                .select(Sale::getQuantity)
+                .select(Sale::getAmount)
+                .select(Sale::getDiscount)
+                .from(Sale.class)
+                .orderBy(Sale::getId)
+                .getColumns(int.class, String.class, int.class, double.class, long.class);
+
+        assertEquals(3000, columns.size());
+        assertEquals(5, columns.getColumnCount());
+        assertEquals(3000, columns.getInts(0).length);
+        assertEquals(4, columns.getDictionary(1).size());
+        assertEquals("South", columns.getString(0, 1));
+        assertEquals(columns.getStringCodes(1)[0], columns.getStringCodes(1)[4]);
+
+        quantity = 0;
+
+        for (int value : columns.getInts(2)) {
+            quantity += value;
+        }
+
+        assertEquals(sales.stream().mapToLong(Sale::getQuantity).sum(), quantity);
+
+        total = 0;
+
+        for (double value : columns.getDoubles(3)) {
+            total += value;
+        }
+
+        assertEquals(3000 * 3001 / 4.0, total, 0.001);
+
+        assertFalse(columns.isNull(0, 4));
+        assertEquals(1L, columns.getLong(0, 4));
+        assertTrue(columns.isNull(2, 4));
+        assertEquals(1000, columns.getNulls(4).cardinality());
+
+        columns = tableManager.createQuery("select region, count(*) from sale group by region order by region")
+                .getColumns(String.class, long.class);
+
+        assertEquals(4, columns.size());
+        assertEquals("East", columns.getString(0, 0));
+        assertEquals(750L, columns.getLong(0, 1));
+    }
+
+    @Test
+    public void test34Decimal() {
+        ResultColumns columns;
+
+        tableManager.persist(new Sale(1, "North", 1, 12.25, null));
+
+        columns = tableManager.createQuery("select cast(amount as decimal(20, 2)) from sale")
+                .getColumns();
+
+        assertEquals(BigDecimal.class, columns.getColumnType(0));
+        assertEquals(0, new BigDecimal("12.25").compareTo((BigDecimal) columns.getObject(0, 0)));
+
+        columns = tableManager.createQuery("select cast(amount as decimal(20, 2)) from sale")
+                .getColumns(double.class);
+
+        assertEquals(12.25, columns.getDouble(0, 0), 0.001);
+    }
+
+    @Test
+    public void test34Aggregate() {
+        ResultColumns columns;
+
+        for (int i = 1; i <= 10; i++) {
+            tableManager.persist(new Sale(i, i % 2 == 0 ? "North" : "South", i, i * 0.5, null));
+        }
+
+        columns = tableManager.createQuery("select region, count(*), sum(quantity) from sale group by region order by region")
+                .getColumns();
+
+        assertEquals(2, columns.size());
+        assertEquals("North", columns.getString(0, 0));
+        assertTrue(columns.getColumnType(1) == long.class || columns.getColumnType(1) == int.class);
+        assertEquals(5L, ((Number) columns.getObject(0, 1)).longValue());
+        assertEquals(30L, ((Number) columns.getObject(0, 2)).longValue());
+        assertEquals(25L, ((Number) columns.getObject(1, 2)).longValue());
+    }
+
+    @AfterEach
+    void cleanup() {
+        dropTable("sale");
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test35;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.TableManager;
+import org.norm4j.mappings.Projection;
+import org.norm4j.mappings.RecordMapper;
+import org.norm4j.mappings.RecordMapperBuilder;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test35 extends BaseTest {
+    private TableManager tableManager;
+
+    public Test35() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        MetadataManager metadataManager;
+
+        dropTable("product");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(Product.class);
+
+        metadataManager.createTables(getDataSource());
+
+        tableManager = new TableManager(getDataSource(), metadataManager);
+    }
+
+    @Test
+    public void test35() {
+        RecordMapper<Product, ProductDTO> mapper;
+        List<ProductSummary> summaries;
+        List<ProductDTO> products;
+        List<String> names;
+        UUID externalId;
+
+        externalId = UUID.randomUUID();
+
+        tableManager.persist(new Product(1, "Chair", externalId, "A chair", 49.5));
+        tableManager.persist(new Product(2, "Table", null, "A table", 120));
+
+        mapper = RecordMapperBuilder.from(Product.class, ProductDTO.class)
+                .map(Product::getName).to(ProductDTO::getTitle)
+                .build();
+
+        products = tableManager.createSelectQueryBuilder()
+                .from(Product.class)
+                .orderBy(Product::getId)
+                .project(Product.class, mapper);
+
+        assertEquals(2, products.size());
+        assertEquals(1, products.get(0).getId());
+        assertEquals("Chair", products.get(0).getTitle());
+        assertEquals(externalId.toString(), products.get(0).getExternalId());
+        assertNull(products.get(1).getExternalId());
+
+        summaries = tableManager.createSelectQueryBuilder()
+                .from(Product.class, "p")
+                .where(Product::getPrice, "p", ">", 100)
+                .project(Product.class, ProductSummary.class);
+
+        assertEquals(1, summaries.size());
+        assertEquals(new ProductSummary(2, "Table", 120), summaries.get(0));
+
+        names = tableManager.createSelectQueryBuilder()
+                .from(Product.class)
+                .orderBy(Product::getId)
+                .project(Product.class, RecordMapperBuilder.from(Product.class, String.class)
+                        .map(Product::getName).to(null)
+                        .build());
+
+        assertEquals(List.of("Chair", "Table"), names);
+    }
+
+    @Test
+    public void test35Projection() {
+        Projection<ProductSummary> projection;
+        List<ProductSummary> summaries;
+
+        tableManager.persist(new Product(1, "Chair", null, "A chair", 49.5));
+
+        projection = Projection.of(tableManager.getMetadataManager(), Product.class, ProductSummary.class);
+
+        for (int i = 0; i < 2; i++) {
+            summaries = tableManager.createSelectQueryBuilder()
+                    .from(Product.class)
+                    .project(projection);
+
+            assertEquals(List.of(new ProductSummary(1, "Chair", 49.5)), summaries);
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        dropTable("product");
+    }
+}
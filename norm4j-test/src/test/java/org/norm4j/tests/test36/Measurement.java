@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test36;
+
+import java.util.Date;
+
+import org.norm4j.Column;
+import org.norm4j.EnumType;
+import org.norm4j.Enumerated;
+import org.norm4j.Id;
+import org.norm4j.Table;
+import org.norm4j.Temporal;
+import org.norm4j.TemporalType;
+
+@Table(name = "measurement")
+public class Measurement {
+    @Id
+    private int id;
+
+    @Column(nullable = false)
+    private String station;
+
+    private Double value;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "measured_at", nullable = false)
+    private Date measuredAt;
+
+    @Enumerated(EnumType.STRING)
+    private MeasurementStatus status;
+
+    public Measurement() {
+    }
+
+    public Measurement(int id, String station, Double value, Date measuredAt, MeasurementStatus status) {
+        this.id = id;
+        this.station = station;
+        this.value = value;
+        this.measuredAt = measuredAt;
+        this.status = status;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public String getStation() {
+        return station;
+    }
+
+    public void setStation(String station) {
+        this.station = station;
+    }
+
+    public Double getValue() {
+        return value;
+    }
+
+    public void setValue(Double value) {
+        this.value = value;
+    }
+
+    public Date getMeasuredAt() {
+        return measuredAt;
+    }
+
+    public void setMeasuredAt(Date measuredAt) {
+        this.measuredAt = measuredAt;
+    }
+
+    public MeasurementStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(MeasurementStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 April Software
+ * 
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.norm4j.tests.test36;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.norm4j.SpillableResultList;
+import org.norm4j.TableManager;
+import org.norm4j.metadata.MetadataManager;
+import org.norm4j.tests.BaseTest;
+
+public class Test36 extends BaseTest {
+    private TableManager tableManager;
+
+    public Test36() {
+    }
+
+    @BeforeEach
+    public void setup() {
+        MetadataManager metadataManager;
+
+        dropTable("measurement");
+
+        metadataManager = new MetadataManager();
+
+        metadataManager.registerTable(Measurement.class);
+
+        metadataManager.createTables(getDataSource());
+
+        tableManager = new TableManager(getDataSource(), metadataManager);
+    }
+
+    @Test
+    public void test36() {
+        List<Measurement> measurements;
+        Measurement measurement;
+        long sum;
+
+        measurements = new ArrayList<>();
+
+        for (int i = 1; i <= 2000; i++) {
+            measurements.add(new Measurement(i,
+                    "Station " + (i % 10),
+                    i % 4 == 0 ? null : i * 1.5,
+                    new Date(1700000000000L + i * 1000L),
+                    i % 3 == 0 ? MeasurementStatus.Final : MeasurementStatus.Draft));
+        }
+
+        tableManager.persistAll(measurements);
+
+        try (SpillableResultList rows = tableManager.createSelectQueryBuilder()
+                .select(Measurement.class)
+                .select("1")
+                .from(Measurement.class)
+                .orderBy(Measurement::getId)
+                .getSpillableResultList(16 * 1024, Measurement.class)) {
+            assertTrue(rows.isSpilled());
+            assertEquals(2000, rows.size());
+            assertTrue(rows.getMemoryRowCount() < 2000);
+
+            measurement = (Measurement) rows.get(1499)[0];
+
+            assertEquals(1500, measurement.getId());
+            assertEquals("Station 0", measurement.getStation());
+            assertNull(measurement.getValue());
+            assertEquals(MeasurementStatus.Final, measurement.getStatus());
+            assertEquals(MeasurementStatus.Draft, ((Measurement) rows.get(1998)[0]).getStatus());
+
+            measurement = (Measurement) rows.get(2)[0];
+
+            assertEquals(4.5, measurement.getValue());
+            assertEquals(1, ((Number) rows.get(1999)[1]).intValue());
+
+            sum = 0;
+
+            for (Object[] row : rows) {
+                sum += ((Measurement) row[0]).getId();
+            }
+
+            assertEquals(2000L * 2001L / 2, sum);
+        }
+
+        try (SpillableResultList rows = tableManager.createQuery("select id, station from measurement where id <= 10")
+                .getSpillableResultList(1024 * 1024)) {
+            assertEquals(10, rows.size());
+            assertEquals(false, rows.isSpilled());
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        dropTable("measurement");
+    }
+}